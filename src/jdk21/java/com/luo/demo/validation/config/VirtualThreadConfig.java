@@ -0,0 +1,44 @@
+package com.luo.demo.validation.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 虚拟线程配置（JDK 21+，-P jdk21构建）
+ * <p>
+ * 启用spring.threads.virtual.enabled后，Tomcat为每个请求创建一个虚拟线程（替代server.tomcat.threads.max大小的平台线程池），
+ * 处理器中的阻塞IO仅挂起虚拟线程而不占用平台线程，并发请求数不再受线程池大小限制；
+ * 属性名与Spring Boot 3.2+一致，升级后可直接由框架接管。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    /**
+     * 每个任务一个虚拟线程的执行器（容器关闭时shutdown）
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService tomcatVirtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("tomcat-virtual-", 0).factory());
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService tomcatVirtualThreadExecutor) {
+        log.info("tomcat request execution on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(tomcatVirtualThreadExecutor);
+    }
+}
@@ -0,0 +1,32 @@
+package com.luo.demo.validation.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.rate-limit.enable=false"
+})
+class VirtualThreadConfigTests {
+
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private ExecutorService tomcatVirtualThreadExecutor;
+
+    @Test
+    void tomcatExecutesRequestsOnVirtualThreads() throws Exception {
+        TomcatWebServer webServer = (TomcatWebServer) this.applicationContext.getWebServer();
+        assertSame(this.tomcatVirtualThreadExecutor, webServer.getTomcat().getConnector().getProtocolHandler().getExecutor());
+        assertTrue(this.tomcatVirtualThreadExecutor.submit(() -> Thread.currentThread().isVirtual()).get());
+    }
+}
@@ -0,0 +1,61 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.audit.AuditLog;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.enums.AuditOverflowPolicyEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - 请求线程记录请求参数的耗时：按toString()拼接日志消息与提交审计事件（后台线程序列化、脱敏、写文件）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditLogBenchmark {
+
+    @Param({"2", "20"})
+    private int orgCount;
+
+    private UserParam userParam;
+    private AuditLog auditLog;
+    private File auditFile;
+
+    @Setup
+    public void setup() throws Exception {
+        this.userParam = BenchmarkFixtures.validUserParam(this.orgCount);
+        this.auditFile = File.createTempFile("audit-benchmark", ".log");
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        this.auditLog = new AuditLog(beanFactory.getBeanProvider(Jackson2ObjectMapperBuilder.class), beanFactory.getBeanProvider(MeterRegistry.class),
+                true, this.auditFile.getPath(), 8192, 256, AuditOverflowPolicyEnum.DROP, Duration.ofMillis(100), new String[]{"idNo", "phone"});
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.auditLog.destroy();
+        System.out.println("\naudit events - published: " + this.auditLog.getPublishedCount() + ", dropped: " + this.auditLog.getDroppedCount());
+        this.auditFile.delete();
+    }
+
+    @Benchmark
+    public String toStringMessage() {
+        return "add user, json param: ".concat(this.userParam.toString());
+    }
+
+    @Benchmark
+    public void auditRecord() {
+        this.auditLog.record("add user", this.userParam);
+    }
+}
@@ -0,0 +1,110 @@
+package com.luo.demo.validation.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.dto.OrgDto;
+import com.luo.demo.validation.domain.dto.UserDto;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.UserResult;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试 - 公共测试数据
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 与application.properties中spring.jackson.*配置一致的ObjectMapper
+     */
+    public static ObjectMapper objectMapper() {
+        return objectMapper(new JsonFactory());
+    }
+
+    /**
+     * 与application.properties中spring.jackson.*配置一致的ObjectMapper（指定JSON/CBOR/Smile格式）
+     */
+    public static ObjectMapper objectMapper(JsonFactory jsonFactory) {
+        return objectMapper(jsonFactory, new Module[0]);
+    }
+
+    /**
+     * 与application.properties中spring.jackson.*配置一致的ObjectMapper（指定格式及额外模块，如spring.jackson.accelerator对应的模块）
+     */
+    public static ObjectMapper objectMapper(JsonFactory jsonFactory, Module... modules) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(jsonFactory)
+                .modulesToInstall(modules)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .dateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"))
+                .build();
+    }
+
+    public static Validator validator() {
+        return Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    public static UserParam validUserParam(int orgCount) {
+        UserParam userParam = new UserParam();
+        fillValidUser(userParam, orgCount);
+        return userParam;
+    }
+
+    public static UserParam invalidUserParam(int orgCount) {
+        UserParam userParam = validUserParam(orgCount);
+        userParam.setName("");
+        userParam.setSex(3);
+        userParam.setPhone("1888888888a");
+        userParam.setIdNo("110105194912310021");
+        userParam.setBirthDateStr("2000-13-01");
+        OrgDto invalidOrg = userParam.getOrgs().get(orgCount - 1);
+        invalidOrg.setOrgId(-1L);
+        invalidOrg.setOrgName("");
+        return userParam;
+    }
+
+    public static UserResult userResult(int orgCount) {
+        UserResult userResult = new UserResult();
+        fillValidUser(userResult, orgCount);
+        return userResult;
+    }
+
+    public static List<OrgDto> orgs(int orgCount) {
+        List<OrgDto> orgs = new ArrayList<>(orgCount);
+        for (long orgId = 1; orgId <= orgCount; orgId++) {
+            OrgDto orgDto = new OrgDto();
+            orgDto.setOrgId(orgId);
+            orgDto.setOrgName("Org-".concat(String.valueOf(orgId)));
+            orgs.add(orgDto);
+        }
+        return orgs;
+    }
+
+    private static void fillValidUser(UserDto userDto, int orgCount) {
+        userDto.setId(1L);
+        userDto.setName("Tom-1");
+        userDto.setSex(1);
+        userDto.setPhone("18888888888");
+        userDto.setMail("tom@meixing.com");
+        userDto.setIdNo("11010519491231002X");
+        userDto.setBirthDateStr("2000-01-01");
+        userDto.setBirthLocalDate(LocalDate.of(2000, 1, 1));
+        userDto.setRegisterLocalDatetime(LocalDateTime.of(2020, 9, 4, 12, 10, 22));
+        userDto.setOrgs(orgs(orgCount));
+    }
+}
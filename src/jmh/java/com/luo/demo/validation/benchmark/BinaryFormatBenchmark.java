@@ -0,0 +1,70 @@
+package com.luo.demo.validation.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.UserResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - JSON/CBOR/Smile格式的请求体（UserParam）解析及响应体（CommonResult&lt;UserResult&gt;）序列化
+ * <p>
+ * 各格式的请求体、响应体字节数在Setup时输出。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"2", "100"})
+    private int orgCount;
+
+    private ObjectMapper objectMapper;
+    private byte[] userParamBytes;
+    private CommonResult<UserResult> commonResult;
+
+    @Setup
+    public void setup() throws IOException {
+        this.objectMapper = BenchmarkFixtures.objectMapper(jsonFactory(this.format));
+        this.userParamBytes = this.objectMapper.writeValueAsBytes(BenchmarkFixtures.validUserParam(this.orgCount));
+        this.commonResult = CommonResult.successData(BenchmarkFixtures.userResult(this.orgCount));
+        System.out.printf("%n%s orgCount=%d - request %d bytes, response %d bytes%n", this.format, this.orgCount,
+                this.userParamBytes.length, this.objectMapper.writeValueAsBytes(this.commonResult).length);
+    }
+
+    @Benchmark
+    public UserParam readUserParam() throws IOException {
+        return this.objectMapper.readValue(this.userParamBytes, UserParam.class);
+    }
+
+    @Benchmark
+    public byte[] writeUserResult() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.commonResult);
+    }
+
+    private static JsonFactory jsonFactory(String format) {
+        switch (format) {
+            case "cbor":
+                return new CBORFactory();
+            case "smile":
+                return new SmileFactory();
+            default:
+                return new JsonFactory();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.DemoValidationApplication;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.UserResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 压测 - 阻塞处理器下平台线程池与虚拟线程的对比
+ * <p>
+ * 在进程内启动应用，并注册一个经过相同验证层（@Validated @RequestBody UserParam）后阻塞latency（模拟JDBC等阻塞IO）的接口，
+ * 再以{@link LoadGenerator}压测该接口；其余参数（clients、seconds、warmup等）透传给LoadGenerator。
+ * <pre>
+ * mvn -P jdk21,demo-validation-benchmarks test-compile &amp;&amp; java -cp target/test-classes:target/classes:... \
+ *   com.luo.demo.validation.benchmark.BlockingHandlerLoadBenchmark virtual=true latency=50ms body=/tmp/valid.json clients=1000
+ * </pre>
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class BlockingHandlerLoadBenchmark {
+
+    private BlockingHandlerLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String virtual = "false";
+        String latency = "50ms";
+        for (String arg : args) {
+            if (arg.startsWith("virtual=")) {
+                virtual = arg.substring("virtual=".length());
+            } else if (arg.startsWith("latency=")) {
+                latency = arg.substring("latency=".length());
+            }
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoValidationApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--logging.level.root=warn",
+                        "--benchmark.blocking.enable=true",
+                        "--benchmark.blocking.latency=" + latency);
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String[] loadArgs = Arrays.copyOf(new String[]{"url=http://localhost:" + port + "/benchmark/user/add"}, args.length + 1);
+            System.arraycopy(args, 0, loadArgs, 1, args.length);
+            System.out.printf("virtual=%s latency=%s%n", virtual, latency);
+            LoadGenerator.main(loadArgs);
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 验证通过后阻塞指定时长的接口
+     */
+    @RestController
+    @ConditionalOnProperty(name = "benchmark.blocking.enable", havingValue = "true")
+    public static class BlockingUserController {
+
+        @Value("${benchmark.blocking.latency:50ms}")
+        private Duration latency;
+
+        @PostMapping("/benchmark/user/add")
+        public CommonResult<UserResult> addUser(@Validated @RequestBody UserParam userParam) throws InterruptedException {
+            Thread.sleep(this.latency.toMillis());
+            return CommonResult.success();
+        }
+    }
+}
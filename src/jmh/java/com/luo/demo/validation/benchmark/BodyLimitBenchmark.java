@@ -0,0 +1,63 @@
+package com.luo.demo.validation.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.json.JsonLimitExceededException;
+import com.luo.demo.validation.json.JsonLimits;
+import com.luo.demo.validation.json.LimitedInputStream;
+import com.luo.demo.validation.json.LimitedJsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - @RequestBody UserParam反序列化：无限制（完整绑定后再由@Valid验证）与请求体限制（16KB、数组100个元素）
+ * <p>
+ * orgCount=100000时限制在读取第101个org处即停止解析，不再读取剩余请求体及创建对象
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BodyLimitBenchmark {
+
+    @Param({"2", "100000"})
+    private int orgCount;
+
+    private ObjectReader objectReader;
+    private JsonLimits limits;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        this.objectReader = objectMapper.readerFor(UserParam.class);
+        this.limits = new JsonLimits(16 * 1024, 32, 100, null, "userParam");
+        this.json = objectMapper.writeValueAsBytes(BenchmarkFixtures.validUserParam(this.orgCount));
+    }
+
+    @Benchmark
+    public Object unlimited() throws IOException {
+        return this.objectReader.readValue(new ByteArrayInputStream(this.json));
+    }
+
+    @Benchmark
+    public Object limited() throws IOException {
+        InputStream body = new LimitedInputStream(new ByteArrayInputStream(this.json), this.limits.getMaxBytes(), this.limits.getRootName());
+        try (JsonParser parser = new LimitedJsonParser(this.objectReader.createParser(body), this.limits)) {
+            return this.objectReader.readValue(parser);
+        } catch (JsonLimitExceededException ex) {
+            return ex;
+        }
+    }
+}
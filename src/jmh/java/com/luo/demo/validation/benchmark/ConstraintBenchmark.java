@@ -0,0 +1,101 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.constraints.DateFormat;
+import com.luo.demo.validation.constraints.DateTimeFormat;
+import com.luo.demo.validation.constraints.IdNo;
+import com.luo.demo.validation.constraints.PhoneNo;
+import org.openjdk.jmh.annotations.*;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - 单个自定义constraint（@PhoneNo, @IdNo, @DateFormat, @DateTimeFormat）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstraintBenchmark {
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    private Validator validator;
+    private PhoneNoHolder phoneNoHolder;
+    private IdNoHolder idNoHolder;
+    private DateFormatHolder dateFormatHolder;
+    private DateTimeFormatHolder dateTimeFormatHolder;
+
+    @Setup
+    public void setup() {
+        this.validator = BenchmarkFixtures.validator();
+        this.phoneNoHolder = new PhoneNoHolder(this.valid ? "18888888888" : "1888888888a");
+        this.idNoHolder = new IdNoHolder(this.valid ? "11010519491231002X" : "110105194912310021");
+        this.dateFormatHolder = new DateFormatHolder(this.valid ? "2000-01-01" : "2000-13-01");
+        this.dateTimeFormatHolder = new DateTimeFormatHolder(this.valid ? "2020-09-04 12:10:22" : "2020-09-04 12:60:22");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<PhoneNoHolder>> phoneNo() {
+        return this.validator.validate(this.phoneNoHolder);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<IdNoHolder>> idNo() {
+        return this.validator.validate(this.idNoHolder);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DateFormatHolder>> dateFormat() {
+        return this.validator.validate(this.dateFormatHolder);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<DateTimeFormatHolder>> dateTimeFormat() {
+        return this.validator.validate(this.dateTimeFormatHolder);
+    }
+
+    public static class PhoneNoHolder {
+        @PhoneNo
+        private final String value;
+
+        PhoneNoHolder(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class IdNoHolder {
+        @IdNo
+        private final String value;
+
+        IdNoHolder(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class DateFormatHolder {
+        @DateFormat
+        private final String value;
+
+        DateFormatHolder(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class DateTimeFormatHolder {
+        @DateTimeFormat
+        private final String value;
+
+        DateTimeFormatHolder(String value) {
+            this.value = value;
+        }
+    }
+}
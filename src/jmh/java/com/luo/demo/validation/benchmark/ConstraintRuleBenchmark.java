@@ -0,0 +1,54 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.constraints.PhoneNoValidator;
+import com.luo.demo.validation.rule.ConstraintRule;
+import com.luo.demo.validation.rule.ConstraintRules;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - 可重新加载的约束规则查找开销（对比直接使用已编译的Pattern）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstraintRuleBenchmark {
+
+    private static final java.util.regex.Pattern CN_PATTERN = java.util.regex.Pattern.compile("^1[3-9]\\d{9}$");
+
+    private static final String RULES = "phone-no:\n  default: '^\\d{8,11}$'\n  CN: '^1[3-9]\\d{9}$'\n";
+
+    private final String phoneNo = "18888888888";
+
+    private ConstraintRule cnPhoneNo;
+
+    @Setup
+    public void setup() {
+        ConstraintRules.update(ConstraintRules.parse(new ByteArrayInputStream(RULES.getBytes(StandardCharsets.UTF_8))));
+        this.cnPhoneNo = PhoneNoValidator.rule("CN");
+    }
+
+    @TearDown
+    public void tearDown() {
+        ConstraintRules.update(null);
+    }
+
+    @Benchmark
+    public boolean compiledPattern() {
+        return CN_PATTERN.matcher(this.phoneNo).matches();
+    }
+
+    @Benchmark
+    public boolean ruleLookup() {
+        return this.cnPhoneNo.matches(this.phoneNo);
+    }
+}
@@ -0,0 +1,85 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.constraints.IdNo;
+import com.luo.demo.validation.constraints.IdNoValidator;
+import org.openjdk.jmh.annotations.*;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.Pattern;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - @IdNo手写校验 vs 原@Pattern正则校验
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdNoBenchmark {
+
+    /**
+     * 原@IdNo默认正则
+     */
+    private static final String LEGACY_REGEXP = "^[1-9]\\d{5}(18|19|20|(3\\d))\\d{2}((0[1-9])|(1[0-2]))(([0-2][1-9])|10|20|30|31)\\d{3}[0-9Xx]$";
+
+    private static final java.util.regex.Pattern LEGACY_PATTERN = java.util.regex.Pattern.compile(LEGACY_REGEXP);
+
+    @Param({"11010519491231002X", "110105194913310026"})
+    private String idNo;
+
+    private Validator validator;
+    private RegexIdNoHolder regexIdNoHolder;
+    private IdNoHolder idNoHolder;
+
+    @Setup
+    public void setup() {
+        this.validator = BenchmarkFixtures.validator();
+        this.regexIdNoHolder = new RegexIdNoHolder(this.idNo);
+        this.idNoHolder = new IdNoHolder(this.idNo);
+    }
+
+    @Benchmark
+    public boolean regexMatch() {
+        return LEGACY_PATTERN.matcher(this.idNo).matches();
+    }
+
+    @Benchmark
+    public boolean idNoCheck() {
+        return IdNoValidator.isValidIdNo(this.idNo);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegexIdNoHolder>> regexConstraint() {
+        return this.validator.validate(this.regexIdNoHolder);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<IdNoHolder>> idNoConstraint() {
+        return this.validator.validate(this.idNoHolder);
+    }
+
+    public static class RegexIdNoHolder {
+        @Pattern(regexp = LEGACY_REGEXP)
+        private final String value;
+
+        RegexIdNoHolder(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class IdNoHolder {
+        @IdNo
+        private final String value;
+
+        IdNoHolder(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.luo.demo.validation.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.UserResult;
+import com.luo.demo.validation.json.FixedLayoutDateTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - spring.jackson.accelerator（none、afterburner、blackbird）下的请求体绑定+验证及响应体序列化
+ * <p>
+ * 经由MappingJackson2HttpMessageConverter读取UserParam并验证（与@RequestBody @Validated一致），
+ * 及写出CommonResult&lt;UserResult&gt;。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonAcceleratorBenchmark {
+
+    @Param({"none", "afterburner", "blackbird"})
+    private String accelerator;
+
+    @Param({"2", "100"})
+    private int orgCount;
+
+    private MappingJackson2HttpMessageConverter converter;
+    private Validator validator;
+    private byte[] userParamBytes;
+    private CommonResult<UserResult> commonResult;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper(new JsonFactory(), modules(this.accelerator));
+        this.converter = new MappingJackson2HttpMessageConverter(objectMapper);
+        this.validator = BenchmarkFixtures.validator();
+        this.userParamBytes = objectMapper.writeValueAsBytes(BenchmarkFixtures.validUserParam(this.orgCount));
+        this.commonResult = CommonResult.successData(BenchmarkFixtures.userResult(this.orgCount));
+    }
+
+    @Benchmark
+    public UserParam bindUserParam() throws IOException {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(this.userParamBytes);
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return (UserParam) this.converter.read(UserParam.class, inputMessage);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserParam>> bindAndValidate() throws IOException {
+        return this.validator.validate(this.bindUserParam());
+    }
+
+    @Benchmark
+    public byte[] writeUserResult() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        this.converter.write(this.commonResult, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    /**
+     * 与JacksonConfig一致的模块
+     */
+    private static Module[] modules(String accelerator) {
+        switch (accelerator) {
+            case "afterburner":
+                return new Module[]{new FixedLayoutDateTimeModule(), new AfterburnerModule()};
+            case "blackbird":
+                return new Module[]{new FixedLayoutDateTimeModule(), new BlackbirdModule()};
+            default:
+                return new Module[0];
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.luo.demo.validation.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 压测 - 闭环HTTP负载生成（无三方依赖，用于对比MVC与WebFlux变体）
+ * <p>
+ * clients个线程循环发送相同请求（上一请求完成后立即发送下一请求），统计吞吐量及延迟分位数；
+ * 另可启动slowClients个慢上传线程：以chunked方式分slowChunks段发送请求体，每段间隔slowChunkDelayMs，
+ * 模拟慢速移动端上传（MVC下每个慢请求占用一个Tomcat工作线程，WebFlux下不占用事件循环线程）。
+ * <pre>
+ * mvn -P demo-validation-benchmarks test-compile && java -cp target/test-classes com.luo.demo.validation.benchmark.LoadGenerator \
+ *   url=http://localhost:8080/user/add body=/tmp/valid.json clients=32 seconds=20 warmup=5
+ *   [contentType=application/json] [slowClients=0] [slowChunks=10] [slowChunkDelayMs=500]
+ * </pre>
+ * 所有客户端线程来自同一IP，压测/user/*接口时应以--spring.rate-limit.enable=false启动应用（否则超出速率的请求返回429，计为errors）。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class LoadGenerator {
+
+    private final URL url;
+    private final String contentType;
+    private final byte[] body;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+    private volatile boolean recording;
+
+    private LoadGenerator(URL url, String contentType, byte[] body) {
+        this.url = url;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = arg(args, "url", "http://localhost:8080/user/add");
+        String bodyFile = arg(args, "body", null);
+        String contentType = arg(args, "contentType", "application/json");
+        int clients = Integer.parseInt(arg(args, "clients", "32"));
+        int seconds = Integer.parseInt(arg(args, "seconds", "20"));
+        int warmup = Integer.parseInt(arg(args, "warmup", "5"));
+        int slowClients = Integer.parseInt(arg(args, "slowClients", "0"));
+        int slowChunks = Integer.parseInt(arg(args, "slowChunks", "10"));
+        long slowChunkDelayMs = Long.parseLong(arg(args, "slowChunkDelayMs", "500"));
+        byte[] body = null == bodyFile ? null : Files.readAllBytes(Paths.get(bodyFile));
+
+        LoadGenerator generator = new LoadGenerator(new URL(url), contentType, body);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < slowClients; i++) {
+            threads.add(generator.start("slow-" + i, () -> generator.slowLoop(slowChunks, slowChunkDelayMs)));
+        }
+        List<Recorder> recorders = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            threads.add(generator.start("client-" + i, () -> {
+                try {
+                    generator.closedLoop(recorder);
+                } finally {
+                    done.countDown();
+                }
+            }));
+        }
+
+        TimeUnit.SECONDS.sleep(warmup);
+        generator.recording = true;
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(seconds);
+        generator.recording = false;
+        long elapsedNanos = System.nanoTime() - start;
+        generator.running.set(false);
+        done.await(30, TimeUnit.SECONDS);
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+
+        generator.report(recorders, elapsedNanos, clients, slowClients);
+    }
+
+    private Thread start(String name, Runnable task) {
+        Thread thread = new Thread(task, "load-" + name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * 闭环请求：上一请求完成后立即发送下一请求
+     */
+    private void closedLoop(Recorder recorder) {
+        while (this.running.get()) {
+            long begin = System.nanoTime();
+            boolean ok;
+            try {
+                ok = this.send(0, 0L);
+            } catch (IOException ex) {
+                ok = false;
+            }
+            if (this.recording) {
+                recorder.record(System.nanoTime() - begin, ok);
+            }
+        }
+    }
+
+    /**
+     * 慢上传请求：请求体分段发送
+     */
+    private void slowLoop(int chunks, long chunkDelayMs) {
+        while (this.running.get()) {
+            try {
+                this.send(chunks, chunkDelayMs);
+            } catch (IOException ex) {
+                //ignore
+            }
+        }
+    }
+
+    /**
+     * 发送请求
+     *
+     * @param chunks       请求体分段数，0则一次性发送
+     * @param chunkDelayMs 分段间隔
+     * @return 是否HTTP 200
+     */
+    private boolean send(int chunks, long chunkDelayMs) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) this.url.openConnection();
+        connection.setConnectTimeout(5000);
+        connection.setReadTimeout(60000);
+        if (null == this.body) {
+            connection.setRequestMethod("GET");
+        } else {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", this.contentType);
+            if (0 < chunks) {
+                connection.setChunkedStreamingMode(Math.max(1, this.body.length / chunks));
+            } else {
+                connection.setFixedLengthStreamingMode(this.body.length);
+            }
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                if (0 < chunks) {
+                    int chunkSize = (this.body.length + chunks - 1) / chunks;
+                    for (int offset = 0; offset < this.body.length; offset += chunkSize) {
+                        outputStream.write(this.body, offset, Math.min(chunkSize, this.body.length - offset));
+                        outputStream.flush();
+                        sleep(chunkDelayMs);
+                    }
+                } else {
+                    outputStream.write(this.body);
+                }
+            }
+        }
+        int status = connection.getResponseCode();
+        //读完响应体以复用keep-alive连接
+        try (InputStream inputStream = 400 <= status ? connection.getErrorStream() : connection.getInputStream()) {
+            drain(inputStream);
+        }
+        return 200 == status;
+    }
+
+    private void report(List<Recorder> recorders, long elapsedNanos, int clients, int slowClients) {
+        int count = 0;
+        long errors = 0;
+        for (Recorder recorder : recorders) {
+            count += recorder.count;
+            errors += recorder.errors;
+        }
+        long[] latencies = new long[count];
+        int offset = 0;
+        for (Recorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, latencies, offset, recorder.count);
+            offset += recorder.count;
+        }
+        Arrays.sort(latencies);
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%s clients=%d slowClients=%d requests=%d errors=%d throughput=%.1f/s p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms%n",
+                this.url, clients, slowClients, count, errors, count / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                0 == count ? 0D : latencies[count - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (0 == sortedLatencies.length) {
+            return 0D;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+
+    private static void drain(InputStream inputStream) throws IOException {
+        if (null == inputStream) {
+            return;
+        }
+        byte[] buffer = new byte[4096];
+        while (-1 != inputStream.read(buffer)) {
+            //discard
+        }
+    }
+
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        }
+    }
+
+    private static String arg(String[] args, String name, String defaultValue) {
+        String prefix = name + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return arg.substring(prefix.length());
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * 单线程延迟记录（纳秒）
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1 << 16];
+        private int count;
+        private long errors;
+
+        void record(long latencyNanos, boolean ok) {
+            if (this.count == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.count << 1);
+            }
+            this.latencies[this.count++] = latencyNanos;
+            if (!ok) {
+                this.errors++;
+            }
+        }
+    }
+}
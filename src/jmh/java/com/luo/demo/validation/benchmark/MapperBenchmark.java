@@ -0,0 +1,61 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.domain.dto.UserDto;
+import com.luo.demo.validation.domain.mapper.UserMapper;
+import com.luo.demo.validation.domain.mapper.UserMapper_Impl;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.UserResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.BeanUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - 编译期生成的UserMapper与BeanUtils.copyProperties（反射、PropertyDescriptor查找）的单次复制耗时
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private UserMapper userMapper;
+    private UserDto userDto;
+    private UserParam userParam;
+
+    @Setup
+    public void setup() {
+        this.userMapper = new UserMapper_Impl();
+        this.userParam = BenchmarkFixtures.validUserParam(2);
+        this.userDto = this.userMapper.toUserDto(this.userParam);
+    }
+
+    @Benchmark
+    public UserResult toUserResultBeanUtils() {
+        UserResult userResult = new UserResult();
+        BeanUtils.copyProperties(this.userDto, userResult);
+        return userResult;
+    }
+
+    @Benchmark
+    public UserResult toUserResultMapper() {
+        return this.userMapper.toUserResult(this.userDto);
+    }
+
+    @Benchmark
+    public UserDto toUserDtoBeanUtils() {
+        UserDto userDto = new UserDto();
+        BeanUtils.copyProperties(this.userParam, userDto);
+        return userDto;
+    }
+
+    @Benchmark
+    public UserDto toUserDtoMapper() {
+        return this.userMapper.toUserDto(this.userParam);
+    }
+}
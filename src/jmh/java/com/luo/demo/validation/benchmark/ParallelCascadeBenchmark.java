@@ -0,0 +1,59 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.plan.ParallelCascade;
+import com.luo.demo.validation.plan.ValidationPlans;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - 大集合级联验证顺序/并行检查（用于确定spring.validation.parallel.threshold、chunk-size）
+ * <p>
+ * 运行：mvn -P demo-validation-benchmarks verify -DskipTests -Djmh.includes=ParallelCascadeBenchmark
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelCascadeBenchmark {
+
+    @Param({"100", "1000", "5000", "20000", "100000"})
+    private int orgCount;
+
+    @Param({"512"})
+    private int chunkSize;
+
+    private ValidationPlans sequentialPlans;
+    private ValidationPlans parallelPlans;
+    private ParallelCascade parallelCascade;
+    private UserParam validUserParam;
+
+    @Setup
+    public void setup() {
+        this.sequentialPlans = ValidationPlans.load(ParallelCascadeBenchmark.class.getClassLoader());
+        this.parallelCascade = new ParallelCascade(0, 1, this.chunkSize);
+        this.parallelPlans = this.sequentialPlans.withParallelCascade(this.parallelCascade);
+        this.validUserParam = BenchmarkFixtures.validUserParam(this.orgCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.parallelCascade.shutdown();
+    }
+
+    @Benchmark
+    public boolean sequential() {
+        return this.sequentialPlans.isValid(this.validUserParam);
+    }
+
+    @Benchmark
+    public boolean parallel() {
+        return this.parallelPlans.isValid(this.validUserParam);
+    }
+}
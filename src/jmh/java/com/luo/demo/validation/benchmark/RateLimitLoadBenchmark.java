@@ -0,0 +1,56 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.DemoValidationApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 压测 - 过载时限流及降载的效果
+ * <p>
+ * 在进程内启动应用（spring.rate-limit.enable=rateLimit），以{@link LoadGenerator}用相同客户端持续发送请求体（如不合法的UserParam）到/user/add；
+ * 启用时超出速率的请求在过滤器中直接返回429（LoadGenerator计为errors），不经过绑定、验证及异常处理。
+ * 以--开头的参数作为应用参数（如--spring.rate-limit.permits-per-second=1000），其余参数透传给LoadGenerator。
+ * <pre>
+ * mvn -P demo-validation-benchmarks test-compile &amp;&amp; java -cp target/test-classes:target/classes:... \
+ *   com.luo.demo.validation.benchmark.RateLimitLoadBenchmark rateLimit=true body=/tmp/invalid.json clients=64 seconds=10
+ * </pre>
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class RateLimitLoadBenchmark {
+
+    private RateLimitLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String rateLimit = "true";
+        List<String> appArgs = new ArrayList<>(Arrays.asList("--server.port=0", "--logging.level.root=warn", "--spring.audit.enable=false"));
+        List<String> loadArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("rateLimit=")) {
+                rateLimit = arg.substring("rateLimit=".length());
+            } else if (arg.startsWith("--")) {
+                appArgs.add(arg);
+            } else {
+                loadArgs.add(arg);
+            }
+        }
+        appArgs.add("--spring.rate-limit.enable=" + rateLimit);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoValidationApplication.class)
+                .run(appArgs.toArray(new String[0]));
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            loadArgs.add(0, "url=http://localhost:" + port + "/user/add");
+            System.out.printf("rateLimit=%s%n", rateLimit);
+            LoadGenerator.main(loadArgs.toArray(new String[0]));
+        } finally {
+            context.close();
+        }
+    }
+}
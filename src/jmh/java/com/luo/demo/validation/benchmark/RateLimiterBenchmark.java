@@ -0,0 +1,45 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.limit.StripedTokenBuckets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - 分段令牌桶单次判定耗时：单个客户端（同一分段CAS竞争）与多个客户端（分散到不同分段）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    private StripedTokenBuckets tokenBuckets;
+    private String[] clientKeys;
+
+    @Setup
+    public void setup() {
+        this.tokenBuckets = new StripedTokenBuckets(100, 200, 4096);
+        this.clientKeys = new String[1024];
+        for (int i = 0; i < this.clientKeys.length; i++) {
+            this.clientKeys[i] = "10.0." + (i >> 8) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public boolean singleClient() {
+        return this.tokenBuckets.tryAcquire(this.clientKeys[0]);
+    }
+
+    @Benchmark
+    public boolean manyClients() {
+        return this.tokenBuckets.tryAcquire(this.clientKeys[ThreadLocalRandom.current().nextInt(this.clientKeys.length)]);
+    }
+}
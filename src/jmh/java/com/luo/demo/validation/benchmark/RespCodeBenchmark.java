@@ -0,0 +1,80 @@
+package com.luo.demo.validation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.ConstantResult;
+import com.luo.demo.validation.enums.RespCodeEnum;
+import com.luo.demo.validation.enums.RespCodes;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 基准测试 - 响应码查找（按下标查找与遍历values()的Stream）及仅含响应码的返回结果写出（按响应码取常量的缓存字节与序列化）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RespCodeBenchmark {
+
+    @Param({"101", "200"})
+    private Integer respCode;
+
+    private ObjectMapper objectMapper;
+    private ByteArrayOutputStream outputStream;
+
+    /**
+     * 常量返回结果 -> JSON（同PreSerializedJsonHttpMessageConverter的缓存）
+     */
+    private Map<CommonResult<?>, byte[]> successJsons;
+
+    @Setup
+    public void setup() throws Exception {
+        this.objectMapper = BenchmarkFixtures.objectMapper();
+        this.outputStream = new ByteArrayOutputStream(64);
+        this.successJsons = new ConcurrentHashMap<>();
+        this.successJsons.put(ConstantResult.SUCCESS, this.objectMapper.writeValueAsBytes(ConstantResult.SUCCESS));
+    }
+
+    @Benchmark
+    public RespCodeEnum lookupStream() {
+        return Stream.of(RespCodeEnum.values())
+                .filter(respCodeEnum -> respCodeEnum.getCode().equals(this.respCode))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Benchmark
+    public RespCodeEnum lookupEnumTable() {
+        return RespCodeEnum.valueOf(this.respCode);
+    }
+
+    @Benchmark
+    public Object lookupRegistry() {
+        return RespCodes.valueOf(this.respCode);
+    }
+
+    @Benchmark
+    public int writeSuccessSerialized() throws Exception {
+        this.outputStream.reset();
+        this.objectMapper.writeValue(this.outputStream, CommonResult.success());
+        return this.outputStream.size();
+    }
+
+    @Benchmark
+    public int writeSuccessPreSerialized() throws Exception {
+        this.outputStream.reset();
+        this.outputStream.write(this.successJsons.get(ConstantResult.of(CommonResult.success().getRespCode())));
+        return this.outputStream.size();
+    }
+}
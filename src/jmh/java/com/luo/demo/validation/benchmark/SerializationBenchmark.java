@@ -0,0 +1,41 @@
+package com.luo.demo.validation.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.UserResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - CommonResult&lt;UserResult&gt;完整JSON序列化
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"2", "100"})
+    private int orgCount;
+
+    private ObjectMapper objectMapper;
+    private CommonResult<UserResult> commonResult;
+
+    @Setup
+    public void setup() {
+        this.objectMapper = BenchmarkFixtures.objectMapper();
+        this.commonResult = CommonResult.successData(BenchmarkFixtures.userResult(this.orgCount));
+    }
+
+    @Benchmark
+    public byte[] serializeUserResult() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.commonResult);
+    }
+}
@@ -0,0 +1,60 @@
+package com.luo.demo.validation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.mapper.UserMapper_Impl;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.PreSerializedResult;
+import com.luo.demo.validation.domain.result.UserResult;
+import com.luo.demo.validation.service.UserQueryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - /user/detail单次响应体生成耗时：无缓存（构建 + 映射 + 序列化）与读穿透缓存（命中后直接取预序列化字节）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDetailCacheBenchmark {
+
+    private ObjectMapper objectMapper;
+    private UserQueryService uncachedService;
+    private UserQueryService cachedService;
+
+    @Setup
+    public void setup() {
+        this.objectMapper = BenchmarkFixtures.objectMapper();
+        this.uncachedService = this.userQueryService(false);
+        this.cachedService = this.userQueryService(true);
+    }
+
+    @Benchmark
+    public byte[] uncached() throws Exception {
+        return this.objectMapper.writeValueAsBytes(this.uncachedService.getUserDetail(1L));
+    }
+
+    @Benchmark
+    public byte[] cached() throws Exception {
+        CommonResult<UserResult> result = this.cachedService.getUserDetail(1L);
+        if (result instanceof PreSerializedResult) {
+            return ((PreSerializedResult<UserResult>) result).getJson();
+        }
+        return this.objectMapper.writeValueAsBytes(result);
+    }
+
+    private UserQueryService userQueryService(boolean cacheEnabled) {
+        return new UserQueryService(new UserMapper_Impl(), this.objectMapper,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                cacheEnabled, 10000, Duration.ofMinutes(1));
+    }
+}
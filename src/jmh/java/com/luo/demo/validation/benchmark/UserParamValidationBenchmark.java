@@ -0,0 +1,66 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.domain.groups.Groups;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.plan.ValidationPlans;
+import org.openjdk.jmh.annotations.*;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - UserParam整体验证（含@Valid List&lt;OrgDto&gt;）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserParamValidationBenchmark {
+
+    @Param({"2", "100"})
+    private int orgCount;
+
+    private Validator validator;
+    private ValidationPlans validationPlans;
+    private UserParam validUserParam;
+    private UserParam invalidUserParam;
+
+    @Setup
+    public void setup() {
+        this.validator = BenchmarkFixtures.validator();
+        this.validationPlans = ValidationPlans.load(UserParamValidationBenchmark.class.getClassLoader());
+        this.validUserParam = BenchmarkFixtures.validUserParam(this.orgCount);
+        this.invalidUserParam = BenchmarkFixtures.invalidUserParam(this.orgCount);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserParam>> validUserParam() {
+        return this.validator.validate(this.validUserParam);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserParam>> invalidUserParam() {
+        return this.validator.validate(this.invalidUserParam);
+    }
+
+    /**
+     * 编译期生成的验证计划（无反射）
+     */
+    @Benchmark
+    public boolean validUserParamPlan() {
+        return this.validationPlans.isValid(this.validUserParam);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserParam>> validUserParamUpdateGroup() {
+        return this.validator.validate(this.validUserParam, Groups.Update.class, Default.class);
+    }
+}
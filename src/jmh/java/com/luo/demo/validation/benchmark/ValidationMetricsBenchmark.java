@@ -0,0 +1,58 @@
+package com.luo.demo.validation.benchmark;
+
+import com.luo.demo.validation.domain.groups.Groups;
+import com.luo.demo.validation.metrics.ValidationMetrics;
+import com.luo.demo.validation.web.ValidationCacheAdvice;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.validation.FieldError;
+
+import javax.validation.groups.Default;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - 指标记录开销（验证耗时Timer、违反约束Counter、响应码Counter）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationMetricsBenchmark {
+
+    private static final Class<?>[] UPDATE_GROUPS = {Groups.Update.class, Default.class};
+
+    private ValidationMetrics validationMetrics;
+    private List<FieldError> fieldErrors;
+
+    @Setup
+    public void setup() {
+        this.validationMetrics = new ValidationMetrics(new SimpleMeterRegistry(),
+                new StaticListableBeanFactory().getBeanProvider(ValidationCacheAdvice.class));
+        this.fieldErrors = Arrays.asList(
+                new FieldError("userParam", "phone", "abc", false, new String[]{"PhoneNo"}, null, "电话号码格式不正确"),
+                new FieldError("userParam", "orgs[1].orgId", 0L, false, new String[]{"Positive"}, null, "must be greater than 0"));
+    }
+
+    @Benchmark
+    public void recordValidation() {
+        this.validationMetrics.onValidated(this, UPDATE_GROUPS, 1000L, true);
+    }
+
+    @Benchmark
+    public void countFieldErrors() {
+        this.validationMetrics.countFieldErrors(this.fieldErrors);
+    }
+
+    @Benchmark
+    public void countRespCode() {
+        this.validationMetrics.countRespCode(101);
+    }
+}
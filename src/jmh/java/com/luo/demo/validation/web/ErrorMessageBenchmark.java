@@ -0,0 +1,54 @@
+package com.luo.demo.validation.web;
+
+import com.luo.demo.validation.benchmark.BenchmarkFixtures;
+import com.luo.demo.validation.domain.param.UserParam;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试 - ValidationMsgConverter错误提示信息格式化
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorMessageBenchmark {
+
+    private ValidationMsgConverter validationMsgConverter;
+    private List<FieldError> fieldErrors;
+    private ConstraintViolationException constraintViolationException;
+
+    @Setup
+    public void setup() {
+        this.validationMsgConverter = new ValidationMsgConverter(Boolean.TRUE);
+
+        Validator validator = BenchmarkFixtures.validator();
+        UserParam invalidUserParam = BenchmarkFixtures.invalidUserParam(2);
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(invalidUserParam, "userParam");
+        new SpringValidatorAdapter(validator).validate(invalidUserParam, bindingResult);
+        this.fieldErrors = bindingResult.getFieldErrors();
+        this.constraintViolationException = new ConstraintViolationException(validator.validate(invalidUserParam));
+    }
+
+    @Benchmark
+    public String convertFiledErrors() {
+        return this.validationMsgConverter.convertFiledErrors(this.fieldErrors);
+    }
+
+    @Benchmark
+    public String convertConstraintViolations() {
+        return this.validationMsgConverter.convertConstraintViolations(this.constraintViolationException.getConstraintViolations());
+    }
+}
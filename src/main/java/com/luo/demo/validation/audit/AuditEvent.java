@@ -0,0 +1,46 @@
+package com.luo.demo.validation.audit;
+
+/**
+ * 审计事件 - 仅保存时间、动作、路径及数据对象的引用，数据对象由后台写入线程序列化（延迟取值）
+ * <p>
+ * 故提交后不应再修改数据对象（如请求参数、返回结果）。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class AuditEvent {
+
+    private final long timestamp;
+    private final String action;
+    private final String path;
+    private final Object payload;
+
+    /**
+     * @param timestamp 时间（毫秒）
+     * @param action    动作，如"add user"
+     * @param path      请求路径，可为null
+     * @param payload   数据对象，可为null
+     */
+    public AuditEvent(long timestamp, String action, String path, Object payload) {
+        this.timestamp = timestamp;
+        this.action = action;
+        this.path = path;
+        this.payload = payload;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,87 @@
+package com.luo.demo.validation.audit;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * 审计日志文件写入 - 每个事件一行JSON（NDJSON）：{"time":"...","action":"...","path":"...","payload":{...}}
+ * <p>
+ * 事件先序列化到行缓冲区再写入文件缓冲区（单个事件序列化失败不影响其他行），由调用方按批刷新；非线程安全，仅由写入线程使用。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+class AuditFileWriter implements Closeable {
+
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter payloadWriter;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(1024);
+    private final OutputStream outputStream;
+
+    /**
+     * @param file         审计日志文件（追加写入，目录不存在时创建）
+     * @param objectMapper 序列化数据对象的ObjectMapper（含脱敏模块）
+     * @throws IOException 文件打开失败
+     */
+    AuditFileWriter(Path file, ObjectMapper objectMapper) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        this.outputStream = new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE),
+                FILE_BUFFER_SIZE);
+        this.jsonFactory = objectMapper.getFactory();
+        this.payloadWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 写入事件（至文件缓冲区）
+     *
+     * @param event 审计事件
+     * @throws IOException 序列化或写入失败
+     */
+    void write(AuditEvent event) throws IOException {
+        this.line.reset();
+        try (JsonGenerator generator = this.jsonFactory.createGenerator(this.line, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("time", Instant.ofEpochMilli(event.getTimestamp()).toString());
+            generator.writeStringField("action", event.getAction());
+            if (null != event.getPath()) {
+                generator.writeStringField("path", event.getPath());
+            }
+            if (null != event.getPayload()) {
+                generator.writeFieldName("payload");
+                this.payloadWriter.writeValue(generator, event.getPayload());
+            }
+            generator.writeEndObject();
+        }
+        this.line.write('\n');
+        this.line.writeTo(this.outputStream);
+    }
+
+    void flush() throws IOException {
+        this.outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.outputStream.close();
+    }
+}
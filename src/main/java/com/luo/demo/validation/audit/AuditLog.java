@@ -0,0 +1,229 @@
+package com.luo.demo.validation.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.enums.AuditOverflowPolicyEnum;
+import com.luo.demo.validation.metrics.AuditMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 请求审计日志（spring.audit.*） - 替代请求线程中按toString()拼接请求参数、返回结果的日志
+ * <p>
+ * 请求线程仅创建{@link AuditEvent}（保存数据对象引用）并写入有界无锁环形缓冲区{@link MpscRingBuffer}；
+ * 后台写入线程批量取出事件，序列化为JSON（敏感字段脱敏，见{@link SensitiveMaskingModule}）并按批追加到本地文件。
+ * 缓冲区已满时按spring.audit.overflow-policy丢弃或等待（见{@link AuditOverflowPolicyEnum}）。
+ * 指标：audit.events（result=published|dropped|written|failed）、audit.buffer.size
+ * <p>
+ * 默认不启用（spring.audit.enable=false），此时审计事件仅以DEBUG级别输出到日志（同样脱敏，在请求线程中序列化）。
+ * 启用时payload按引用异步序列化，调用方需保证记录后不再修改payload（可变对象请先复制）。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Component
+public class AuditLog implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    /**
+     * 缓冲区为空时写入线程的等待时长
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    /**
+     * BLOCK策略下等待缓冲区空位的重试间隔
+     */
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final boolean enabled;
+    private final MpscRingBuffer<AuditEvent> buffer;
+    private final int batchSize;
+    private final AuditOverflowPolicyEnum overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final AuditFileWriter fileWriter;
+    /**
+     * 未启用时输出DEBUG日志使用的ObjectMapper（敏感字段脱敏）
+     */
+    private final ObjectMapper debugObjectMapper;
+    private final Thread writerThread;
+    private volatile boolean running;
+
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    public AuditLog(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilderProvider,
+                    ObjectProvider<MeterRegistry> meterRegistryProvider,
+                    @Value("${spring.audit.enable:false}") Boolean enable,
+                    @Value("${spring.audit.file:logs/audit.log}") String file,
+                    @Value("${spring.audit.buffer-size:8192}") Integer bufferSize,
+                    @Value("${spring.audit.batch-size:256}") Integer batchSize,
+                    @Value("${spring.audit.overflow-policy:drop}") AuditOverflowPolicyEnum overflowPolicy,
+                    @Value("${spring.audit.block-timeout:100ms}") Duration blockTimeout,
+                    @Value("${spring.audit.masked-fields:idNo,phone}") String[] maskedFields) {
+        this.enabled = enable;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        ObjectMapper objectMapper = objectMapperBuilderProvider.getIfAvailable(Jackson2ObjectMapperBuilder::json).build();
+        objectMapper.registerModule(new SensitiveMaskingModule(Arrays.asList(maskedFields)));
+        if (!this.enabled) {
+            this.buffer = null;
+            this.fileWriter = null;
+            this.writerThread = null;
+            this.debugObjectMapper = objectMapper;
+            return;
+        }
+        this.debugObjectMapper = null;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        try {
+            this.fileWriter = new AuditFileWriter(Paths.get(file), objectMapper);
+        } catch (IOException ex) {
+            throw new IllegalStateException("failed to open audit file: " + file, ex);
+        }
+        meterRegistryProvider.ifAvailable(meterRegistry -> new AuditMetrics(this).bindTo(meterRegistry));
+        this.running = true;
+        this.writerThread = new Thread(this::writeLoop, "audit-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        log.info("audit log enabled, file: {}, buffer size: {}, overflow policy: {}, masked fields: {}",
+                file, this.buffer.capacity(), overflowPolicy, Arrays.toString(maskedFields));
+    }
+
+    /**
+     * 记录审计事件
+     *
+     * @param action  动作，如"add user"
+     * @param payload 数据对象（由写入线程异步序列化，记录后不可修改）
+     */
+    public void record(String action, Object payload) {
+        this.record(action, null, payload);
+    }
+
+    /**
+     * 记录审计事件
+     *
+     * @param action  动作，如"resp param invalid"
+     * @param path    请求路径
+     * @param payload 数据对象（由写入线程异步序列化，记录后不可修改）
+     */
+    public void record(String action, String path, Object payload) {
+        if (!this.enabled) {
+            if (log.isDebugEnabled()) {
+                log.debug("audit - action: {}, path: {}, payload: {}", action, path, this.toDebugJson(payload));
+            }
+            return;
+        }
+        AuditEvent event = new AuditEvent(System.currentTimeMillis(), action, path, payload);
+        if (this.buffer.offer(event) || (this.overflowPolicy == AuditOverflowPolicyEnum.BLOCK && this.offerBlocking(event))) {
+            this.publishedCount.increment();
+        } else {
+            this.droppedCount.increment();
+        }
+    }
+
+    private String toDebugJson(Object payload) {
+        try {
+            return this.debugObjectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            return "<" + ex.getOriginalMessage() + ">";
+        }
+    }
+
+    /**
+     * 等待缓冲区空位，超过block-timeout或已停止时返回false
+     */
+    private boolean offerBlocking(AuditEvent event) {
+        long deadline = System.nanoTime() + this.blockTimeoutNanos;
+        while (this.running && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (this.buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeLoop() {
+        while (this.running || this.buffer.size() > 0) {
+            int count = this.buffer.drain(this::write, this.batchSize);
+            if (count == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                this.fileWriter.flush();
+            } catch (IOException ex) {
+                log.warn("audit log - flush failed: {}", ex.getMessage());
+            }
+        }
+        try {
+            this.fileWriter.close();
+        } catch (IOException ex) {
+            log.warn("audit log - close failed: {}", ex.getMessage());
+        }
+    }
+
+    private void write(AuditEvent event) {
+        try {
+            this.fileWriter.write(event);
+            this.writtenCount.increment();
+        } catch (IOException | RuntimeException ex) {
+            this.failedCount.increment();
+            log.debug("audit log - write failed, action: {}", event.getAction(), ex);
+        }
+    }
+
+    /**
+     * 停止写入线程（写完缓冲区中剩余的事件后关闭文件）
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (!this.enabled) {
+            return;
+        }
+        this.running = false;
+        LockSupport.unpark(this.writerThread);
+        this.writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public long getPublishedCount() {
+        return this.publishedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return this.droppedCount.sum();
+    }
+
+    public long getWrittenCount() {
+        return this.writtenCount.sum();
+    }
+
+    public long getFailedCount() {
+        return this.failedCount.sum();
+    }
+
+    public int getBufferSize() {
+        return this.enabled ? this.buffer.size() : 0;
+    }
+}
@@ -0,0 +1,120 @@
+package com.luo.demo.validation.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 有界无锁环形缓冲区 - 多生产者、单消费者（MPSC）
+ * <p>
+ * 每个槽位带序号：生产者CAS递增写入位置后写入元素并发布序号，缓冲区已满时offer立即返回false（不阻塞）；
+ * 单个消费者按序号判断槽位是否已发布，取出后将序号推进一圈以释放槽位。容量为2的幂。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+
+    /**
+     * 槽位序号：等于写入位置时可写入，等于写入位置+1时可读取
+     */
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+
+    /**
+     * 读取位置（仅消费者线程写入）
+     */
+    private volatile long consumerIndex;
+
+    /**
+     * @param capacity 容量（向上取整为2的幂）
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.elements = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 写入元素（多线程安全）
+     *
+     * @param element 元素
+     * @return 是否写入，缓冲区已满时返回false
+     */
+    public boolean offer(E element) {
+        while (true) {
+            long index = this.producerIndex.get();
+            int slot = (int) index & this.mask;
+            long available = this.sequences.get(slot) - index;
+            if (available == 0) {
+                if (this.producerIndex.compareAndSet(index, index + 1)) {
+                    this.elements.lazySet(slot, element);
+                    this.sequences.lazySet(slot, index + 1);
+                    return true;
+                }
+            } else if (available < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 取出元素（仅限单个消费者线程）
+     *
+     * @return 元素，缓冲区为空（或下一槽位尚未发布）时返回null
+     */
+    public E poll() {
+        long index = this.consumerIndex;
+        int slot = (int) index & this.mask;
+        if (this.sequences.get(slot) != index + 1) {
+            return null;
+        }
+        E element = this.elements.get(slot);
+        this.elements.lazySet(slot, null);
+        this.sequences.lazySet(slot, index + this.capacity);
+        this.consumerIndex = index + 1;
+        return element;
+    }
+
+    /**
+     * 批量取出元素（仅限单个消费者线程）
+     *
+     * @param consumer 元素处理
+     * @param limit    最多取出的元素数
+     * @return 取出的元素数
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int count = 0;
+        E element;
+        while (count < limit && (element = this.poll()) != null) {
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return 当前元素数（并发写入时为近似值）
+     */
+    public int size() {
+        long size = this.producerIndex.get() - this.consumerIndex;
+        return (int) Math.max(0, Math.min(size, this.capacity));
+    }
+
+    public int capacity() {
+        return this.capacity;
+    }
+}
@@ -0,0 +1,81 @@
+package com.luo.demo.validation.audit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 敏感字段脱敏模块 - 按属性名（如idNo、phone，任意层级的Bean属性）替换为脱敏序列化器
+ * <p>
+ * 长度大于7时保留前3位及后4位（如188****8888），否则全部替换为*；模块仅用于审计日志的ObjectMapper，不影响接口响应，
+ * {@link #mask}亦用于验证错误结构化结果中被拒绝值提示（rejectedValue）的脱敏。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class SensitiveMaskingModule extends SimpleModule {
+
+    private static final char MASK = '*';
+    private static final int KEEP_HEAD = 3;
+    private static final int KEEP_TAIL = 4;
+
+    /**
+     * @param maskedFields 需脱敏的属性名
+     */
+    public SensitiveMaskingModule(Collection<String> maskedFields) {
+        super(SensitiveMaskingModule.class.getSimpleName());
+        Set<String> maskedFieldSet = new HashSet<>(maskedFields);
+        this.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+                for (BeanPropertyWriter beanProperty : beanProperties) {
+                    if (maskedFieldSet.contains(beanProperty.getName())) {
+                        beanProperty.assignSerializer(MaskingSerializer.INSTANCE);
+                    }
+                }
+                return beanProperties;
+            }
+        });
+    }
+
+    /**
+     * 脱敏
+     *
+     * @param value 原值
+     * @return 脱敏后的值
+     */
+    public static String mask(String value) {
+        int length = value.length();
+        char[] masked = new char[length];
+        boolean keepEnds = length > KEEP_HEAD + KEEP_TAIL;
+        for (int i = 0; i < length; i++) {
+            masked[i] = keepEnds && (i < KEEP_HEAD || i >= length - KEEP_TAIL) ? value.charAt(i) : MASK;
+        }
+        return new String(masked);
+    }
+
+    static class MaskingSerializer extends StdSerializer<Object> {
+
+        static final MaskingSerializer INSTANCE = new MaskingSerializer();
+
+        MaskingSerializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(mask(value.toString()));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.luo.demo.validation.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 有界缓存 - LRU淘汰 + 写入后过期（TTL），并记录命中/未命中/淘汰/过期次数
+ * <p>
+ * 读写均在同一把锁内完成（LinkedHashMap访问顺序），适用于值较小、临界区很短的场景
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    /**
+     * @param maxSize 最大缓存条数，超过后淘汰最近最少使用的条目
+     * @param ttl     写入后的有效时长
+     */
+    public BoundedCache(int maxSize, Duration ttl) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<K, Entry<V>>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (this.size() > BoundedCache.this.maxSize) {
+                    BoundedCache.this.evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 获取缓存值
+     *
+     * @param key 键
+     * @return 缓存值，不存在或已过期时返回null
+     */
+    public V get(K key) {
+        return this.get(key, true);
+    }
+
+    /**
+     * 获取缓存值，不计入命中/未命中次数（如未命中后的再次检查）
+     *
+     * @param key 键
+     * @return 缓存值，不存在或已过期时返回null
+     */
+    public V peek(K key) {
+        return this.get(key, false);
+    }
+
+    private V get(K key, boolean recordStats) {
+        long now = System.nanoTime();
+        synchronized (this.entries) {
+            Entry<V> entry = this.entries.get(key);
+            if (entry != null && now - entry.writeNanos >= this.ttlNanos) {
+                this.entries.remove(key);
+                this.expirationCount.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                if (recordStats) {
+                    this.missCount.increment();
+                }
+                return null;
+            }
+            if (recordStats) {
+                this.hitCount.increment();
+            }
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, System.nanoTime());
+        synchronized (this.entries) {
+            this.entries.put(key, entry);
+        }
+        this.putCount.increment();
+    }
+
+    public void remove(K key) {
+        synchronized (this.entries) {
+            this.entries.remove(key);
+        }
+    }
+
+    /**
+     * 清理已过期的条目（过期条目在访问时也会被清理）
+     *
+     * @return 清理的条目数
+     */
+    public int purgeExpired() {
+        long now = System.nanoTime();
+        int purged = 0;
+        synchronized (this.entries) {
+            Iterator<Entry<V>> iterator = this.entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().writeNanos >= this.ttlNanos) {
+                    iterator.remove();
+                    purged++;
+                }
+            }
+        }
+        this.expirationCount.add(purged);
+        return purged;
+    }
+
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    public long getPutCount() {
+        return this.putCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    public long getExpirationCount() {
+        return this.expirationCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache{" +
+                "size=" + size() +
+                ", maxSize=" + maxSize +
+                ", hitCount=" + getHitCount() +
+                ", missCount=" + getMissCount() +
+                ", putCount=" + getPutCount() +
+                ", evictionCount=" + getEvictionCount() +
+                ", expirationCount=" + getExpirationCount() +
+                '}';
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long writeNanos;
+
+        private Entry(V value, long writeNanos) {
+            this.value = value;
+            this.writeNanos = writeNanos;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.luo.demo.validation.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 读穿透缓存 - 在加载函数（如按ID查询）前加一层{@link BoundedCache}（LRU + TTL），并合并同一键的并发加载（single-flight）
+ * <p>
+ * 未命中时首个请求线程执行加载，同一键的其余并发请求等待并共享其结果（或异常），不再重复加载；
+ * 加载结果为null或加载异常时不缓存。
+ * 加载期间该键被{@link #invalidate(Object)}时，加载结果不再写入缓存（仅返回给已在等待的请求），之后的请求重新加载。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class ReadThroughCache<K, V> {
+
+    private final BoundedCache<K, V> cache;
+    private final Function<? super K, ? extends V> loader;
+
+    /**
+     * 加载中的键 -> 加载结果
+     */
+    private final ConcurrentMap<K, Loading<V>> loadings = new ConcurrentHashMap<>();
+
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * @param maxSize 最大缓存条数
+     * @param ttl     写入后的有效时长
+     * @param loader  加载函数
+     */
+    public ReadThroughCache(int maxSize, Duration ttl, Function<? super K, ? extends V> loader) {
+        this.cache = new BoundedCache<>(maxSize, ttl);
+        this.loader = loader;
+    }
+
+    /**
+     * 获取缓存值，未命中时加载（同一键仅由一个线程加载）
+     *
+     * @param key 键
+     * @return 缓存值或加载结果
+     */
+    public V get(K key) {
+        V value = this.cache.get(key);
+        if (value != null) {
+            return value;
+        }
+        Loading<V> loading = new Loading<>();
+        Loading<V> existingLoading = this.loadings.putIfAbsent(key, loading);
+        if (existingLoading != null) {
+            this.coalescedCount.increment();
+            return join(existingLoading);
+        }
+        try {
+            //上一次加载可能在本线程未命中后、putIfAbsent前完成并写入缓存
+            value = this.cache.peek(key);
+            if (value != null) {
+                loading.complete(value);
+                return value;
+            }
+            value = this.load(key, loading);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            loading.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.loadings.remove(key, loading);
+        }
+    }
+
+    private V load(K key, Loading<V> loading) {
+        long begin = System.nanoTime();
+        V value;
+        try {
+            value = this.loader.apply(key);
+        } catch (RuntimeException | Error ex) {
+            this.totalLoadNanos.add(System.nanoTime() - begin);
+            this.loadFailureCount.increment();
+            throw ex;
+        }
+        this.totalLoadNanos.add(System.nanoTime() - begin);
+        this.loadSuccessCount.increment();
+        if (value != null && !loading.invalidated) {
+            this.cache.put(key, value);
+            //写入与invalidate交错时（invalidate先标记后移除），移除可能已过期的加载结果
+            if (loading.invalidated) {
+                this.cache.remove(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 移除缓存值（如数据更新后），正在进行的加载结果不再写入缓存，之后的请求重新加载
+     *
+     * @param key 键
+     */
+    public void invalidate(K key) {
+        Loading<V> loading = this.loadings.remove(key);
+        if (loading != null) {
+            loading.invalidated = true;
+        }
+        this.cache.remove(key);
+    }
+
+    public BoundedCache<K, V> getCache() {
+        return this.cache;
+    }
+
+    public long getLoadSuccessCount() {
+        return this.loadSuccessCount.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return this.loadFailureCount.sum();
+    }
+
+    public long getTotalLoadNanos() {
+        return this.totalLoadNanos.sum();
+    }
+
+    /**
+     * @return 等待其他线程加载结果（未重复加载）的请求次数
+     */
+    public long getCoalescedCount() {
+        return this.coalescedCount.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * 加载结果，invalidated标记加载期间该键已被移除
+     */
+    private static class Loading<V> extends CompletableFuture<V> {
+        private volatile boolean invalidated;
+    }
+
+    @Override
+    public String toString() {
+        return "ReadThroughCache{" +
+                "cache=" + cache +
+                ", loadSuccessCount=" + getLoadSuccessCount() +
+                ", loadFailureCount=" + getLoadFailureCount() +
+                ", coalescedCount=" + getCoalescedCount() +
+                '}';
+    }
+}
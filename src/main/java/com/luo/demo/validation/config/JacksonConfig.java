@@ -0,0 +1,54 @@
+package com.luo.demo.validation.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.luo.demo.validation.json.FixedLayoutDateTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson加速配置 - spring.jackson.accelerator
+ * <ul>
+ *     <li>none：Jackson默认的反射属性访问（Method.invoke/Field.set）及jsr310日期（反）序列化</li>
+ *     <li>afterburner：运行时生成字节码访问器（直接调用getter/setter/构造器），兼容Java 8</li>
+ *     <li>blackbird：基于LambdaMetafactory生成访问器，适用于Java 11+（模块化限制下Afterburner无法注入类）</li>
+ * </ul>
+ * 启用加速（afterburner、blackbird）时同时注册{@link FixedLayoutDateTimeModule}，
+ * 按字符位置直接解析、格式化LocalDate（ISO或"yyyy-MM-dd"）及LocalDateTime（@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")）。
+ * 各模块Bean由JacksonAutoConfiguration注册到ObjectMapper（MVC、WebFlux、CBOR/Smile转换器共用）。
+ * 默认none（未配置时同none），部署时确认兼容后再按需开启afterburner或blackbird；
+ * GraalVM native image不支持运行时生成类，应保持none。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("'${spring.jackson.accelerator:none}' != 'none'")
+public class JacksonConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(JacksonConfig.class);
+
+    @Bean
+    public Module fixedLayoutDateTimeModule() {
+        return new FixedLayoutDateTimeModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.jackson.accelerator", havingValue = "afterburner")
+    public Module afterburnerModule() {
+        log.info("jackson accelerator: afterburner");
+        return new AfterburnerModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.jackson.accelerator", havingValue = "blackbird")
+    public Module blackbirdModule() {
+        log.info("jackson accelerator: blackbird");
+        return new BlackbirdModule();
+    }
+}
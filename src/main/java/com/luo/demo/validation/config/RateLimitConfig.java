@@ -0,0 +1,70 @@
+package com.luo.demo.validation.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.limit.ConcurrencyLimiter;
+import com.luo.demo.validation.limit.StripedTokenBuckets;
+import com.luo.demo.validation.metrics.RateLimitMetrics;
+import com.luo.demo.validation.web.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 限流及降载配置 - spring.rate-limit.*
+ * <ul>
+ *     <li>url-patterns：限流的请求路径（Servlet url-pattern）</li>
+ *     <li>permits-per-second、burst：每个客户端的令牌速率及桶容量</li>
+ *     <li>stripes：令牌桶分段数（哈希冲突的客户端共享同一个桶）</li>
+ *     <li>client-header：客户端标识请求头，为空则按客户端IP（部署在网关、负载均衡之后时必须配置，
+ *     否则所有请求的客户端IP均为代理地址，共享同一个令牌桶）</li>
+ *     <li>max-concurrency、max-queue-time：最大并发数及最长排队时长，排队超时即降载
+ *     （排队期间占用容器工作线程；排队时长不含请求在容器线程池队列中的等待时间）</li>
+ * </ul>
+ * 默认不启用（spring.rate-limit.enable=true时启用）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spring.rate-limit.enable", havingValue = "true")
+public class RateLimitConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitConfig.class);
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(ObjectMapper objectMapper,
+                                                                   ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                                                   @Value("${spring.rate-limit.url-patterns:/user/*}") String[] urlPatterns,
+                                                                   @Value("${spring.rate-limit.permits-per-second:100}") Double permitsPerSecond,
+                                                                   @Value("${spring.rate-limit.burst:200}") Integer burst,
+                                                                   @Value("${spring.rate-limit.stripes:4096}") Integer stripes,
+                                                                   @Value("${spring.rate-limit.client-header:}") String clientHeader,
+                                                                   @Value("${spring.rate-limit.max-concurrency:150}") Integer maxConcurrency,
+                                                                   @Value("${spring.rate-limit.max-queue-time:50ms}") Duration maxQueueTime) throws JsonProcessingException {
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(
+                new StripedTokenBuckets(permitsPerSecond, burst, stripes),
+                new ConcurrencyLimiter(maxConcurrency, maxQueueTime.toNanos()),
+                clientHeader,
+                objectMapper);
+        meterRegistryProvider.ifAvailable(meterRegistry -> new RateLimitMetrics(rateLimitFilter).bindTo(meterRegistry));
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.addUrlPatterns(urlPatterns);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        log.info("rate limit enabled, url patterns: {}, permits per second: {}, burst: {}, max concurrency: {}, max queue time: {}",
+                Arrays.toString(urlPatterns), permitsPerSecond, burst, maxConcurrency, maxQueueTime);
+        return registration;
+    }
+}
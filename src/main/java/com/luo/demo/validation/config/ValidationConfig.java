@@ -0,0 +1,94 @@
+package com.luo.demo.validation.config;
+
+import com.luo.demo.validation.plan.ParallelCascade;
+import com.luo.demo.validation.plan.PlannedValidatorFactoryBean;
+import com.luo.demo.validation.plan.ValidationObserver;
+import com.luo.demo.validation.plan.ValidationPlans;
+import com.luo.demo.validation.web.FailFast;
+import com.luo.demo.validation.web.FailFastInterceptor;
+import com.luo.demo.validation.web.ValidationCacheAdvice;
+import org.hibernate.validator.BaseHibernateValidatorConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.validation.MessageInterpolatorFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * 验证配置 - 替换SpringBoot默认的Validator（ValidationAutoConfiguration.defaultValidator）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Configuration(proxyBeanMethods = false)
+public class ValidationConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidationConfig.class);
+
+    /**
+     * 默认Validator，@Validated（MVC参数验证、方法验证）均使用此Validator
+     *
+     * @param enableValidationPlan 是否启用编译期生成的验证计划
+     * @param enableFailFast       是否全局快速失败（否则仅标注@FailFast的handler快速失败）
+     * @param enableParallel       是否并行执行大集合的级联验证（验证计划的通过/不通过检查，及非快速失败的Hibernate Validator验证，
+     *                             后者按元素下标合并违反约束，不依赖验证计划）
+     * @param parallelThreshold    并行检查的最小集合元素数
+     * @param parallelChunkSize    并行检查每个分片的元素数
+     * @param parallelism          并行检查的线程数，小于1时为可用处理器数
+     * @return validator
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static LocalValidatorFactoryBean defaultValidator(@Value("${spring.validation.plan.enable:true}") Boolean enableValidationPlan,
+                                                             @Value("${spring.validation.fail-fast.enable:false}") Boolean enableFailFast,
+                                                             @Value("${spring.validation.parallel.enable:false}") Boolean enableParallel,
+                                                             @Value("${spring.validation.parallel.threshold:2000}") Integer parallelThreshold,
+                                                             @Value("${spring.validation.parallel.chunk-size:512}") Integer parallelChunkSize,
+                                                             @Value("${spring.validation.parallel.parallelism:0}") Integer parallelism) {
+        PlannedValidatorFactoryBean factoryBean = new PlannedValidatorFactoryBean();
+        factoryBean.setMessageInterpolator(new MessageInterpolatorFactory().getObject());
+        factoryBean.getValidationPropertyMap().put(BaseHibernateValidatorConfiguration.FAIL_FAST, enableFailFast.toString());
+        factoryBean.setFailFastCondition(FailFastInterceptor::isFailFastRequest);
+        factoryBean.setFailFastHint(FailFast.class);
+        factoryBean.setValidatedCondition(ValidationCacheAdvice::isValidatedBody);
+        ParallelCascade parallelCascade = null;
+        if (enableParallel) {
+            parallelCascade = new ParallelCascade(parallelism, parallelThreshold, parallelChunkSize);
+            factoryBean.setParallelCascade(parallelCascade);
+            log.info("validation parallel cascade enabled, parallelism: {}, threshold: {}", parallelCascade.getParallelism(), parallelCascade.getThreshold());
+        }
+        if (enableValidationPlan) {
+            ValidationPlans validationPlans = ValidationPlans.load(ValidationConfig.class.getClassLoader());
+            if (parallelCascade != null) {
+                validationPlans = validationPlans.withParallelCascade(parallelCascade);
+            }
+            factoryBean.setValidationPlans(validationPlans);
+            log.info("validation plans loaded: {}", validationPlans.size());
+        }
+        return factoryBean;
+    }
+
+    /**
+     * 关联默认Validator与验证观察者（如ValidationMetrics）：待所有单例初始化完成后再关联，
+     * 默认Validator为基础设施Bean（早于MeterRegistry等创建），不直接依赖观察者
+     *
+     * @param defaultValidatorProvider   默认Validator
+     * @param validationObserverProvider 验证观察者（未启用时不关联）
+     * @return registrar
+     */
+    @Bean
+    public static SmartInitializingSingleton validationObserverRegistrar(ObjectProvider<LocalValidatorFactoryBean> defaultValidatorProvider,
+                                                                         ObjectProvider<ValidationObserver> validationObserverProvider) {
+        return () -> defaultValidatorProvider.ifAvailable(defaultValidator -> {
+            if (defaultValidator instanceof PlannedValidatorFactoryBean) {
+                validationObserverProvider.ifAvailable(((PlannedValidatorFactoryBean) defaultValidator)::setValidationObserver);
+            }
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package com.luo.demo.validation.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.luo.demo.validation.web.BodyLimitCborHttpMessageConverter;
+import com.luo.demo.validation.web.BodyLimitJsonHttpMessageConverter;
+import com.luo.demo.validation.web.BodyLimitSmileHttpMessageConverter;
+import com.luo.demo.validation.web.FailFastInterceptor;
+import com.luo.demo.validation.web.PreSerializedJsonHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Web MVC配置
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * 是否支持二进制格式（CBOR：application/cbor，Smile：application/x-jackson-smile），由Content-Type/Accept协商
+     */
+    @Value("${spring.mvc.binary-formats.enable:true}")
+    private Boolean enableBinaryFormats;
+
+    /**
+     * 是否限制请求体（{@link BodyLimitJsonHttpMessageConverter}等替换JSON、Smile、CBOR转换器）
+     */
+    @Value("${spring.validation.body-limits.enable:false}")
+    private Boolean enableBodyLimits;
+
+    /**
+     * spring.jackson.*配置的ObjectMapper构建器（与JSON使用相同的日期格式、null值处理等配置）
+     */
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilderProvider;
+
+    public WebConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilderProvider) {
+        this.objectMapperBuilderProvider = objectMapperBuilderProvider;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new FailFastInterceptor());
+    }
+
+    /**
+     * 预序列化结果（{@link PreSerializedJsonHttpMessageConverter}）转换器添加在JSON之前，与其使用相同的ObjectMapper；
+     * 启用请求体限制时，JSON转换器原位替换为使用相同ObjectMapper的{@link BodyLimitJsonHttpMessageConverter}；
+     * Spring MVC在classpath存在jackson-dataformat-cbor/smile时已默认注册对应转换器（位于JSON之后，Accept为*&#47;*或未指定时仍响应JSON），
+     * 但其ObjectMapper未应用spring.jackson.*配置，此处原位替换为与JSON相同配置的ObjectMapper（启用请求体限制时同样替换为限制请求体的转换器）；禁用时则移除
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int jsonIndex = this.indexOfJson(converters);
+        ObjectMapper jsonObjectMapper = jsonIndex < converters.size()
+                ? ((MappingJackson2HttpMessageConverter) converters.get(jsonIndex)).getObjectMapper()
+                : this.objectMapperBuilder().build();
+        if (this.enableBodyLimits && jsonIndex < converters.size()) {
+            converters.set(jsonIndex, new BodyLimitJsonHttpMessageConverter(jsonObjectMapper));
+        }
+        converters.add(jsonIndex, new PreSerializedJsonHttpMessageConverter(jsonObjectMapper));
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        if (!this.enableBinaryFormats) {
+            return;
+        }
+        int index = this.indexAfterJson(converters);
+        ObjectMapper smileObjectMapper = this.objectMapperBuilder().factory(new SmileFactory()).build();
+        ObjectMapper cborObjectMapper = this.objectMapperBuilder().factory(new CBORFactory()).build();
+        converters.add(index, this.enableBodyLimits
+                ? new BodyLimitSmileHttpMessageConverter(smileObjectMapper)
+                : new MappingJackson2SmileHttpMessageConverter(smileObjectMapper));
+        converters.add(index + 1, this.enableBodyLimits
+                ? new BodyLimitCborHttpMessageConverter(cborObjectMapper)
+                : new MappingJackson2CborHttpMessageConverter(cborObjectMapper));
+    }
+
+    /**
+     * 第一个JSON转换器的位置（预序列化结果转换器位于其之前）
+     */
+    private int indexOfJson(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                return i;
+            }
+        }
+        return converters.size();
+    }
+
+    /**
+     * 最后一个JSON转换器之后的位置
+     */
+    private int indexAfterJson(List<HttpMessageConverter<?>> converters) {
+        for (int i = converters.size() - 1; i >= 0; i--) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                return i + 1;
+            }
+        }
+        return converters.size();
+    }
+
+    private Jackson2ObjectMapperBuilder objectMapperBuilder() {
+        return this.objectMapperBuilderProvider.getIfAvailable(Jackson2ObjectMapperBuilder::new);
+    }
+}
@@ -0,0 +1,187 @@
+package com.luo.demo.validation.constraints;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled date format matcher, shared by all {@link DateFormat} validators.
+ * <p>
+ * Each format is compiled once into a process-wide bounded cache.
+ * The common formats "yyyy-MM-dd" and "yyyy-MM-dd HH:mm:ss" are checked char by char
+ * (no exception, no allocation), the other formats are pre-checked by
+ * {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)} and then resolved by the formatter,
+ * so all formats accept the same texts as {@link DateTimeFormatter#parse(CharSequence)} with the SMART resolver.
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public abstract class DateFormatMatcher {
+
+    /**
+     * max number of cached formats, formats beyond the limit are compiled per call of {@link #of(String)}
+     */
+    private static final int MAX_CACHED_FORMATS = 256;
+
+    private static final String ISO_DATE_FORMAT = "yyyy-MM-dd";
+    private static final String ISO_DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
+
+    private static final ConcurrentMap<String, DateFormatMatcher> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * get the compiled matcher of the date format
+     *
+     * @param format date format, see {@link DateTimeFormatter}
+     * @return compiled matcher
+     */
+    public static DateFormatMatcher of(String format) {
+        DateFormatMatcher matcher = CACHE.get(format);
+        if (matcher != null) {
+            return matcher;
+        }
+        matcher = compile(format);
+        if (CACHE.size() < MAX_CACHED_FORMATS) {
+            DateFormatMatcher existing = CACHE.putIfAbsent(format, matcher);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return matcher;
+    }
+
+    private static DateFormatMatcher compile(String format) {
+        if (ISO_DATE_FORMAT.equals(format)) {
+            return new IsoDateMatcher();
+        }
+        if (ISO_DATE_TIME_FORMAT.equals(format)) {
+            return new IsoDateTimeMatcher();
+        }
+        try {
+            return new FormatterMatcher(DateTimeFormatter.ofPattern(format));
+        } catch (IllegalArgumentException ex) {
+            //an invalid format can never be matched
+            return new RejectAllMatcher();
+        }
+    }
+
+    /**
+     * whether the text matches the date format
+     *
+     * @param text date text
+     * @return true if matched
+     */
+    public abstract boolean matches(CharSequence text);
+
+    /**
+     * read the 2 digits at the offset, or -1 if they are not digits
+     */
+    static int twoDigits(CharSequence text, int offset) {
+        int high = text.charAt(offset) - '0';
+        int low = text.charAt(offset + 1) - '0';
+        if (high < 0 || high > 9 || low < 0 || low > 9) {
+            return -1;
+        }
+        return high * 10 + low;
+    }
+
+    /**
+     * "yyyy-MM-dd", accepts the same texts as DateTimeFormatter with the SMART resolver,
+     * i.e. day of month 29-31 is accepted for any month
+     */
+    static boolean matchesIsoDate(CharSequence text) {
+        int yearHigh = twoDigits(text, 0);
+        int yearLow = twoDigits(text, 2);
+        if (yearHigh < 0 || yearLow < 0 || (yearHigh == 0 && yearLow == 0)) {
+            return false;
+        }
+        if (text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return false;
+        }
+        int month = twoDigits(text, 5);
+        int day = twoDigits(text, 8);
+        return month >= 1 && month <= 12 && day >= 1 && day <= 31;
+    }
+
+    private static final class IsoDateMatcher extends DateFormatMatcher {
+        @Override
+        public boolean matches(CharSequence text) {
+            return text.length() == 10 && matchesIsoDate(text);
+        }
+    }
+
+    /**
+     * "yyyy-MM-dd HH:mm:ss", accepts "24:00:00" as the SMART resolver does
+     */
+    private static final class IsoDateTimeMatcher extends DateFormatMatcher {
+        @Override
+        public boolean matches(CharSequence text) {
+            if (text.length() != 19 || !matchesIsoDate(text)) {
+                return false;
+            }
+            if (text.charAt(10) != ' ' || text.charAt(13) != ':' || text.charAt(16) != ':') {
+                return false;
+            }
+            int hour = twoDigits(text, 11);
+            int minute = twoDigits(text, 14);
+            int second = twoDigits(text, 17);
+            if (hour < 0 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+                return false;
+            }
+            return hour < 24 || (hour == 24 && minute == 0 && second == 0);
+        }
+    }
+
+    /**
+     * arbitrary format, parsed without resolving and range checked field by field first,
+     * so that a malformed or out of range text never throws DateTimeParseException;
+     * the remaining texts are resolved by the formatter (SMART), which also applies
+     * the cross-field checks, e.g. "24:00:01" or a day of year conflicting with the date
+     */
+    private static final class FormatterMatcher extends DateFormatMatcher {
+        private static final ChronoField[] FIELDS = ChronoField.values();
+
+        private final DateTimeFormatter formatter;
+
+        FormatterMatcher(DateTimeFormatter formatter) {
+            this.formatter = formatter;
+        }
+
+        @Override
+        public boolean matches(CharSequence text) {
+            ParsePosition position = new ParsePosition(0);
+            TemporalAccessor parsed = this.formatter.parseUnresolved(text, position);
+            if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() != text.length()) {
+                return false;
+            }
+            for (ChronoField field : FIELDS) {
+                if (parsed.isSupported(field) && !isValidValue(field, parsed.getLong(field))) {
+                    return false;
+                }
+            }
+            try {
+                this.formatter.parse(text);
+                return true;
+            } catch (DateTimeException ex) {
+                return false;
+            }
+        }
+
+        /**
+         * the SMART resolver accepts hour of day 24 (end of day, when the smaller fields are 0)
+         */
+        private static boolean isValidValue(ChronoField field, long value) {
+            return field.range().isValidValue(value) || (field == ChronoField.HOUR_OF_DAY && value == 24);
+        }
+    }
+
+    private static final class RejectAllMatcher extends DateFormatMatcher {
+        @Override
+        public boolean matches(CharSequence text) {
+            return false;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import org.springframework.util.StringUtils;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Date Format validator
@@ -14,11 +13,11 @@ import java.time.format.DateTimeFormatter;
  */
 public class DateFormatValidator implements ConstraintValidator<DateFormat, String> {
 
-    private String format;
+    private DateFormatMatcher matcher;
 
     @Override
     public void initialize(DateFormat dateFormat) {
-        this.format = dateFormat.format();
+        this.matcher = DateFormatMatcher.of(dateFormat.format());
     }
 
     @Override
@@ -26,11 +25,6 @@ public class DateFormatValidator implements ConstraintValidator<DateFormat, Stri
         if (!StringUtils.hasText(dateStr)) {
             return true;
         }
-        try {
-            DateTimeFormatter.ofPattern(this.format).parse(dateStr);
-            return true;
-        } catch (Throwable ex) {
-            return false;
-        }
+        return this.matcher.matches(dateStr);
     }
-}
\ No newline at end of file
+}
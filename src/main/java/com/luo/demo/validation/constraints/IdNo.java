@@ -1,9 +1,7 @@
 package com.luo.demo.validation.constraints;
 
 import javax.validation.Constraint;
-import javax.validation.OverridesAttribute;
 import javax.validation.Payload;
-import javax.validation.ReportAsSingleViolation;
 import javax.validation.constraints.Pattern;
 import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
@@ -15,8 +13,11 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 
 /**
- * The annotated {@code CharSequence} must match id no format.
- * The regular expression follows the Java regular expression conventions
+ * The annotated {@code CharSequence} must be a valid 18 digits id no (GB 11643),
+ * i.e. valid region prefix, calendar-correct birth date and matched check digit.
+ * If the rule set {@link #rule()} defines an "id-no" rule in the constraint rules
+ * (see {@link com.luo.demo.validation.rule.ConstraintRules}), the id no must match the rule instead.
+ * Can override with property "regexp", then the regular expression follows the Java regular expression conventions
  * see {@link java.util.regex.Pattern}.
  * <p>
  * Accepts {@code CharSequence}. {@code null} elements are considered valid.
@@ -25,12 +26,10 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * @date 2021-09-05
  */
 @Documented
-@Constraint(validatedBy = {})
+@Constraint(validatedBy = IdNoValidator.class)
 @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
 @Retention(RUNTIME)
 @Repeatable(IdNo.List.class)
-@ReportAsSingleViolation
-@Pattern(regexp = "")
 public @interface IdNo {
     String message() default "身份证号码格式不正确";
 
@@ -39,17 +38,23 @@ public @interface IdNo {
     Class<? extends Payload>[] payload() default {};
 
     /**
-     * @return an additional regular expression the annotated IdNo must match. The default is "^[1-9]\\d{5}(18|19|20|(3\\d))\\d{2}((0[1-9])|(1[0-2]))(([0-2][1-9])|10|20|30|31)\\d{3}[0-9Xx]$"
+     * @return the rule set (country or tenant) of the "id-no" rule. The default is "", i.e. the "default" rule set
      */
-    @OverridesAttribute(constraint = Pattern.class, name = "regexp") String regexp() default "^[1-9]\\d{5}(18|19|20|(3\\d))\\d{2}((0[1-9])|(1[0-2]))(([0-2][1-9])|10|20|30|31)\\d{3}[0-9Xx]$";
+    String rule() default "";
+
+    /**
+     * @return an optional regular expression the annotated IdNo must match instead of the rule or the GB 11643 check.
+     * The default is "", i.e. use the GB 11643 check
+     */
+    String regexp() default "";
 
     /**
      * @return used in combination with {@link #regexp()} in order to specify a regular expression option
      */
-    @OverridesAttribute(constraint = Pattern.class, name = "flags") Pattern.Flag[] flags() default {};
+    Pattern.Flag[] flags() default {};
 
     /**
-     * Defines several {@code @URL} annotations on the same element.
+     * Defines several {@code @IdNo} annotations on the same element.
      */
     @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
     @Retention(RUNTIME)
@@ -1,9 +1,7 @@
 package com.luo.demo.validation.constraints;
 
 import javax.validation.Constraint;
-import javax.validation.OverridesAttribute;
 import javax.validation.Payload;
-import javax.validation.ReportAsSingleViolation;
 import javax.validation.constraints.Pattern;
 import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
@@ -16,7 +14,9 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 /**
  * The annotated {@code CharSequence} must match phone no format.
- * The regular expression follows the Java regular expression conventions
+ * The format is the "phone-no" rule of the rule set {@link #rule()} in the constraint rules
+ * (see {@link com.luo.demo.validation.rule.ConstraintRules}), "^\\d{8,11}$" if no rule is defined.
+ * Can override with property "regexp", then the regular expression follows the Java regular expression conventions
  * see {@link java.util.regex.Pattern}.
  * <p>
  * Accepts {@code CharSequence}. {@code null} elements are considered valid.
@@ -25,12 +25,10 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * @date 2021-09-05
  */
 @Documented
-@Constraint(validatedBy = {})
+@Constraint(validatedBy = PhoneNoValidator.class)
 @Target({METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE})
 @Retention(RUNTIME)
 @Repeatable(PhoneNo.List.class)
-@ReportAsSingleViolation
-@Pattern(regexp = "")
 public @interface PhoneNo {
     String message() default "电话号码格式不正确";
 
@@ -39,14 +37,20 @@ public @interface PhoneNo {
     Class<? extends Payload>[] payload() default {};
 
     /**
-     * @return an additional regular expression the annotated PhoneNo must match. The default is "^\\d{8,11}$"
+     * @return the rule set (country or tenant) of the "phone-no" rule. The default is "", i.e. the "default" rule set
      */
-    @OverridesAttribute(constraint = Pattern.class, name = "regexp") String regexp() default "^\\d{8,11}$";
+    String rule() default "";
+
+    /**
+     * @return an optional regular expression the annotated PhoneNo must match instead of the rule.
+     * The default is "", i.e. use the rule
+     */
+    String regexp() default "";
 
     /**
      * @return used in combination with {@link #regexp()} in order to specify a regular expression option
      */
-    @OverridesAttribute(constraint = Pattern.class, name = "flags") Pattern.Flag[] flags() default {};
+    Pattern.Flag[] flags() default {};
 
     /**
      * Defines several {@code @URL} annotations on the same element.
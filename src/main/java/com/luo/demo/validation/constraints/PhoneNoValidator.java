@@ -0,0 +1,64 @@
+package com.luo.demo.validation.constraints;
+
+import com.luo.demo.validation.rule.ConstraintRule;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.constraints.Pattern;
+
+/**
+ * Phone No validator
+ * <p>
+ * Matches the "phone-no" rule of the constraint rules, which can be reloaded at runtime,
+ * or the default format "^\\d{8,11}$" if no rule is defined.
+ * If {@link PhoneNo#regexp()} is set, the phone no is matched against the regular expression instead.
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class PhoneNoValidator implements ConstraintValidator<PhoneNo, CharSequence> {
+
+    /**
+     * rule name in the constraint rules
+     */
+    public static final String RULE = "phone-no";
+
+    private static final java.util.regex.Pattern DEFAULT_PATTERN = java.util.regex.Pattern.compile("^\\d{8,11}$");
+
+    private java.util.regex.Pattern pattern;
+    private ConstraintRule rule;
+
+    @Override
+    public void initialize(PhoneNo phoneNo) {
+        if (!phoneNo.regexp().isEmpty()) {
+            int flags = 0;
+            for (Pattern.Flag flag : phoneNo.flags()) {
+                flags |= flag.getValue();
+            }
+            this.pattern = java.util.regex.Pattern.compile(phoneNo.regexp(), flags);
+        } else {
+            this.rule = rule(phoneNo.rule());
+        }
+    }
+
+    @Override
+    public boolean isValid(CharSequence phoneNo, ConstraintValidatorContext cxt) {
+        if (phoneNo == null) {
+            return true;
+        }
+        if (this.pattern != null) {
+            return this.pattern.matcher(phoneNo).matches();
+        }
+        return this.rule.matches(phoneNo);
+    }
+
+    /**
+     * "phone-no" rule of the rule set, falls back to the default format
+     *
+     * @param ruleSet rule set, "" for the default rule set
+     * @return rule
+     */
+    public static ConstraintRule rule(String ruleSet) {
+        return new ConstraintRule(RULE, ruleSet, phoneNo -> DEFAULT_PATTERN.matcher(phoneNo).matches());
+    }
+}
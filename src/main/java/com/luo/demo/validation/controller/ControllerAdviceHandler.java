@@ -1,13 +1,20 @@
 package com.luo.demo.validation.controller;
 
+import com.luo.demo.validation.audit.AuditLog;
 import com.luo.demo.validation.domain.result.CommonResult;
 import com.luo.demo.validation.enums.RespCodeEnum;
+import com.luo.demo.validation.enums.ValidationMsgModeEnum;
+import com.luo.demo.validation.json.JsonLimitExceededException;
+import com.luo.demo.validation.metrics.ValidationMetrics;
+import com.luo.demo.validation.web.RequestBodyInvalidException;
+import com.luo.demo.validation.web.ValidationMsgConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
-import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,34 +23,38 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.ConstraintViolationException;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * controller增强 - 通用异常处理
+ * <p>
+ * 审计日志记录的commonResult随后仅用于序列化响应，记录后不可再修改（由审计写入线程异步序列化）
  *
  * @author luohq
  * @date 2021-09-04 13:43
  */
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ControllerAdviceHandler {
 
     private static final Logger log = LoggerFactory.getLogger(ControllerAdviceHandler.class);
 
+    private final ValidationMsgConverter validationMsgConverter;
+
     /**
-     * 是否在响应结果中展示验证错误提示信息
+     * 违反约束次数统计，未启用指标（spring.validation.metrics.enable=false）时为null
      */
-    @Value("${spring.validation.msg.enable:true}")
-    private Boolean enableValidationMsg;
+    private final ValidationMetrics validationMetrics;
 
     /**
-     * 符号常量
+     * 请求审计日志（记录响应结果）
      */
-    private final String DOT = ".";
-    private final String SEPARATOR_COMMA = ", ";
-    private final String SEPARATOR_COLON = ": ";
+    private final AuditLog auditLog;
+
+    public ControllerAdviceHandler(ValidationMsgConverter validationMsgConverter, ObjectProvider<ValidationMetrics> validationMetricsProvider, AuditLog auditLog) {
+        this.validationMsgConverter = validationMsgConverter;
+        this.validationMetrics = validationMetricsProvider.getIfAvailable();
+        this.auditLog = auditLog;
+    }
 
     /**
      * 验证异常处理 - 在@RequestBody上添加@Validated处触发
@@ -57,8 +68,13 @@ public class ControllerAdviceHandler {
     @ResponseBody
     public CommonResult handleMethodArgumentNotValidException(HttpServletRequest request, MethodArgumentNotValidException ex) {
         log.warn("{} - MethodArgumentNotValidException!", request.getServletPath());
-        CommonResult commonResult = CommonResult.respWith(RespCodeEnum.PARAM_INVALID.getCode(), this.convertFiledErrors(ex.getBindingResult().getFieldErrors()));
-        log.warn("{} - resp with param invalid: {}", request.getServletPath(), commonResult);
+        if (this.validationMetrics != null) {
+            this.validationMetrics.countFieldErrors(ex.getBindingResult().getFieldErrors());
+        }
+        CommonResult commonResult = this.validationMsgConverter.respWithParamInvalid(request.getHeader(ValidationMsgModeEnum.HEADER),
+                () -> this.validationMsgConverter.convertFiledErrors(ex.getBindingResult().getFieldErrors()),
+                () -> this.validationMsgConverter.toViolationResults(ex.getBindingResult().getFieldErrors()));
+        this.auditLog.record("resp with param invalid", request.getServletPath(), commonResult);
         return commonResult;
     }
 
@@ -74,8 +90,13 @@ public class ControllerAdviceHandler {
     @ResponseBody
     public CommonResult handleBindException(HttpServletRequest request, BindException ex) {
         log.warn("{} - BindException!", request.getServletPath());
-        CommonResult commonResult = CommonResult.respWith(RespCodeEnum.PARAM_INVALID.getCode(), this.convertFiledErrors(ex.getFieldErrors()));
-        log.warn("{} - resp with param invalid: {}", request.getServletPath(), commonResult);
+        if (this.validationMetrics != null) {
+            this.validationMetrics.countFieldErrors(ex.getFieldErrors());
+        }
+        CommonResult commonResult = this.validationMsgConverter.respWithParamInvalid(request.getHeader(ValidationMsgModeEnum.HEADER),
+                () -> this.validationMsgConverter.convertFiledErrors(ex.getFieldErrors()),
+                () -> this.validationMsgConverter.toViolationResults(ex.getFieldErrors()));
+        this.auditLog.record("resp with param invalid", request.getServletPath(), commonResult);
         return commonResult;
     }
 
@@ -93,62 +114,77 @@ public class ControllerAdviceHandler {
     @ResponseBody
     public CommonResult handleConstraintViolationException(HttpServletRequest request, ConstraintViolationException ex) {
         log.warn("{} - ConstraintViolationException - {}", request.getServletPath(), ex.getMessage());
-        CommonResult commonResult = CommonResult.respWith(RespCodeEnum.PARAM_INVALID.getCode(), this.convertConstraintViolations(ex));
-        log.warn("{} - resp with param invalid: {}", request.getServletPath(), commonResult);
+        if (this.validationMetrics != null) {
+            this.validationMetrics.countConstraintViolations(ex.getConstraintViolations());
+        }
+        CommonResult commonResult = this.validationMsgConverter.respWithParamInvalid(request.getHeader(ValidationMsgModeEnum.HEADER),
+                () -> this.validationMsgConverter.convertConstraintViolations(ex.getConstraintViolations()),
+                () -> this.validationMsgConverter.toViolationResults(ex.getConstraintViolations()));
+        this.auditLog.record("resp with param invalid", request.getServletPath(), commonResult);
         return commonResult;
     }
 
     /**
-     * 全局默认异常处理
+     * 验证异常处理 - 启用验证结果缓存（spring.validation.cache.enable）时，@RequestBody验证不通过触发
      *
      * @param request
      * @param ex
      * @return
      */
-    @ExceptionHandler({Throwable.class})
+    @ExceptionHandler({RequestBodyInvalidException.class})
     @ResponseStatus(HttpStatus.OK)
     @ResponseBody
-    public CommonResult handleException(HttpServletRequest request, Throwable ex) {
-        log.warn("{} - Exception!", request.getServletPath(), ex);
-        CommonResult commonResult = CommonResult.failed();
-        log.warn("{} - resp failed: {}", request.getServletPath(), commonResult);
+    public CommonResult handleRequestBodyInvalidException(HttpServletRequest request, RequestBodyInvalidException ex) {
+        log.warn("{} - RequestBodyInvalidException, cached: {}", request.getServletPath(), ex.isCached());
+        if (this.validationMetrics != null) {
+            this.validationMetrics.countViolationResults(ex.getErrors());
+        }
+        CommonResult commonResult = this.validationMsgConverter.respWithParamInvalid(request.getHeader(ValidationMsgModeEnum.HEADER), ex::getMessage, ex::getErrors);
+        this.auditLog.record("resp with param invalid", request.getServletPath(), commonResult);
         return commonResult;
     }
 
     /**
-     * 转换FieldError列表为错误提示信息
+     * 验证异常处理 - 请求体超出限制（spring.validation.body-limits.*、@BodyLimits）时，在Jackson解析过程中触发；
+     * 其余请求体不可读异常同全局默认异常处理
      *
-     * @param fieldErrors
+     * @param request
+     * @param ex
      * @return
      */
-    private String convertFiledErrors(List<FieldError> fieldErrors) {
-        return Optional.ofNullable(fieldErrors)
-                .filter(fieldErrorsInner -> this.enableValidationMsg)
-                .map(fieldErrorsInner -> fieldErrorsInner.stream()
-                        .flatMap(fieldError -> Stream.of(fieldError.getField(), SEPARATOR_COLON, fieldError.getDefaultMessage(), SEPARATOR_COMMA))
-                        .collect(Collectors.joining()))
-                .map(msg -> msg.substring(0, msg.length() - SEPARATOR_COMMA.length()))
-                .orElse(null);
+    @ExceptionHandler({HttpMessageNotReadableException.class})
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    public CommonResult handleHttpMessageNotReadableException(HttpServletRequest request, HttpMessageNotReadableException ex) {
+        if (!(ex.getCause() instanceof JsonLimitExceededException)) {
+            return this.handleException(request, ex);
+        }
+        JsonLimitExceededException limitEx = (JsonLimitExceededException) ex.getCause();
+        log.warn("{} - JsonLimitExceededException: {} {}", request.getServletPath(), limitEx.getField(), limitEx.getOriginalMessage());
+        if (this.validationMetrics != null) {
+            this.validationMetrics.countJsonLimitExceeded(limitEx);
+        }
+        CommonResult commonResult = this.validationMsgConverter.respWithParamInvalid(request.getHeader(ValidationMsgModeEnum.HEADER),
+                () -> this.validationMsgConverter.convertJsonLimitExceeded(limitEx),
+                () -> this.validationMsgConverter.toViolationResults(limitEx));
+        this.auditLog.record("resp with param invalid", request.getServletPath(), commonResult);
+        return commonResult;
     }
 
     /**
-     * 转换ConstraintViolationException异常为错误提示信息
+     * 全局默认异常处理
      *
-     * @param constraintViolationException
+     * @param request
+     * @param ex
      * @return
      */
-    private String convertConstraintViolations(ConstraintViolationException constraintViolationException) {
-        return Optional.ofNullable(constraintViolationException.getConstraintViolations())
-                .filter(constraintViolations -> this.enableValidationMsg)
-                .map(constraintViolations -> constraintViolations.stream()
-                        .flatMap(constraintViolation -> {
-                            String path = constraintViolation.getPropertyPath().toString();
-                            path = path.substring(path.lastIndexOf(DOT) + 1);
-                            String errMsg = constraintViolation.getMessage();
-                            return Stream.of(path, SEPARATOR_COLON, errMsg, SEPARATOR_COMMA);
-                        }).collect(Collectors.joining())
-                ).map(msg -> msg.substring(0, msg.length() - SEPARATOR_COMMA.length()))
-                .orElse(null);
-
+    @ExceptionHandler({Throwable.class})
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    public CommonResult handleException(HttpServletRequest request, Throwable ex) {
+        log.warn("{} - Exception!", request.getServletPath(), ex);
+        CommonResult commonResult = CommonResult.failed();
+        this.auditLog.record("resp failed", request.getServletPath(), commonResult);
+        return commonResult;
     }
-}
\ No newline at end of file
+}
@@ -1,63 +1,114 @@
 package com.luo.demo.validation.controller;
 
-import com.luo.demo.validation.domain.dto.OrgDto;
-import com.luo.demo.validation.domain.dto.UserDto;
+import com.luo.demo.validation.audit.AuditLog;
 import com.luo.demo.validation.domain.groups.Groups;
 import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.BatchRowResult;
 import com.luo.demo.validation.domain.result.CommonResult;
 import com.luo.demo.validation.domain.result.UserResult;
+import com.luo.demo.validation.service.UserBatchImporter;
+import com.luo.demo.validation.service.UserListExporter;
+import com.luo.demo.validation.service.UserQueryService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.validation.groups.Default;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.LongStream;
+import java.io.IOException;
 
 /**
  * 示例 - controller
+ * <p>
+ * 审计日志（{@link AuditLog}）按引用异步序列化：记录的请求参数在记录后不再修改，用户详情为缓存中共享的只读对象
  *
  * @author luohq
  * @date 2021-09-04 13:43
  */
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Validated
 public class DemoController {
 
     private static final Logger log = LoggerFactory.getLogger(DemoController.class);
 
+    private final UserQueryService userQueryService;
+    private final UserBatchImporter userBatchImporter;
+    private final UserListExporter userListExporter;
+    private final AuditLog auditLog;
+
+    public DemoController(UserQueryService userQueryService, UserBatchImporter userBatchImporter, UserListExporter userListExporter, AuditLog auditLog) {
+        this.userQueryService = userQueryService;
+        this.userBatchImporter = userBatchImporter;
+        this.userListExporter = userListExporter;
+        this.auditLog = auditLog;
+    }
+
     @GetMapping("/user/detail")
     @ResponseBody
     public CommonResult<UserResult> getUser(@NotNull @Min(1) Long id) {
         log.info("get user, param: id={}", id);
-        UserResult userResult = new UserResult();
-        BeanUtils.copyProperties(this.buildUserDto(id), userResult);
-        log.info("get user, result: {}", userResult);
-        return CommonResult.successData(userResult);
+        CommonResult<UserResult> result = this.userQueryService.getUserDetail(id);
+        this.auditLog.record("get user", result.getData());
+        return result;
+    }
+
+    /**
+     * 用户列表 - 游标分页，响应中的nextCursor作为下一页的cursor参数（无下一页时不返回）
+     *
+     * @param cursor 游标（上一页最后一个用户ID，首页为0）
+     * @param size   每页用户数
+     * @return 用户列表（rows为本页用户，total为用户总数）
+     */
+    @GetMapping("/user/list")
+    @ResponseBody
+    public CommonResult<UserResult> listUsers(@RequestParam(defaultValue = "0") @Min(0) Long cursor,
+                                              @RequestParam(defaultValue = "20") @Min(1) @Max(1000) Integer size) {
+        log.info("list user, param: cursor={}, size={}", cursor, size);
+        return this.userQueryService.listUsers(cursor, size);
+    }
+
+    /**
+     * 用户列表导出 - 流式写出（stream=true），响应结构与分页查询相同
+     *
+     * @param cursor 游标（导出ID大于cursor的用户）
+     * @param limit  最多导出的用户数，未指定则导出至末尾
+     * @return 流式响应体（在异步线程中写出）
+     */
+    @GetMapping(value = "/user/list", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "0") @Min(0) Long cursor,
+                                                             @Min(1) Long limit) {
+        log.info("export user, param: cursor={}, limit={}", cursor, limit);
+        long maxRows = null == limit ? Long.MAX_VALUE : limit;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> this.userListExporter.exportUsers(outputStream, cursor, maxRows));
     }
 
     @PostMapping("/user/add")
     @ResponseBody
     public CommonResult<UserResult> addUser(@Validated @RequestBody UserParam userParam) {
-        log.info("add user, json param: {}", userParam);
+        this.auditLog.record("add user", userParam);
         return CommonResult.success();
     }
 
     @PostMapping("/user/addForm")
     @ResponseBody
     public CommonResult<UserResult> addUserForm(@Validated UserParam userParam) {
-        log.info("add user, form param: {}", userParam);
+        this.auditLog.record("add user form", userParam);
         return CommonResult.success();
     }
 
@@ -65,33 +116,23 @@ public class DemoController {
     @PostMapping("/user/update")
     @ResponseBody
     public CommonResult<UserResult> updateUser(@Validated({Groups.Update.class, Default.class}) @RequestBody UserParam userParam) {
-        log.info("update user, json param: {}", userParam);
+        this.auditLog.record("update user", userParam);
+        this.userQueryService.evictUserDetail(userParam.getId());
         return CommonResult.success();
     }
 
-
-    private UserDto buildUserDto(Long id) {
-        UserDto userDto = new UserDto();
-        userDto.setId(id);
-        userDto.setName("Tom-".concat(id.toString()));
-        userDto.setMail("tom@meixing.com");
-        userDto.setPhone("18888888888");
-        userDto.setSex(1);
-        userDto.setBirthDateStr("2000-01-01");
-        userDto.setBirthLocalDate(LocalDate.of(2000, 1, 1));
-        userDto.setRegisterLocalDatetime(LocalDateTime.of(2020, 9, 4, 12, 10, 22));
-        userDto.setOrgs(this.buildOrgDtoList());
-        return userDto;
-
-    }
-
-    private List<OrgDto> buildOrgDtoList() {
-        return LongStream.range(1, 3).mapToObj(orgId -> {
-            OrgDto orgResult = new OrgDto();
-            orgResult.setOrgId(orgId);
-            orgResult.setOrgName("Org-".concat(String.valueOf(orgId)));
-            return orgResult;
-        }).collect(Collectors.toList());
+    /**
+     * 批量添加用户 - 请求体为JSON数组或NDJSON，流式解析并逐行验证
+     *
+     * @param request
+     * @return 错误行列表（index为行索引）及总行数
+     * @throws IOException
+     */
+    @PostMapping(value = "/user/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseBody
+    public CommonResult<BatchRowResult> batchAddUser(HttpServletRequest request) throws IOException {
+        log.info("batch add user");
+        return this.userBatchImporter.importUsers(request.getInputStream(),
+                userParam -> log.debug("batch add user, json param: {}", userParam));
     }
-
 }
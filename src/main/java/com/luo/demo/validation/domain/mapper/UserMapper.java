@@ -0,0 +1,32 @@
+package com.luo.demo.validation.domain.mapper;
+
+import com.luo.demo.validation.domain.dto.UserDto;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.UserResult;
+import com.luo.demo.validation.mapping.Mapper;
+
+/**
+ * 用户 - 对象映射（编译期生成UserMapper_Impl）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Mapper
+public interface UserMapper {
+
+    /**
+     * UserDto -> UserResult
+     *
+     * @param userDto 用户
+     * @return 用户结果
+     */
+    UserResult toUserResult(UserDto userDto);
+
+    /**
+     * UserParam -> UserDto
+     *
+     * @param userParam 用户参数
+     * @return 用户
+     */
+    UserDto toUserDto(UserParam userParam);
+}
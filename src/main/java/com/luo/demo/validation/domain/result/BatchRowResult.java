@@ -0,0 +1,50 @@
+package com.luo.demo.validation.domain.result;
+
+/**
+ * 批量处理 - 单行结果
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class BatchRowResult {
+    /**
+     * 行索引（从0开始）
+     */
+    private Integer index;
+    /**
+     * 错误提示信息
+     */
+    private String msg;
+
+    public BatchRowResult() {
+    }
+
+    public BatchRowResult(Integer index, String msg) {
+        this.index = index;
+        this.msg = msg;
+    }
+
+    public Integer getIndex() {
+        return index;
+    }
+
+    public void setIndex(Integer index) {
+        this.index = index;
+    }
+
+    public String getMsg() {
+        return msg;
+    }
+
+    public void setMsg(String msg) {
+        this.msg = msg;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRowResult{" +
+                "index=" + index +
+                ", msg='" + msg + '\'' +
+                '}';
+    }
+}
@@ -16,6 +16,14 @@ public class CommonResult<T> {
     private List<T> rows;
     private String msg;
     private Integer total;
+    /**
+     * 游标分页（keyset）的下一页游标（本页最后一行的ID），无下一页时为null
+     */
+    private Long nextCursor;
+    /**
+     * 结构化的违反约束列表（见spring.validation.msg.mode）
+     */
+    private List<ViolationResult> errors;
 
 
     public CommonResult() {
@@ -58,6 +66,12 @@ public class CommonResult<T> {
         return new CommonResult(RespCodeEnum.SUCCESS.getCode(), rows, total);
     }
 
+    public static <T> CommonResult successRows(List<T> rows, Integer total, Long nextCursor) {
+        CommonResult commonResult = successRows(rows, total);
+        commonResult.setNextCursor(nextCursor);
+        return commonResult;
+    }
+
     public static CommonResult failed(String msg) {
         return new CommonResult(RespCodeEnum.FAILED.getCode(), null, msg);
     }
@@ -70,6 +84,18 @@ public class CommonResult<T> {
         return new CommonResult(respCode, null, msg);
     }
 
+    public static <T> CommonResult respWithRows(Integer respCode, List<T> rows, Integer total, String msg) {
+        CommonResult commonResult = new CommonResult(respCode, rows, total);
+        commonResult.setMsg(msg);
+        return commonResult;
+    }
+
+    public static CommonResult respWith(Integer respCode, String msg, List<ViolationResult> errors) {
+        CommonResult commonResult = respWith(respCode, msg);
+        commonResult.setErrors(errors);
+        return commonResult;
+    }
+
     public static CommonResult respWith(Integer respCode) {
         return respWith(respCode, null);
     }
@@ -114,6 +140,22 @@ public class CommonResult<T> {
         this.total = total;
     }
 
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ViolationResult> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ViolationResult> errors) {
+        this.errors = errors;
+    }
+
     @Override
     public String toString() {
         return "CommonResult{" +
@@ -122,6 +164,8 @@ public class CommonResult<T> {
                 ", rows=" + rows +
                 ", msg='" + msg + '\'' +
                 ", total=" + total +
+                ", nextCursor=" + nextCursor +
+                ", errors=" + errors +
                 '}';
     }
 }
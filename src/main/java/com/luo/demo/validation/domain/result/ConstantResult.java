@@ -0,0 +1,114 @@
+package com.luo.demo.validation.domain.result;
+
+import com.luo.demo.validation.enums.RespCode;
+import com.luo.demo.validation.enums.RespCodeEnum;
+import com.luo.demo.validation.enums.RespCodes;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 常量返回结果 - 仅含响应码（无data、msg等）的不可变单例，仅供PreSerializedJsonHttpMessageConverter使用
+ * <p>
+ * 每个已注册响应码（见{@link RespCodes}）对应一个实例，调用setter将抛出UnsupportedOperationException；
+ * MVC响应JSON时，仅含响应码的CommonResult（如CommonResult.success()、failed()、respWith(code)）
+ * 由转换器写出对应常量首次序列化后缓存的字节。CommonResult的工厂方法仍返回新的可修改实例。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class ConstantResult<T> extends CommonResult<T> {
+
+    public static final ConstantResult SUCCESS = new ConstantResult(RespCodeEnum.SUCCESS.getCode());
+    public static final ConstantResult PARAM_INVALID = new ConstantResult(RespCodeEnum.PARAM_INVALID.getCode());
+    public static final ConstantResult FAILED = new ConstantResult(RespCodeEnum.FAILED.getCode());
+
+    /**
+     * 响应码 -> 常量返回结果（下标即响应码，扩展响应码首次使用时添加）
+     */
+    private static volatile ConstantResult[] table = new ConstantResult[0];
+
+    static {
+        for (ConstantResult constantResult : new ConstantResult[]{SUCCESS, PARAM_INVALID, FAILED}) {
+            put(constantResult);
+        }
+    }
+
+    private ConstantResult(Integer respCode) {
+        super(respCode);
+    }
+
+    /**
+     * 获取响应码对应的常量返回结果
+     *
+     * @param respCode 响应码
+     * @return 常量返回结果，响应码未注册时返回null
+     */
+    public static <T> ConstantResult<T> of(Integer respCode) {
+        if (null == respCode) {
+            return null;
+        }
+        ConstantResult[] table = ConstantResult.table;
+        int code = respCode;
+        if (code >= 0 && code < table.length && null != table[code]) {
+            return table[code];
+        }
+        RespCode registered = RespCodes.valueOf(code);
+        return null == registered ? null : putIfAbsent(registered.getCode());
+    }
+
+    private static synchronized ConstantResult putIfAbsent(Integer respCode) {
+        int code = respCode;
+        if (code < table.length && null != table[code]) {
+            return table[code];
+        }
+        return put(new ConstantResult(respCode));
+    }
+
+    private static synchronized ConstantResult put(ConstantResult constantResult) {
+        int code = constantResult.getRespCode();
+        ConstantResult[] newTable = Arrays.copyOf(table, Math.max(table.length, code + 1));
+        newTable[code] = constantResult;
+        table = newTable;
+        return constantResult;
+    }
+
+    @Override
+    public void setRespCode(Integer respCode) {
+        throw immutable();
+    }
+
+    @Override
+    public void setData(T data) {
+        throw immutable();
+    }
+
+    @Override
+    public void setRows(List<T> rows) {
+        throw immutable();
+    }
+
+    @Override
+    public void setMsg(String msg) {
+        throw immutable();
+    }
+
+    @Override
+    public void setTotal(Integer total) {
+        throw immutable();
+    }
+
+    @Override
+    public void setNextCursor(Long nextCursor) {
+        throw immutable();
+    }
+
+    @Override
+    public void setErrors(List<ViolationResult> errors) {
+        throw immutable();
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("ConstantResult is immutable");
+    }
+}
@@ -0,0 +1,35 @@
+package com.luo.demo.validation.domain.result;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 预序列化的返回结果 - 缓存复用的CommonResult及其JSON字节（仅序列化一次）
+ * <p>
+ * MVC响应JSON时直接写出字节（见PreSerializedJsonHttpMessageConverter），
+ * 其他格式（CBOR/Smile）及WebFlux仍按CommonResult序列化。实例在请求间共享，不应修改。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class PreSerializedResult<T> extends CommonResult<T> {
+
+    private final byte[] json;
+
+    /**
+     * @param result 返回结果
+     * @param json   返回结果序列化后的JSON
+     */
+    public PreSerializedResult(CommonResult<T> result, byte[] json) {
+        super(result.getRespCode(), result.getData(), result.getMsg());
+        this.setRows(result.getRows());
+        this.setTotal(result.getTotal());
+        this.setNextCursor(result.getNextCursor());
+        this.setErrors(result.getErrors());
+        this.json = json;
+    }
+
+    @JsonIgnore
+    public byte[] getJson() {
+        return json;
+    }
+}
@@ -0,0 +1,78 @@
+package com.luo.demo.validation.domain.result;
+
+/**
+ * 违反约束 - 结构化结果
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class ViolationResult {
+    /**
+     * 属性路径，如name、orgs[0].orgId（方法参数验证时为参数名）
+     */
+    private String field;
+    /**
+     * 约束code（约束注解简单类名），如NotBlank、PhoneNo
+     */
+    private String code;
+    /**
+     * 被拒绝值提示（简单值截断展示，集合/数组展示大小，其他对象展示类型）
+     */
+    private String rejectedValue;
+    /**
+     * 错误提示信息
+     */
+    private String msg;
+
+    public ViolationResult() {
+    }
+
+    public ViolationResult(String field, String code, String rejectedValue, String msg) {
+        this.field = field;
+        this.code = code;
+        this.rejectedValue = rejectedValue;
+        this.msg = msg;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getRejectedValue() {
+        return rejectedValue;
+    }
+
+    public void setRejectedValue(String rejectedValue) {
+        this.rejectedValue = rejectedValue;
+    }
+
+    public String getMsg() {
+        return msg;
+    }
+
+    public void setMsg(String msg) {
+        this.msg = msg;
+    }
+
+    @Override
+    public String toString() {
+        return "ViolationResult{" +
+                "field='" + field + '\'' +
+                ", code='" + code + '\'' +
+                ", rejectedValue='" + rejectedValue + '\'' +
+                ", msg='" + msg + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,11 @@
+package com.luo.demo.validation.enums;
+
+/**
+ * 审计缓冲区已满时的处理策略 - 枚举
+ * <p>
+ * DROP - 丢弃事件并计数（请求线程不等待）；BLOCK - 请求线程等待缓冲区空位，超过spring.audit.block-timeout仍无空位则丢弃
+ */
+public enum AuditOverflowPolicyEnum {
+    DROP,
+    BLOCK
+}
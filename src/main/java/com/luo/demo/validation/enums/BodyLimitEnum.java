@@ -0,0 +1,39 @@
+package com.luo.demo.validation.enums;
+
+/**
+ * 请求体限制类型 - 枚举
+ * <p>
+ * MAX_SIZE - 请求体字节数；MAX_DEPTH - JSON对象/数组嵌套层数；MAX_ARRAY_LENGTH - JSON数组元素个数
+ */
+public enum BodyLimitEnum {
+    MAX_SIZE("MaxSize", "请求体大小不能超过%d字节"),
+    MAX_DEPTH("MaxDepth", "嵌套层数不能超过%d"),
+    MAX_ARRAY_LENGTH("MaxArrayLength", "元素个数不能超过%d");
+
+    /**
+     * 违反约束的code（同约束注解名，用于结构化结果及指标）
+     */
+    private final String code;
+
+    /**
+     * 错误提示信息格式（参数为限制值）
+     */
+    private final String msgFormat;
+
+    BodyLimitEnum(String code, String msgFormat) {
+        this.code = code;
+        this.msgFormat = msgFormat;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @param limit 限制值
+     * @return 错误提示信息
+     */
+    public String formatMsg(long limit) {
+        return String.format(this.msgFormat, limit);
+    }
+}
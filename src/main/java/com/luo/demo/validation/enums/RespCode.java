@@ -0,0 +1,19 @@
+package com.luo.demo.validation.enums;
+
+/**
+ * 响应码（{@link RespCodeEnum}及通过{@link RespCodes#register(int, String, String)}注册的扩展响应码）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public interface RespCode {
+
+    Integer getCode();
+
+    String getDesc();
+
+    /**
+     * @return 名称（如指标resp.code的name标签）
+     */
+    String name();
+}
@@ -1,16 +1,35 @@
 package com.luo.demo.validation.enums;
 
-import java.util.stream.Stream;
-
 /**
  * 响应码 - 枚举
+ * <p>
+ * 扩展响应码见{@link RespCodes}
  */
-public enum RespCodeEnum {
+public enum RespCodeEnum implements RespCode {
     SUCCESS(100, "成功"),
     PARAM_INVALID(101, "参数格式异常"),
-    FAILED(200, "系统异常");
-    private Integer code;
-    private String desc;
+    RATE_LIMITED(102, "请求过于频繁"),
+    FAILED(200, "系统异常"),
+    OVERLOADED(201, "系统繁忙");
+
+    /**
+     * 响应码 -> 枚举（下标即响应码）
+     */
+    private static final RespCodeEnum[] BY_CODE;
+
+    static {
+        int maxCode = 0;
+        for (RespCodeEnum respCodeEnum : values()) {
+            maxCode = Math.max(maxCode, respCodeEnum.code);
+        }
+        BY_CODE = new RespCodeEnum[maxCode + 1];
+        for (RespCodeEnum respCodeEnum : values()) {
+            BY_CODE[respCodeEnum.code] = respCodeEnum;
+        }
+    }
+
+    private final Integer code;
+    private final String desc;
 
     RespCodeEnum(Integer code, String desc) {
         this.code = code;
@@ -22,25 +41,19 @@ public enum RespCodeEnum {
     }
 
     public static RespCodeEnum valueOf(Integer respCode) {
-        return Stream.of(values())
-                .filter(respCodeEnum -> respCodeEnum.getCode().equals(respCode))
-                .findFirst()
-                .orElse(null);
+        if (null == respCode || respCode < 0 || respCode >= BY_CODE.length) {
+            return null;
+        }
+        return BY_CODE[respCode];
     }
 
+    @Override
     public Integer getCode() {
         return code;
     }
 
-    public void setCode(Integer code) {
-        this.code = code;
-    }
-
+    @Override
     public String getDesc() {
         return desc;
     }
-
-    public void setDesc(String desc) {
-        this.desc = desc;
-    }
 }
@@ -0,0 +1,131 @@
+package com.luo.demo.validation.enums;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 响应码注册表 - 按响应码下标直接查找（O(1)），内置{@link RespCodeEnum}，可注册扩展响应码
+ * <p>
+ * 扩展响应码通常在类初始化时注册，如：
+ * <pre>
+ * public static final RespCode ORDER_NOT_FOUND = RespCodes.register(300, "ORDER_NOT_FOUND", "订单不存在");
+ * </pre>
+ * 注册时复制并替换查找表（写时复制），查找无锁；响应码范围为0至{@link #MAX_CODE}，不可重复注册。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class RespCodes {
+
+    /**
+     * 最大响应码（查找表长度上限）
+     */
+    public static final int MAX_CODE = 9999;
+
+    /**
+     * 响应码 -> 响应码定义（下标即响应码）
+     */
+    private static volatile RespCode[] table = new RespCode[0];
+
+    static {
+        for (RespCodeEnum respCodeEnum : RespCodeEnum.values()) {
+            register(respCodeEnum);
+        }
+    }
+
+    private RespCodes() {
+    }
+
+    /**
+     * 查找响应码定义
+     *
+     * @param code 响应码
+     * @return 响应码定义，未注册时返回null
+     */
+    public static RespCode valueOf(int code) {
+        RespCode[] table = RespCodes.table;
+        return code >= 0 && code < table.length ? table[code] : null;
+    }
+
+    /**
+     * 查找响应码定义
+     *
+     * @param code 响应码
+     * @return 响应码定义，为null或未注册时返回null
+     */
+    public static RespCode valueOf(Integer code) {
+        return null == code ? null : valueOf(code.intValue());
+    }
+
+    /**
+     * 注册扩展响应码
+     *
+     * @param code 响应码
+     * @param name 名称
+     * @param desc 描述
+     * @return 注册的响应码定义
+     * @throws IllegalArgumentException 响应码超出0至{@link #MAX_CODE}
+     * @throws IllegalStateException    响应码已注册
+     */
+    public static RespCode register(int code, String name, String desc) {
+        RespCode respCode = new SimpleRespCode(code, Objects.requireNonNull(name, "name"), desc);
+        register(respCode);
+        return respCode;
+    }
+
+    /**
+     * 注册响应码
+     *
+     * @param respCode 响应码定义
+     * @throws IllegalArgumentException 响应码超出0至{@link #MAX_CODE}
+     * @throws IllegalStateException    响应码已注册
+     */
+    public static synchronized void register(RespCode respCode) {
+        int code = respCode.getCode();
+        if (code < 0 || code > MAX_CODE) {
+            throw new IllegalArgumentException("resp code out of range [0, " + MAX_CODE + "]: " + code);
+        }
+        RespCode existing = valueOf(code);
+        if (null != existing) {
+            throw new IllegalStateException("resp code " + code + " already registered as " + existing.name());
+        }
+        RespCode[] newTable = Arrays.copyOf(table, Math.max(table.length, code + 1));
+        newTable[code] = respCode;
+        table = newTable;
+    }
+
+    /**
+     * 扩展响应码
+     */
+    private static final class SimpleRespCode implements RespCode {
+        private final Integer code;
+        private final String name;
+        private final String desc;
+
+        private SimpleRespCode(int code, String name, String desc) {
+            this.code = code;
+            this.name = name;
+            this.desc = desc;
+        }
+
+        @Override
+        public Integer getCode() {
+            return this.code;
+        }
+
+        @Override
+        public String getDesc() {
+            return this.desc;
+        }
+
+        @Override
+        public String name() {
+            return this.name;
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(" + this.code + ")";
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.luo.demo.validation.enums;
+
+/**
+ * 验证错误提示信息输出模式 - 枚举
+ * <p>
+ * FLAT - 仅msg（field: message, ...）；STRUCTURED - 仅errors（结构化列表）；BOTH - 同时输出
+ */
+public enum ValidationMsgModeEnum {
+    FLAT(true, false),
+    STRUCTURED(false, true),
+    BOTH(true, true);
+
+    /**
+     * 指定当前请求输出模式的请求头
+     */
+    public static final String HEADER = "X-Validation-Msg-Mode";
+
+    private final boolean flat;
+    private final boolean structured;
+
+    ValidationMsgModeEnum(boolean flat, boolean structured) {
+        this.flat = flat;
+        this.structured = structured;
+    }
+
+    /**
+     * 按名称（忽略大小写）解析输出模式
+     *
+     * @param mode        模式名称
+     * @param defaultMode 名称为空或无法识别时的默认模式
+     * @return 输出模式
+     */
+    public static ValidationMsgModeEnum of(String mode, ValidationMsgModeEnum defaultMode) {
+        if (mode != null) {
+            for (ValidationMsgModeEnum modeEnum : values()) {
+                if (modeEnum.name().equalsIgnoreCase(mode.trim())) {
+                    return modeEnum;
+                }
+            }
+        }
+        return defaultMode;
+    }
+
+    public boolean isFlat() {
+        return flat;
+    }
+
+    public boolean isStructured() {
+        return structured;
+    }
+}
@@ -0,0 +1,175 @@
+package com.luo.demo.validation.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 固定格式日期模块 - LocalDate（ISO或@JsonFormat(pattern = "yyyy-MM-dd")）、
+ * LocalDateTime（@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")）按字符位置直接解析及格式化
+ * <p>
+ * 其余格式（及快速路径不处理的文本、年份）交由jackson-datatype-jsr310对应的（反）序列化器，
+ * 结果、宽松解析及错误提示均与其一致。需在JavaTimeModule之后注册（后注册的模块优先）。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class FixedLayoutDateTimeModule extends SimpleModule {
+
+    public FixedLayoutDateTimeModule() {
+        super(FixedLayoutDateTimeModule.class.getSimpleName());
+        this.addSerializer(LocalDate.class, new FixedLayoutLocalDateSerializer(LocalDateSerializer.INSTANCE));
+        this.addSerializer(LocalDateTime.class, new FixedLayoutLocalDateTimeSerializer(LocalDateTimeSerializer.INSTANCE));
+        this.addDeserializer(LocalDate.class, new FixedLayoutLocalDateDeserializer(LocalDateDeserializer.INSTANCE));
+        this.addDeserializer(LocalDateTime.class, new FixedLayoutLocalDateTimeDeserializer(LocalDateTimeDeserializer.INSTANCE));
+    }
+
+    /**
+     * 是否输出为字符串（非时间戳、数组）
+     */
+    private static boolean isStringShape(JsonFormat.Value format, SerializerProvider provider) {
+        JsonFormat.Shape shape = format.getShape();
+        if (shape == JsonFormat.Shape.STRING) {
+            return true;
+        }
+        return shape == JsonFormat.Shape.ANY && (format.hasPattern() || !provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    static class FixedLayoutLocalDateSerializer extends StdSerializer<LocalDate> implements ContextualSerializer {
+
+        private final JsonSerializer<LocalDate> delegate;
+
+        FixedLayoutLocalDateSerializer(JsonSerializer<LocalDate> delegate) {
+            super(LocalDate.class);
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            JsonFormat.Value format = this.findFormatOverrides(provider, property, this.handledType());
+            boolean fixedLayout = format.hasPattern() ? FixedLayoutDates.DATE_LAYOUT.equals(format.getPattern()) : !format.hasLocale();
+            JsonSerializer<LocalDate> contextual = (JsonSerializer<LocalDate>) LocalDateSerializer.INSTANCE.createContextual(provider, property);
+            return fixedLayout && isStringShape(format, provider) ? new FixedLayoutLocalDateSerializer(contextual) : contextual;
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            char[] buffer = new char[FixedLayoutDates.DATE_LENGTH];
+            if (FixedLayoutDates.formatDate(value, buffer)) {
+                gen.writeString(buffer, 0, buffer.length);
+            } else {
+                this.delegate.serialize(value, gen, provider);
+            }
+        }
+    }
+
+    static class FixedLayoutLocalDateTimeSerializer extends StdSerializer<LocalDateTime> implements ContextualSerializer {
+
+        private final JsonSerializer<LocalDateTime> delegate;
+
+        FixedLayoutLocalDateTimeSerializer(JsonSerializer<LocalDateTime> delegate) {
+            super(LocalDateTime.class);
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            JsonFormat.Value format = this.findFormatOverrides(provider, property, this.handledType());
+            JsonSerializer<LocalDateTime> contextual = (JsonSerializer<LocalDateTime>) LocalDateTimeSerializer.INSTANCE.createContextual(provider, property);
+            boolean fixedLayout = FixedLayoutDates.DATE_TIME_LAYOUT.equals(format.getPattern());
+            return fixedLayout && isStringShape(format, provider) ? new FixedLayoutLocalDateTimeSerializer(contextual) : contextual;
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            char[] buffer = new char[FixedLayoutDates.DATE_TIME_LENGTH];
+            if (FixedLayoutDates.formatDateTime(value, buffer)) {
+                gen.writeString(buffer, 0, buffer.length);
+            } else {
+                this.delegate.serialize(value, gen, provider);
+            }
+        }
+    }
+
+    static class FixedLayoutLocalDateDeserializer extends StdScalarDeserializer<LocalDate> implements ContextualDeserializer {
+
+        private final JsonDeserializer<LocalDate> delegate;
+
+        FixedLayoutLocalDateDeserializer(JsonDeserializer<LocalDate> delegate) {
+            super(LocalDate.class);
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            JsonDeserializer<LocalDate> contextual = (JsonDeserializer<LocalDate>) LocalDateDeserializer.INSTANCE.createContextual(ctxt, property);
+            JsonFormat.Value format = this.findFormatOverrides(ctxt, property, this.handledType());
+            boolean fixedLayout = format.hasPattern() ? FixedLayoutDates.DATE_LAYOUT.equals(format.getPattern()) : !format.hasLocale();
+            return fixedLayout ? new FixedLayoutLocalDateDeserializer(contextual) : contextual;
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                LocalDate value = FixedLayoutDates.parseDate(p.getText());
+                if (value != null) {
+                    return value;
+                }
+            }
+            return this.delegate.deserialize(p, ctxt);
+        }
+    }
+
+    static class FixedLayoutLocalDateTimeDeserializer extends StdScalarDeserializer<LocalDateTime> implements ContextualDeserializer {
+
+        private final JsonDeserializer<LocalDateTime> delegate;
+
+        FixedLayoutLocalDateTimeDeserializer(JsonDeserializer<LocalDateTime> delegate) {
+            super(LocalDateTime.class);
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            JsonDeserializer<LocalDateTime> contextual = (JsonDeserializer<LocalDateTime>) LocalDateTimeDeserializer.INSTANCE.createContextual(ctxt, property);
+            JsonFormat.Value format = this.findFormatOverrides(ctxt, property, this.handledType());
+            return FixedLayoutDates.DATE_TIME_LAYOUT.equals(format.getPattern()) ? new FixedLayoutLocalDateTimeDeserializer(contextual) : contextual;
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                LocalDateTime value = FixedLayoutDates.parseDateTime(p.getText());
+                if (value != null) {
+                    return value;
+                }
+            }
+            return this.delegate.deserialize(p, ctxt);
+        }
+    }
+}
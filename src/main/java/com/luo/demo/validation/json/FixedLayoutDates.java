@@ -0,0 +1,155 @@
+package com.luo.demo.validation.json;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 固定格式日期的解析及格式化 - "yyyy-MM-dd"、"yyyy-MM-dd HH:mm:ss"
+ * <p>
+ * 按字符位置直接读写，无需DateTimeFormatter的解析上下文（Parsed）及字段解析（resolve），亦无异常。
+ * 仅处理年份1-9999的严格合法日期（如不接受2月30日、24:00:00），
+ * 其余文本返回null，由调用方回退至对应的DateTimeFormatter，以保证结果及错误提示与之一致。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class FixedLayoutDates {
+
+    public static final String DATE_LAYOUT = "yyyy-MM-dd";
+    public static final String DATE_TIME_LAYOUT = "yyyy-MM-dd HH:mm:ss";
+
+    public static final int DATE_LENGTH = 10;
+    public static final int DATE_TIME_LENGTH = 19;
+
+    private static final int[] DAYS_OF_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private FixedLayoutDates() {
+    }
+
+    /**
+     * 解析"yyyy-MM-dd"
+     *
+     * @param text 日期文本
+     * @return 日期，不符合格式或非严格合法日期时返回null
+     */
+    public static LocalDate parseDate(CharSequence text) {
+        if (text.length() != DATE_LENGTH) {
+            return null;
+        }
+        return parseDatePart(text) ? LocalDate.of(year(text), twoDigits(text, 5), twoDigits(text, 8)) : null;
+    }
+
+    /**
+     * 解析"yyyy-MM-dd HH:mm:ss"
+     *
+     * @param text 日期时间文本
+     * @return 日期时间，不符合格式或非严格合法日期时间时返回null
+     */
+    public static LocalDateTime parseDateTime(CharSequence text) {
+        if (text.length() != DATE_TIME_LENGTH || !parseDatePart(text)) {
+            return null;
+        }
+        if (text.charAt(10) != ' ' || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            return null;
+        }
+        int hour = twoDigits(text, 11);
+        int minute = twoDigits(text, 14);
+        int second = twoDigits(text, 17);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalDateTime.of(year(text), twoDigits(text, 5), twoDigits(text, 8), hour, minute, second);
+    }
+
+    /**
+     * 格式化为"yyyy-MM-dd"
+     *
+     * @param date   日期
+     * @param buffer 输出字符数组，长度不小于{@link #DATE_LENGTH}
+     * @return 是否已格式化（年份超出1-9999时返回false）
+     */
+    public static boolean formatDate(LocalDate date, char[] buffer) {
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            return false;
+        }
+        writeDate(year, date.getMonthValue(), date.getDayOfMonth(), buffer);
+        return true;
+    }
+
+    /**
+     * 格式化为"yyyy-MM-dd HH:mm:ss"（忽略纳秒）
+     *
+     * @param dateTime 日期时间
+     * @param buffer   输出字符数组，长度不小于{@link #DATE_TIME_LENGTH}
+     * @return 是否已格式化（年份超出1-9999时返回false）
+     */
+    public static boolean formatDateTime(LocalDateTime dateTime, char[] buffer) {
+        int year = dateTime.getYear();
+        if (year < 1 || year > 9999) {
+            return false;
+        }
+        writeDate(year, dateTime.getMonthValue(), dateTime.getDayOfMonth(), buffer);
+        buffer[10] = ' ';
+        writeTwoDigits(dateTime.getHour(), buffer, 11);
+        buffer[13] = ':';
+        writeTwoDigits(dateTime.getMinute(), buffer, 14);
+        buffer[16] = ':';
+        writeTwoDigits(dateTime.getSecond(), buffer, 17);
+        return true;
+    }
+
+    /**
+     * 检查前10个字符是否为严格合法的"yyyy-MM-dd"（年份1-9999）
+     */
+    private static boolean parseDatePart(CharSequence text) {
+        int yearHigh = twoDigits(text, 0);
+        int yearLow = twoDigits(text, 2);
+        if (yearHigh < 0 || yearLow < 0 || (yearHigh == 0 && yearLow == 0)) {
+            return false;
+        }
+        if (text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return false;
+        }
+        int month = twoDigits(text, 5);
+        int day = twoDigits(text, 8);
+        if (month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        if (month == 2 && day == 29) {
+            int year = yearHigh * 100 + yearLow;
+            return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+        }
+        return day <= DAYS_OF_MONTH[month - 1];
+    }
+
+    private static int year(CharSequence text) {
+        return twoDigits(text, 0) * 100 + twoDigits(text, 2);
+    }
+
+    /**
+     * 读取offset处的2位数字，非数字时返回-1
+     */
+    private static int twoDigits(CharSequence text, int offset) {
+        int high = text.charAt(offset) - '0';
+        int low = text.charAt(offset + 1) - '0';
+        if (high < 0 || high > 9 || low < 0 || low > 9) {
+            return -1;
+        }
+        return high * 10 + low;
+    }
+
+    private static void writeDate(int year, int month, int day, char[] buffer) {
+        writeTwoDigits(year / 100, buffer, 0);
+        writeTwoDigits(year % 100, buffer, 2);
+        buffer[4] = '-';
+        writeTwoDigits(month, buffer, 5);
+        buffer[7] = '-';
+        writeTwoDigits(day, buffer, 8);
+    }
+
+    private static void writeTwoDigits(int value, char[] buffer, int offset) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
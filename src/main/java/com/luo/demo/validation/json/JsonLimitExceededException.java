@@ -0,0 +1,46 @@
+package com.luo.demo.validation.json;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.luo.demo.validation.enums.BodyLimitEnum;
+
+import java.io.Closeable;
+
+/**
+ * 请求体超出限制异常 - 由{@link LimitedJsonParser}、{@link LimitedInputStream}在解析过程中抛出
+ * <p>
+ * 继承JsonMappingException：Jackson反序列化器包装异常（WRAP_EXCEPTIONS）时保留原实例，
+ * 最终作为HttpMessageNotReadableException的cause，由ControllerAdviceHandler转换为参数格式异常
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class JsonLimitExceededException extends JsonMappingException {
+
+    private final BodyLimitEnum limitType;
+
+    /**
+     * 超出限制的属性路径（如orgs），请求体大小或根节点超出限制时为参数名
+     */
+    private final String field;
+
+    private final long limit;
+
+    public JsonLimitExceededException(Closeable processor, BodyLimitEnum limitType, String field, long limit) {
+        super(processor, limitType.formatMsg(limit));
+        this.limitType = limitType;
+        this.field = field;
+        this.limit = limit;
+    }
+
+    public BodyLimitEnum getLimitType() {
+        return this.limitType;
+    }
+
+    public String getField() {
+        return this.field;
+    }
+
+    public long getLimit() {
+        return this.limit;
+    }
+}
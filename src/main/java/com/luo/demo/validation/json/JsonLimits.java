@@ -0,0 +1,88 @@
+package com.luo.demo.validation.json;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 请求体限制 - 最大字节数、最大嵌套层数、数组最大元素个数（可按属性路径单独指定）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class JsonLimits {
+
+    /**
+     * 最大字节数
+     */
+    private final long maxBytes;
+
+    /**
+     * 最大嵌套层数（根对象为第1层）
+     */
+    private final int maxDepth;
+
+    /**
+     * 数组默认最大元素个数
+     */
+    private final int maxArrayLength;
+
+    /**
+     * 属性路径（不含下标，如orgs、orgs.members） -> 数组最大元素个数（不超过maxArrayLength）
+     */
+    private final Map<String, Integer> arrayLengthLimits;
+
+    /**
+     * 根节点名称（参数名），请求体大小或根节点超出限制时作为错误提示的属性路径
+     */
+    private final String rootName;
+
+    public JsonLimits(long maxBytes, int maxDepth, int maxArrayLength, Map<String, Integer> arrayLengthLimits, String rootName) {
+        this.maxBytes = maxBytes;
+        this.maxDepth = maxDepth;
+        this.maxArrayLength = maxArrayLength;
+        this.arrayLengthLimits = arrayLengthLimits == null || arrayLengthLimits.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(arrayLengthLimits);
+        this.rootName = rootName;
+    }
+
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    public int getMaxArrayLength() {
+        return this.maxArrayLength;
+    }
+
+    public Map<String, Integer> getArrayLengthLimits() {
+        return this.arrayLengthLimits;
+    }
+
+    public String getRootName() {
+        return this.rootName;
+    }
+
+    /**
+     * @param path 数组的属性路径
+     * @return 该数组的最大元素个数
+     */
+    public int arrayLengthLimitOf(String path) {
+        Integer limit = this.arrayLengthLimits.get(path);
+        return limit == null ? this.maxArrayLength : limit;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonLimits{" +
+                "maxBytes=" + maxBytes +
+                ", maxDepth=" + maxDepth +
+                ", maxArrayLength=" + maxArrayLength +
+                ", arrayLengthLimits=" + arrayLengthLimits +
+                ", rootName='" + rootName + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package com.luo.demo.validation.json;
+
+import com.luo.demo.validation.enums.BodyLimitEnum;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 限制读取字节数的输入流 - 读取超过maxBytes时抛出{@link JsonLimitExceededException}
+ * <p>
+ * 每次最多向底层流请求剩余额度+1个字节，超出限制时至多多读1个字节即停止（不必读完请求体）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class LimitedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private final String field;
+    private long remaining;
+
+    /**
+     * @param in       底层输入流
+     * @param maxBytes 最大字节数
+     * @param field    超出限制时的属性路径（参数名）
+     */
+    public LimitedInputStream(InputStream in, long maxBytes, String field) {
+        super(in);
+        this.maxBytes = maxBytes;
+        this.field = field;
+        this.remaining = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            this.consume(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, (int) Math.min(len, this.remaining + 1));
+        if (read > 0) {
+            this.consume(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(Math.min(n, this.remaining + 1));
+        if (skipped > 0) {
+            this.consume(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void consume(long bytes) throws JsonLimitExceededException {
+        this.remaining -= bytes;
+        if (this.remaining < 0) {
+            throw new JsonLimitExceededException(null, BodyLimitEnum.MAX_SIZE, this.field, this.maxBytes);
+        }
+    }
+}
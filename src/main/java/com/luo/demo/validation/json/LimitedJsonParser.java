@@ -0,0 +1,153 @@
+package com.luo.demo.validation.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.luo.demo.validation.enums.BodyLimitEnum;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 限制嵌套层数及数组元素个数的JsonParser - 逐个token检查，超出限制时立即抛出{@link JsonLimitExceededException}
+ * <p>
+ * 在反序列化读取token的同时检查（而非绑定完成后），超大数组、深层嵌套的请求体在超出限制处即停止解析，
+ * 不再继续读取请求体及创建对象；被忽略的未知属性（skipChildren）同样计入限制。
+ * 请求体字节数由{@link LimitedInputStream}限制。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class LimitedJsonParser extends JsonParserDelegate {
+
+    private static final int NOT_ARRAY = -1;
+
+    private final JsonLimits limits;
+
+    /**
+     * 当前嵌套层数（已开始未结束的对象、数组个数）
+     */
+    private int depth;
+
+    /**
+     * 各层数组的最大元素个数（对象为NOT_ARRAY）及已读取元素个数，下标为层数
+     */
+    private int[] arrayLengthLimits = new int[16];
+    private int[] arrayLengths = new int[16];
+
+    public LimitedJsonParser(JsonParser delegate, JsonLimits limits) {
+        super(delegate);
+        this.limits = limits;
+        this.arrayLengthLimits[0] = NOT_ARRAY;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken token = this.delegate.nextToken();
+        if (token != null) {
+            this.checkToken(token);
+        }
+        return token;
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        JsonToken token = this.nextToken();
+        return token == JsonToken.FIELD_NAME ? this.nextToken() : token;
+    }
+
+    /**
+     * 逐个token跳过（而非委托底层parser直接跳过），使被跳过的内容同样受限制
+     */
+    @Override
+    public JsonParser skipChildren() throws IOException {
+        JsonToken token = this.currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            return this;
+        }
+        int open = 1;
+        while ((token = this.nextToken()) != null) {
+            if (token.isStructStart()) {
+                open++;
+            } else if (token.isStructEnd() && --open == 0) {
+                break;
+            }
+        }
+        return this;
+    }
+
+    private void checkToken(JsonToken token) throws JsonLimitExceededException {
+        switch (token) {
+            case START_OBJECT:
+            case START_ARRAY:
+                this.countElement();
+                this.enter(token == JsonToken.START_ARRAY);
+                break;
+            case END_OBJECT:
+            case END_ARRAY:
+                this.depth--;
+                break;
+            case FIELD_NAME:
+                break;
+            default:
+                this.countElement();
+        }
+    }
+
+    /**
+     * 当前层为数组时累加元素个数
+     */
+    private void countElement() throws JsonLimitExceededException {
+        int limit = this.arrayLengthLimits[this.depth];
+        if (limit != NOT_ARRAY && ++this.arrayLengths[this.depth] > limit) {
+            // 元素为对象、数组时已进入其上下文，数组为其上一层
+            JsonStreamContext arrayContext = this.currentToken().isStructStart()
+                    ? this.getParsingContext().getParent()
+                    : this.getParsingContext();
+            throw this.exceeded(BodyLimitEnum.MAX_ARRAY_LENGTH, arrayContext, limit);
+        }
+    }
+
+    private void enter(boolean array) throws JsonLimitExceededException {
+        if (++this.depth > this.limits.getMaxDepth()) {
+            throw this.exceeded(BodyLimitEnum.MAX_DEPTH, this.getParsingContext().getParent(), this.limits.getMaxDepth());
+        }
+        if (this.depth == this.arrayLengthLimits.length) {
+            this.arrayLengthLimits = Arrays.copyOf(this.arrayLengthLimits, this.depth * 2);
+            this.arrayLengths = Arrays.copyOf(this.arrayLengths, this.depth * 2);
+        }
+        this.arrayLengthLimits[this.depth] = array ? this.arrayLengthLimit() : NOT_ARRAY;
+        this.arrayLengths[this.depth] = 0;
+    }
+
+    /**
+     * 当前（刚开始的）数组的最大元素个数，未按属性路径指定时为默认值
+     */
+    private int arrayLengthLimit() {
+        if (this.limits.getArrayLengthLimits().isEmpty()) {
+            return this.limits.getMaxArrayLength();
+        }
+        return this.limits.arrayLengthLimitOf(pathOf(this.getParsingContext()));
+    }
+
+    private JsonLimitExceededException exceeded(BodyLimitEnum limitType, JsonStreamContext context, long limit) {
+        String path = pathOf(context);
+        return new JsonLimitExceededException(this, limitType, path.isEmpty() ? this.limits.getRootName() : path, limit);
+    }
+
+    /**
+     * 上下文对应的属性路径（对象属性以.分隔，不含数组下标），根节点为空串
+     */
+    static String pathOf(JsonStreamContext context) {
+        if (context == null || context.inRoot()) {
+            return "";
+        }
+        String parentPath = pathOf(context.getParent());
+        String name = context.inObject() ? context.getCurrentName() : null;
+        if (name == null) {
+            return parentPath;
+        }
+        return parentPath.isEmpty() ? name : parentPath + '.' + name;
+    }
+}
@@ -0,0 +1,60 @@
+package com.luo.demo.validation.limit;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 并发限制 - 最多maxConcurrency个请求同时处理，超出时排队等待，等待超过maxQueueTime则拒绝（降载）
+ * <p>
+ * 排队时长即过载时的额外延迟：拒绝超时的请求，使已接收请求的延迟不超过处理时长 + maxQueueTime，
+ * 而不是让所有请求一起变慢。
+ * 排队为调用线程同步等待（{@link Semaphore#tryAcquire(long, TimeUnit)}），排队时长自调用{@link #tryAcquire()}起计算。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class ConcurrencyLimiter {
+
+    private final int maxConcurrency;
+    private final long maxQueueNanos;
+    private final Semaphore permits;
+
+    /**
+     * @param maxConcurrency 最大并发数
+     * @param maxQueueNanos  最长排队时长（纳秒），0则不排队
+     */
+    public ConcurrencyLimiter(int maxConcurrency, long maxQueueNanos) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueNanos = maxQueueNanos;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 获取处理许可，成功后须调用{@link #release()}
+     *
+     * @return 是否获取成功，排队超时（过载）时返回false
+     * @throws InterruptedException 排队时被中断
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        return this.permits.tryAcquire()
+                || (0 < this.maxQueueNanos && this.permits.tryAcquire(this.maxQueueNanos, TimeUnit.NANOSECONDS));
+    }
+
+    public void release() {
+        this.permits.release();
+    }
+
+    /**
+     * @return 处理中的请求数
+     */
+    public int getInFlight() {
+        return this.maxConcurrency - this.permits.availablePermits();
+    }
+
+    /**
+     * @return 排队等待许可的请求数（近似值）
+     */
+    public int getQueued() {
+        return this.permits.getQueueLength();
+    }
+}
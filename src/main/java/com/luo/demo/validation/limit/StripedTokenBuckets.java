@@ -0,0 +1,93 @@
+package com.luo.demo.validation.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 分段令牌桶 - 按客户端标识的哈希映射到固定数量的桶（分段），每个桶为一个long，无锁（CAS）更新
+ * <p>
+ * 采用GCRA（通用信元速率算法，等价于令牌桶）：每个桶仅保存"理论到达时间"TAT，
+ * 请求到达时TAT' = max(TAT, now) + 1/rate，若TAT' - now超过突发容量对应的时长则拒绝，否则CAS写回TAT'。
+ * 无需按客户端创建对象、无需定时补充令牌，内存固定为stripes个long；
+ * 哈希冲突的客户端共享同一个桶（stripes越大冲突越少）。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class StripedTokenBuckets {
+
+    private final AtomicLongArray theoreticalArrivals;
+    private final int mask;
+
+    /**
+     * 每个令牌的间隔（纳秒）
+     */
+    private final long emissionIntervalNanos;
+
+    /**
+     * 允许的突发时长（纳秒）：TAT领先当前时间不超过此值时放行
+     */
+    private final long burstToleranceNanos;
+
+    /**
+     * 时间基准（TAT按相对时间保存，避免System.nanoTime()为负数）
+     */
+    private final long originNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond 每个客户端每秒令牌数
+     * @param burst            桶容量（允许的连续突发请求数）
+     * @param stripes          分段数（向上取整为2的幂）
+     */
+    public StripedTokenBuckets(double permitsPerSecond, int burst, int stripes) {
+        if (permitsPerSecond <= 0 || burst < 1 || stripes < 1 || stripes > (1 << 30)) {
+            throw new IllegalArgumentException("invalid token bucket: permitsPerSecond=" + permitsPerSecond + ", burst=" + burst + ", stripes=" + stripes);
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.theoreticalArrivals = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstToleranceNanos = this.emissionIntervalNanos * (burst - 1);
+    }
+
+    /**
+     * 获取客户端的一个令牌
+     *
+     * @param clientKey 客户端标识
+     * @return 是否获取成功（未超出速率限制）
+     */
+    public boolean tryAcquire(String clientKey) {
+        return this.tryAcquire(clientKey.hashCode(), System.nanoTime() - this.originNanos);
+    }
+
+    /**
+     * 获取一个令牌
+     *
+     * @param hash       客户端标识的哈希
+     * @param nowNanos   当前相对时间（纳秒，不小于0）
+     * @return 是否获取成功
+     */
+    boolean tryAcquire(int hash, long nowNanos) {
+        int stripe = this.stripe(hash);
+        while (true) {
+            long theoreticalArrival = this.theoreticalArrivals.get(stripe);
+            long next = Math.max(theoreticalArrival, nowNanos) + this.emissionIntervalNanos;
+            if (next - nowNanos - this.emissionIntervalNanos > this.burstToleranceNanos) {
+                return false;
+            }
+            if (this.theoreticalArrivals.compareAndSet(stripe, theoreticalArrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    public int stripes() {
+        return this.mask + 1;
+    }
+
+    private int stripe(int hash) {
+        //扰动哈希，避免相近的客户端标识（如连续IP）集中到相邻分段
+        int spread = (hash ^ (hash >>> 16)) * 0x9E3779B9;
+        return (spread ^ (spread >>> 16)) & this.mask;
+    }
+}
@@ -0,0 +1,27 @@
+package com.luo.demo.validation.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * 对象映射 - 标注在接口上，编译期由{@link com.luo.demo.validation.mapping.processor.MapperProcessor}生成实现类XxxMapper_Impl（Spring Bean）
+ * <p>
+ * 接口中每个单参数方法（如{@code UserResult toUserResult(UserDto userDto)}）生成直接调用getter/setter的复制代码：
+ * <ul>
+ *     <li>同名属性类型可赋值时直接复制（集合等引用类型为浅复制，与BeanUtils.copyProperties一致）</li>
+ *     <li>类型不同时使用接口中对应的映射方法（List属性逐个元素映射）</li>
+ *     <li>目标属性无来源、来源属性未被映射、类型不匹配时编译失败，可通过{@link Mapping}指定来源或忽略</li>
+ * </ul>
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Documented
+@Target(TYPE)
+@Retention(CLASS)
+public @interface Mapper {
+}
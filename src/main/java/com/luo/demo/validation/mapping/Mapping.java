@@ -0,0 +1,52 @@
+package com.luo.demo.validation.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * 属性映射 - 标注在{@link Mapper}接口的映射方法上
+ * <ul>
+ *     <li>{@code @Mapping(target = "name", source = "userName")}：目标属性name取自来源属性userName</li>
+ *     <li>{@code @Mapping(target = "name", ignore = true)}：不设置目标属性name</li>
+ *     <li>{@code @Mapping(source = "idNo", ignore = true)}：来源属性idNo无需映射</li>
+ * </ul>
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Documented
+@Target(METHOD)
+@Retention(CLASS)
+@Repeatable(Mapping.List.class)
+public @interface Mapping {
+
+    /**
+     * @return 目标属性名
+     */
+    String target() default "";
+
+    /**
+     * @return 来源属性名，默认与目标属性同名
+     */
+    String source() default "";
+
+    /**
+     * @return 是否忽略目标属性（仅指定source时为来源属性无需映射）
+     */
+    boolean ignore() default false;
+
+    /**
+     * Defines several {@code @Mapping} annotations on the same method.
+     */
+    @Documented
+    @Target(METHOD)
+    @Retention(CLASS)
+    @interface List {
+        Mapping[] value();
+    }
+}
@@ -0,0 +1,420 @@
+package com.luo.demo.validation.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 对象映射 - 注解处理器
+ * <p>
+ * 为标注@Mapper的接口生成XxxMapper_Impl（@Component），每个映射方法按属性名直接调用来源getter及目标setter，
+ * 目标属性无来源、来源属性未被映射、属性类型不匹配时输出编译错误（见@Mapping）。
+ * <p>
+ * 注：本处理器在default-compile之前单独编译，不可依赖工程内其他类
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@SupportedAnnotationTypes(MapperProcessor.MAPPER)
+public class MapperProcessor extends AbstractProcessor {
+
+    static final String MAPPER = "com.luo.demo.validation.mapping.Mapper";
+    static final String IMPL_SUFFIX = "_Impl";
+
+    private static final String MAPPING = "com.luo.demo.validation.mapping.Mapping";
+    private static final String MAPPING_LIST = MAPPING + ".List";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                this.processMapper(element);
+            }
+        }
+        return false;
+    }
+
+    private void processMapper(Element element) {
+        if (!element.getKind().equals(ElementKind.INTERFACE)) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@Mapper must be declared on an interface", element);
+            return;
+        }
+        MapperWriter mapperWriter = new MapperWriter((TypeElement) element);
+        if (!mapperWriter.collect()) {
+            return;
+        }
+        try {
+            mapperWriter.write();
+        } catch (IOException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "failed to write mapper: " + ex.getMessage(), element);
+        }
+    }
+
+    private static boolean isAnnotation(AnnotationMirror annotationMirror, String annotationName) {
+        return ((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName);
+    }
+
+    /**
+     * Java Bean属性名（同java.beans.Introspector#decapitalize）
+     */
+    private static String propertyName(String accessorName, int prefixLength) {
+        String name = accessorName.substring(prefixLength);
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 单个@Mapping
+     */
+    private static class MappingSpec {
+        private final String target;
+        private final String source;
+        private final boolean ignore;
+        private final AnnotationMirror annotationMirror;
+
+        MappingSpec(String target, String source, boolean ignore, AnnotationMirror annotationMirror) {
+            this.target = target;
+            this.source = source;
+            this.ignore = ignore;
+            this.annotationMirror = annotationMirror;
+        }
+    }
+
+    /**
+     * 单个@Mapper接口的实现类生成
+     */
+    private class MapperWriter {
+        private final TypeElement mapperType;
+        private final Elements elements = processingEnv.getElementUtils();
+        private final Types types = processingEnv.getTypeUtils();
+
+        private final List<ExecutableElement> mappingMethods = new ArrayList<>();
+        private final Map<ExecutableElement, List<String>> methodStatements = new LinkedHashMap<>();
+        private boolean listHelperRequired;
+
+        MapperWriter(TypeElement mapperType) {
+            this.mapperType = mapperType;
+        }
+
+        /**
+         * 生成全部映射方法的复制语句
+         *
+         * @return 无编译错误时返回true
+         */
+        boolean collect() {
+            for (ExecutableElement method : ElementFilter.methodsIn(this.elements.getAllMembers(this.mapperType))) {
+                if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                    this.mappingMethods.add(method);
+                }
+            }
+            boolean valid = true;
+            for (ExecutableElement method : this.mappingMethods) {
+                valid &= this.collectMethod(method);
+            }
+            return valid;
+        }
+
+        private boolean collectMethod(ExecutableElement method) {
+            if (method.getParameters().size() != 1 || !method.getReturnType().getKind().equals(TypeKind.DECLARED)) {
+                return this.error(method, "mapping method must have exactly one parameter and return a bean type");
+            }
+            TypeElement targetType = (TypeElement) ((DeclaredType) method.getReturnType()).asElement();
+            if (!targetType.getKind().equals(ElementKind.CLASS) || targetType.getModifiers().contains(Modifier.ABSTRACT) || !hasPublicNoArgConstructor(targetType)) {
+                return this.error(method, "target type " + targetType.getQualifiedName() + " must be a concrete class with a public no-arg constructor");
+            }
+            TypeMirror sourceTypeMirror = method.getParameters().get(0).asType();
+            if (!sourceTypeMirror.getKind().equals(TypeKind.DECLARED)) {
+                return this.error(method, "source type " + sourceTypeMirror + " must be a bean type");
+            }
+            DeclaredType sourceType = (DeclaredType) sourceTypeMirror;
+            Map<String, TypeMirror> getters = this.accessors(sourceType, true);
+            Map<String, TypeMirror> setters = this.accessors((DeclaredType) method.getReturnType(), false);
+
+            //target property -> source property, null if ignored
+            Map<String, String> sources = new LinkedHashMap<>();
+            Set<String> ignoredSources = new LinkedHashSet<>();
+            boolean valid = true;
+            for (MappingSpec mappingSpec : this.mappingSpecs(method)) {
+                if (!mappingSpec.target.isEmpty()) {
+                    if (!setters.containsKey(mappingSpec.target)) {
+                        valid = this.error(method, mappingSpec.annotationMirror, "unknown target property '" + mappingSpec.target + "' of " + targetType.getQualifiedName());
+                        continue;
+                    }
+                    String source = mappingSpec.ignore ? null : (mappingSpec.source.isEmpty() ? mappingSpec.target : mappingSpec.source);
+                    if (source != null && !getters.containsKey(source)) {
+                        valid = this.error(method, mappingSpec.annotationMirror, "unknown source property '" + source + "' of " + sourceType);
+                        continue;
+                    }
+                    sources.put(mappingSpec.target, source);
+                } else if (!mappingSpec.source.isEmpty() && mappingSpec.ignore) {
+                    if (!getters.containsKey(mappingSpec.source)) {
+                        valid = this.error(method, mappingSpec.annotationMirror, "unknown source property '" + mappingSpec.source + "' of " + sourceType);
+                        continue;
+                    }
+                    ignoredSources.add(mappingSpec.source);
+                } else {
+                    valid = this.error(method, mappingSpec.annotationMirror, "@Mapping requires a target, or a source with ignore = true");
+                }
+            }
+
+            String sourceName = method.getParameters().get(0).getSimpleName().toString();
+            String targetName = "target".equals(sourceName) ? "mappedTarget" : "target";
+            List<String> statements = new ArrayList<>();
+            Set<String> unmappedSources = new LinkedHashSet<>(getters.keySet());
+            unmappedSources.removeAll(ignoredSources);
+            for (Map.Entry<String, TypeMirror> setter : setters.entrySet()) {
+                String targetProperty = setter.getKey();
+                String sourceProperty = sources.containsKey(targetProperty) ? sources.get(targetProperty) : targetProperty;
+                if (sourceProperty == null) {
+                    continue;
+                }
+                if (!getters.containsKey(sourceProperty)) {
+                    valid = this.error(method, "unmapped target property '" + targetProperty + "' of " + targetType.getQualifiedName()
+                            + ", add @Mapping(target = \"" + targetProperty + "\", source = \"...\") or @Mapping(target = \"" + targetProperty + "\", ignore = true)");
+                    continue;
+                }
+                unmappedSources.remove(sourceProperty);
+                String value = this.convert(sourceName + "." + this.getterName(sourceType, sourceProperty) + "()",
+                        getters.get(sourceProperty), setter.getValue());
+                if (value == null) {
+                    valid = this.error(method, "source property '" + sourceProperty + "' (" + getters.get(sourceProperty) + ") can not be mapped to target property '"
+                            + targetProperty + "' (" + setter.getValue() + ")");
+                    continue;
+                }
+                statements.add(targetName + ".set" + targetProperty.substring(0, 1).toUpperCase() + targetProperty.substring(1) + "(" + value + ");");
+            }
+            for (String unmappedSource : unmappedSources) {
+                valid = this.error(method, "unmapped source property '" + unmappedSource + "' of " + sourceType
+                        + ", add @Mapping(source = \"" + unmappedSource + "\", ignore = true) if intended");
+            }
+            this.methodStatements.put(method, statements);
+            return valid;
+        }
+
+        /**
+         * 来源值转换为目标属性类型的表达式
+         *
+         * @return 表达式，无法转换时返回null
+         */
+        private String convert(String value, TypeMirror sourceType, TypeMirror targetType) {
+            if (this.types.isAssignable(sourceType, targetType)) {
+                //unboxing a null value would throw NullPointerException
+                return !sourceType.getKind().isPrimitive() && targetType.getKind().isPrimitive() ? null : value;
+            }
+            ExecutableElement mappingMethod = this.findMappingMethod(sourceType, targetType);
+            if (mappingMethod != null) {
+                return "this." + mappingMethod.getSimpleName() + "(" + value + ")";
+            }
+            TypeMirror collectionType = this.types.erasure(this.elements.getTypeElement("java.util.Collection").asType());
+            TypeMirror listType = this.types.erasure(this.elements.getTypeElement("java.util.List").asType());
+            if (sourceType.getKind().equals(TypeKind.DECLARED) && targetType.getKind().equals(TypeKind.DECLARED)
+                    && this.types.isAssignable(this.types.erasure(sourceType), collectionType)
+                    && this.types.isSameType(this.types.erasure(targetType), listType)) {
+                List<? extends TypeMirror> sourceArguments = ((DeclaredType) sourceType).getTypeArguments();
+                List<? extends TypeMirror> targetArguments = ((DeclaredType) targetType).getTypeArguments();
+                if (sourceArguments.size() == 1 && targetArguments.size() == 1) {
+                    ExecutableElement elementMappingMethod = this.findMappingMethod(sourceArguments.get(0), targetArguments.get(0));
+                    if (elementMappingMethod != null) {
+                        this.listHelperRequired = true;
+                        return "mapList(" + value + ", this::" + elementMappingMethod.getSimpleName() + ")";
+                    }
+                }
+            }
+            return null;
+        }
+
+        private ExecutableElement findMappingMethod(TypeMirror sourceType, TypeMirror targetType) {
+            if (!sourceType.getKind().equals(TypeKind.DECLARED) || !targetType.getKind().equals(TypeKind.DECLARED)) {
+                return null;
+            }
+            for (ExecutableElement method : this.mappingMethods) {
+                if (method.getParameters().size() == 1
+                        && this.types.isAssignable(sourceType, method.getParameters().get(0).asType())
+                        && this.types.isAssignable(method.getReturnType(), targetType)) {
+                    return method;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 属性名 -> 属性类型（父类属性在前，按声明顺序）
+         *
+         * @param beanType bean类型
+         * @param getter   true为getter（getXxx/isXxx），false为setter（setXxx）
+         */
+        private Map<String, TypeMirror> accessors(DeclaredType beanType, boolean getter) {
+            Map<String, TypeMirror> accessors = new LinkedHashMap<>();
+            for (TypeElement type : hierarchy((TypeElement) beanType.asElement())) {
+                for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                    if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) {
+                        continue;
+                    }
+                    String name = method.getSimpleName().toString();
+                    ExecutableType methodType = (ExecutableType) this.types.asMemberOf(beanType, method);
+                    if (getter && method.getParameters().isEmpty()) {
+                        if (name.startsWith("get") && name.length() > 3 && !name.equals("getClass")
+                                && !methodType.getReturnType().getKind().equals(TypeKind.VOID)) {
+                            accessors.put(propertyName(name, 3), methodType.getReturnType());
+                        } else if (name.startsWith("is") && name.length() > 2 && methodType.getReturnType().getKind().equals(TypeKind.BOOLEAN)) {
+                            accessors.put(propertyName(name, 2), methodType.getReturnType());
+                        }
+                    } else if (!getter && method.getParameters().size() == 1 && name.startsWith("set") && name.length() > 3) {
+                        accessors.put(propertyName(name, 3), methodType.getParameterTypes().get(0));
+                    }
+                }
+            }
+            return accessors;
+        }
+
+        private String getterName(DeclaredType beanType, String property) {
+            String suffix = property.substring(0, 1).toUpperCase() + property.substring(1);
+            for (TypeElement type : hierarchy((TypeElement) beanType.asElement())) {
+                for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                    if (method.getSimpleName().contentEquals("is" + suffix) && method.getParameters().isEmpty()) {
+                        return "is" + suffix;
+                    }
+                }
+            }
+            return "get" + suffix;
+        }
+
+        private List<MappingSpec> mappingSpecs(ExecutableElement method) {
+            List<MappingSpec> mappingSpecs = new ArrayList<>();
+            for (AnnotationMirror annotationMirror : method.getAnnotationMirrors()) {
+                if (isAnnotation(annotationMirror, MAPPING)) {
+                    mappingSpecs.add(this.mappingSpec(annotationMirror));
+                } else if (isAnnotation(annotationMirror, MAPPING_LIST)) {
+                    for (AnnotationValue annotationValue : this.annotationValues(annotationMirror).get("value")) {
+                        mappingSpecs.add(this.mappingSpec((AnnotationMirror) annotationValue.getValue()));
+                    }
+                }
+            }
+            return mappingSpecs;
+        }
+
+        private MappingSpec mappingSpec(AnnotationMirror annotationMirror) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.elements.getElementValuesWithDefaults(annotationMirror).entrySet()) {
+                values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+            }
+            return new MappingSpec((String) values.get("target"), (String) values.get("source"), (Boolean) values.get("ignore"), annotationMirror);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<String, List<? extends AnnotationValue>> annotationValues(AnnotationMirror annotationMirror) {
+            Map<String, List<? extends AnnotationValue>> values = new LinkedHashMap<>();
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationMirror.getElementValues().entrySet()) {
+                values.put(entry.getKey().getSimpleName().toString(), (List<? extends AnnotationValue>) entry.getValue().getValue());
+            }
+            return values;
+        }
+
+        private boolean error(Element element, String message) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+            return false;
+        }
+
+        private boolean error(Element element, AnnotationMirror annotationMirror, String message) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, annotationMirror);
+            return false;
+        }
+
+        void write() throws IOException {
+            String packageName = this.elements.getPackageOf(this.mapperType).getQualifiedName().toString();
+            String mapperName = this.mapperType.getQualifiedName().toString();
+            String implSimpleName = mapperName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('.', '_') + IMPL_SUFFIX;
+            String implName = packageName.isEmpty() ? implSimpleName : packageName + "." + implSimpleName;
+
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(implName, this.mapperType);
+            try (Writer writer = sourceFile.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    writer.write("package " + packageName + ";\n\n");
+                }
+                writer.write("/**\n * 对象映射 - " + mapperName + "\n * <p>\n * Generated by " + MapperProcessor.class.getName() + ", do not edit.\n */\n");
+                writer.write("@org.springframework.stereotype.Component\n");
+                writer.write("public final class " + implSimpleName + " implements " + mapperName + " {\n");
+                for (Map.Entry<ExecutableElement, List<String>> entry : this.methodStatements.entrySet()) {
+                    ExecutableElement method = entry.getKey();
+                    String sourceName = method.getParameters().get(0).getSimpleName().toString();
+                    String targetName = "target".equals(sourceName) ? "mappedTarget" : "target";
+                    String targetType = method.getReturnType().toString();
+                    writer.write("\n    @Override\n    public " + targetType + " " + method.getSimpleName()
+                            + "(" + method.getParameters().get(0).asType() + " " + sourceName + ") {\n");
+                    writer.write("        if (" + sourceName + " == null) {\n            return null;\n        }\n");
+                    writer.write("        " + targetType + " " + targetName + " = new " + targetType + "();\n");
+                    for (String statement : entry.getValue()) {
+                        writer.write("        " + statement + "\n");
+                    }
+                    writer.write("        return " + targetName + ";\n    }\n");
+                }
+                if (this.listHelperRequired) {
+                    writer.write("\n    private static <S, T> java.util.List<T> mapList(java.util.Collection<? extends S> sources, java.util.function.Function<S, T> mapper) {\n"
+                            + "        if (sources == null) {\n            return null;\n        }\n"
+                            + "        java.util.List<T> targets = new java.util.ArrayList<>(sources.size());\n"
+                            + "        for (S source : sources) {\n            targets.add(mapper.apply(source));\n        }\n"
+                            + "        return targets;\n    }\n");
+                }
+                writer.write("}\n");
+            }
+        }
+    }
+
+    private static boolean hasPublicNoArgConstructor(TypeElement type) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 类继承体系（父类在前，不含Object）
+     */
+    private static List<TypeElement> hierarchy(TypeElement type) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        TypeElement currentType = type;
+        while (currentType != null && !currentType.getQualifiedName().contentEquals(Object.class.getName())) {
+            hierarchy.addFirst(currentType);
+            TypeMirror superclass = currentType.getSuperclass();
+            currentType = superclass.getKind().equals(TypeKind.DECLARED) ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return new ArrayList<>(hierarchy);
+    }
+}
@@ -0,0 +1,42 @@
+package com.luo.demo.validation.metrics;
+
+import com.luo.demo.validation.audit.AuditLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 指标 - 请求审计日志（audit.events、audit.buffer.size）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class AuditMetrics implements MeterBinder {
+
+    private final AuditLog auditLog;
+
+    public AuditMetrics(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.bindEventCounter(registry, "published", AuditLog::getPublishedCount);
+        this.bindEventCounter(registry, "dropped", AuditLog::getDroppedCount);
+        this.bindEventCounter(registry, "written", AuditLog::getWrittenCount);
+        this.bindEventCounter(registry, "failed", AuditLog::getFailedCount);
+        Gauge.builder("audit.buffer.size", this.auditLog, AuditLog::getBufferSize)
+                .description("The number of audit events waiting in the ring buffer")
+                .register(registry);
+    }
+
+    private void bindEventCounter(MeterRegistry registry, String result, ToDoubleFunction<AuditLog> count) {
+        FunctionCounter.builder("audit.events", this.auditLog, count)
+                .tag("result", result)
+                .description("Audit event count by result (published to the buffer, dropped when full, written or failed to write)")
+                .register(registry);
+    }
+}
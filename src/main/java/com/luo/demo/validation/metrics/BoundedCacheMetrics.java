@@ -0,0 +1,56 @@
+package com.luo.demo.validation.metrics;
+
+import com.luo.demo.validation.cache.BoundedCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * 指标 - BoundedCache（cache.size、cache.gets、cache.puts、cache.evictions及cache.expirations）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class BoundedCacheMetrics extends CacheMeterBinder {
+
+    private final BoundedCache<?, ?> cache;
+
+    public BoundedCacheMetrics(BoundedCache<?, ?> cache, String cacheName, Iterable<Tag> tags) {
+        super(cache, cacheName, tags);
+        this.cache = cache;
+    }
+
+    @Override
+    protected Long size() {
+        return (long) this.cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        return this.cache.getHitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        return this.cache.getMissCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return this.cache.getEvictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        return this.cache.getPutCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("cache.expirations", this.cache, BoundedCache::getExpirationCount)
+                .tags(this.getTagsWithCacheName())
+                .description("The number of entries expired after the ttl")
+                .register(registry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.luo.demo.validation.metrics;
+
+import com.luo.demo.validation.web.RateLimitFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 指标 - 限流及降载（rate.limit.rejected、rate.limit.in.flight、rate.limit.queued）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class RateLimitMetrics implements MeterBinder {
+
+    private final RateLimitFilter rateLimitFilter;
+
+    public RateLimitMetrics(RateLimitFilter rateLimitFilter) {
+        this.rateLimitFilter = rateLimitFilter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("rate.limit.rejected", this.rateLimitFilter, RateLimitFilter::getRateLimitedCount)
+                .tag("reason", "rate_limited")
+                .description("Requests rejected before the controller, by reason")
+                .register(registry);
+        FunctionCounter.builder("rate.limit.rejected", this.rateLimitFilter, RateLimitFilter::getOverloadedCount)
+                .tag("reason", "overloaded")
+                .description("Requests rejected before the controller, by reason")
+                .register(registry);
+        Gauge.builder("rate.limit.in.flight", this.rateLimitFilter, RateLimitFilter::getInFlight)
+                .description("Requests holding a concurrency permit")
+                .register(registry);
+        Gauge.builder("rate.limit.queued", this.rateLimitFilter, RateLimitFilter::getQueued)
+                .description("Requests waiting for a concurrency permit")
+                .register(registry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.luo.demo.validation.metrics;
+
+import com.luo.demo.validation.cache.ReadThroughCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 指标 - ReadThroughCache（BoundedCache指标，及cache.loads、cache.load.duration、cache.coalesced）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class ReadThroughCacheMetrics extends BoundedCacheMetrics {
+
+    private final ReadThroughCache<?, ?> cache;
+
+    public ReadThroughCacheMetrics(ReadThroughCache<?, ?> cache, String cacheName, Iterable<Tag> tags) {
+        super(cache.getCache(), cacheName, tags);
+        this.cache = cache;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        super.bindImplementationSpecificMetrics(registry);
+        FunctionCounter.builder("cache.loads", this.cache, ReadThroughCache::getLoadSuccessCount)
+                .tags(this.getTagsWithCacheName())
+                .tag("result", "success")
+                .description("The number of successful loads after a cache miss")
+                .register(registry);
+        FunctionCounter.builder("cache.loads", this.cache, ReadThroughCache::getLoadFailureCount)
+                .tags(this.getTagsWithCacheName())
+                .tag("result", "failure")
+                .description("The number of failed loads after a cache miss")
+                .register(registry);
+        FunctionTimer.builder("cache.load.duration", this.cache,
+                        cache -> cache.getLoadSuccessCount() + cache.getLoadFailureCount(),
+                        ReadThroughCache::getTotalLoadNanos, TimeUnit.NANOSECONDS)
+                .tags(this.getTagsWithCacheName())
+                .description("The time spent loading after a cache miss")
+                .register(registry);
+        FunctionCounter.builder("cache.coalesced", this.cache, ReadThroughCache::getCoalescedCount)
+                .tags(this.getTagsWithCacheName())
+                .description("The number of misses that waited for a concurrent load of the same key instead of loading")
+                .register(registry);
+    }
+}
@@ -0,0 +1,45 @@
+package com.luo.demo.validation.metrics;
+
+import com.luo.demo.validation.domain.result.CommonResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 指标 - 按CommonResult.respCode统计响应次数（含ControllerAdviceHandler异常处理的响应）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spring.validation.metrics.enable", havingValue = "true", matchIfMissing = true)
+public class RespCodeMetricsAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ValidationMetrics validationMetrics;
+
+    public RespCodeMetricsAdvice(ValidationMetrics validationMetrics) {
+        this.validationMetrics = validationMetrics;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return CommonResult.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof CommonResult) {
+            this.validationMetrics.countRespCode(((CommonResult<?>) body).getRespCode());
+        }
+        return body;
+    }
+}
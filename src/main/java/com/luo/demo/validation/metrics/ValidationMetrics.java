@@ -0,0 +1,217 @@
+package com.luo.demo.validation.metrics;
+
+import com.luo.demo.validation.domain.result.ViolationResult;
+import com.luo.demo.validation.enums.RespCode;
+import com.luo.demo.validation.enums.RespCodes;
+import com.luo.demo.validation.json.JsonLimitExceededException;
+import com.luo.demo.validation.plan.ValidationObserver;
+import com.luo.demo.validation.web.ValidationCacheAdvice;
+import com.luo.demo.validation.web.ValidationMsgConverter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.FieldError;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.validation.ConstraintViolation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 指标 - 验证耗时、违反约束次数、响应码次数（通过/actuator/metrics查看）
+ * <ul>
+ *     <li>validation.duration - 验证耗时，tags：uri（请求映射路径）、groups（验证分组）、outcome（valid/invalid）</li>
+ *     <li>validation.violations - 违反约束次数，tags：constraint（约束注解）、field（属性路径，去掉集合下标）</li>
+ *     <li>resp.code - 响应码次数，tags：code、name（RespCodes中注册的名称）</li>
+ *     <li>validation.warmup - 启动时验证预热耗时（仅记录一次），tags：types（预热的类型数）</li>
+ *     <li>cache.* - 验证结果缓存（启用spring.validation.cache.enable时），tags：cache=validation</li>
+ * </ul>
+ * validation.duration由默认Validator回调{@link #onValidated}记录（见ValidationConfig.validationObserverRegistrar）；
+ * Meter按tags组合缓存，记录时不再查找注册表；各tag取值均为有限集合（不含请求参数值）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Component
+@ConditionalOnProperty(name = "spring.validation.metrics.enable", havingValue = "true", matchIfMissing = true)
+public class ValidationMetrics implements ValidationObserver {
+
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Counter>> violationCounters = new ConcurrentHashMap<>();
+    private final Map<Integer, Counter> respCodeCounters = new ConcurrentHashMap<>();
+
+    public ValidationMetrics(MeterRegistry meterRegistry,
+                             ObjectProvider<ValidationCacheAdvice> validationCacheAdviceProvider) {
+        this.meterRegistry = meterRegistry;
+        validationCacheAdviceProvider.ifAvailable(validationCacheAdvice ->
+                new BoundedCacheMetrics(validationCacheAdvice.getCache(), "validation", Tags.empty()).bindTo(meterRegistry));
+    }
+
+    @Override
+    public void onValidated(Object target, Class<?>[] groups, long durationNanos, boolean valid) {
+        this.timers.computeIfAbsent(new TimerKey(currentUri(), groups, valid), timerKey -> Timer.builder("validation.duration")
+                .description("Bean Validation duration")
+                .tag("uri", timerKey.uri)
+                .tag("groups", groupsTag(timerKey.groups))
+                .tag("outcome", timerKey.valid ? "valid" : "invalid")
+                .register(this.meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordWarmUp(int typeCount, long durationNanos) {
+        Timer.builder("validation.warmup")
+                .description("Bean Validation metadata warm-up duration at startup")
+                .tag("types", String.valueOf(typeCount))
+                .register(this.meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void countFieldErrors(List<FieldError> fieldErrors) {
+        for (FieldError fieldError : fieldErrors) {
+            this.countViolation(fieldError.getCode(), fieldError.getField());
+        }
+    }
+
+    public void countConstraintViolations(Set<? extends ConstraintViolation<?>> constraintViolations) {
+        for (ConstraintViolation<?> constraintViolation : constraintViolations) {
+            this.countViolation(constraintViolation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName(),
+                    ValidationMsgConverter.propertyPath(constraintViolation));
+        }
+    }
+
+    public void countViolationResults(List<ViolationResult> violationResults) {
+        if (violationResults == null) {
+            return;
+        }
+        for (ViolationResult violationResult : violationResults) {
+            this.countViolation(violationResult.getCode(), violationResult.getField());
+        }
+    }
+
+    /**
+     * 请求体超出限制仅按限制类型统计：属性路径来自请求体（如未知属性的嵌套路径），不作为标签以免标签值无限增长
+     */
+    public void countJsonLimitExceeded(JsonLimitExceededException ex) {
+        this.countViolation(ex.getLimitType().getCode(), null);
+    }
+
+    public void countRespCode(Integer respCode) {
+        if (respCode == null) {
+            return;
+        }
+        this.respCodeCounters.computeIfAbsent(respCode, code -> {
+            RespCode respCodeDef = RespCodes.valueOf(code);
+            return Counter.builder("resp.code")
+                    .description("Response count by CommonResult.respCode")
+                    .tag("code", code.toString())
+                    .tag("name", respCodeDef == null ? UNKNOWN : respCodeDef.name())
+                    .register(this.meterRegistry);
+        }).increment();
+    }
+
+    private void countViolation(String constraint, String field) {
+        String constraintTag = constraint == null ? UNKNOWN : constraint;
+        String fieldTag = field == null ? NONE : withoutIndexes(field);
+        this.violationCounters.computeIfAbsent(constraintTag, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(fieldTag, key -> Counter.builder("validation.violations")
+                        .description("Constraint violation count by constraint and field")
+                        .tag("constraint", constraintTag)
+                        .tag("field", fieldTag)
+                        .register(this.meterRegistry))
+                .increment();
+    }
+
+    private static String currentUri() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return NONE;
+        }
+        Object pattern = requestAttributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return pattern == null ? UNKNOWN : pattern.toString();
+    }
+
+    private static String groupsTag(Class<?>[] groups) {
+        if (groups == null || groups.length == 0) {
+            return "Default";
+        }
+        StringBuilder groupsTag = new StringBuilder();
+        for (Class<?> group : groups) {
+            if (groupsTag.length() > 0) {
+                groupsTag.append(',');
+            }
+            groupsTag.append(group.getSimpleName());
+        }
+        return groupsTag.toString();
+    }
+
+    /**
+     * 去掉属性路径中的集合下标/键（orgs[0].orgId -> orgs[].orgId），避免tag取值无限增长
+     */
+    private static String withoutIndexes(String field) {
+        int bracket = field.indexOf('[');
+        if (bracket < 0) {
+            return field;
+        }
+        StringBuilder path = new StringBuilder(field.length());
+        boolean inBracket = false;
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '[') {
+                inBracket = true;
+                path.append(c);
+            } else if (c == ']') {
+                inBracket = false;
+                path.append(c);
+            } else if (!inBracket) {
+                path.append(c);
+            }
+        }
+        return path.toString();
+    }
+
+    private static final class TimerKey {
+        private final String uri;
+        private final Class<?>[] groups;
+        private final boolean valid;
+        private final int hash;
+
+        private TimerKey(String uri, Class<?>[] groups, boolean valid) {
+            this.uri = uri;
+            this.groups = groups;
+            this.valid = valid;
+            this.hash = 31 * (31 * uri.hashCode() + Arrays.hashCode(groups)) + Boolean.hashCode(valid);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TimerKey)) {
+                return false;
+            }
+            TimerKey that = (TimerKey) o;
+            return this.valid == that.valid && this.uri.equals(that.uri) && Arrays.equals(this.groups, that.groups);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
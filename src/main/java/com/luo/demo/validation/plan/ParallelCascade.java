@@ -0,0 +1,206 @@
+package com.luo.demo.validation.plan;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 验证计划 - 大集合级联验证（@Valid）并行执行
+ * <p>
+ * 元素数不小于threshold的List（RandomAccess）按chunkSize拆分到独立的ForkJoinPool中并行执行：
+ * <ul>
+ *     <li>验证计划的通过/不通过检查（{@link #allValid(List, ValidationPlanContext)}）：
+ *     任一元素不通过即停止检查，未开始的分片不再拆分及检查，进行中的分片在下一个元素前退出</li>
+ *     <li>Hibernate Validator验证（{@link #validateAll(List, Validator, Class[])}）：验证全部元素，
+ *     由{@link ParallelCascadeValidator}按元素下标合并违反约束，不依赖验证计划</li>
+ * </ul>
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class ParallelCascade {
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+
+    /**
+     * @param parallelism 并行度（线程数上限），小于1时为可用处理器数
+     * @param threshold   并行检查的最小集合元素数
+     * @param chunkSize   每个分片的元素数
+     */
+    public ParallelCascade(int parallelism, int threshold, int chunkSize) {
+        this.pool = new ForkJoinPool(parallelism < 1 ? Runtime.getRuntime().availableProcessors() : parallelism,
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("validation-cascade-" + thread.getPoolIndex());
+                    return thread;
+                }, null, false);
+        this.threshold = Math.max(threshold, 1);
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    /**
+     * 集合是否需要并行检查
+     */
+    boolean accepts(Collection<?> beans) {
+        return beans instanceof List && beans instanceof RandomAccess && beans.size() >= this.threshold;
+    }
+
+    /**
+     * 并行级联验证集合中的全部元素，null元素跳过
+     *
+     * @param beans  满足{@link #accepts(Collection)}的集合
+     * @param parent 当前验证上下文（各分片使用其副本）
+     * @return 全部元素验证通过时返回true
+     */
+    boolean allValid(List<?> beans, ValidationPlanContext parent) {
+        AllValidTask task = new AllValidTask(beans, 0, beans.size(), parent, new AtomicBoolean());
+        //嵌套的大集合直接在当前工作线程中拆分
+        if (ForkJoinTask.getPool() == this.pool) {
+            return task.invoke();
+        }
+        return this.pool.invoke(task);
+    }
+
+    /**
+     * 并行验证集合中的全部元素（Hibernate Validator），null元素跳过
+     *
+     * @param beans     满足{@link #accepts(Collection)}的集合
+     * @param validator 验证元素的Validator
+     * @param groups    验证分组
+     * @return 各元素的违反约束（下标同集合元素，验证通过或null元素为null）
+     */
+    @SuppressWarnings("unchecked")
+    Set<ConstraintViolation<Object>>[] validateAll(List<?> beans, Validator validator, Class<?>[] groups) {
+        Set<ConstraintViolation<Object>>[] violations = new Set[beans.size()];
+        ValidateAllTask task = new ValidateAllTask(beans, 0, beans.size(), validator, groups, violations);
+        //嵌套的大集合直接在当前工作线程中拆分
+        if (ForkJoinTask.getPool() == this.pool) {
+            task.invoke();
+        } else {
+            this.pool.invoke(task);
+        }
+        return violations;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+        try {
+            this.pool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final class AllValidTask extends RecursiveTask<Boolean> {
+
+        private final List<?> beans;
+        private final int from;
+        private final int to;
+        private final ValidationPlanContext parent;
+        /**
+         * 已有元素验证不通过（各分片共享）
+         */
+        private final AtomicBoolean invalid;
+
+        AllValidTask(List<?> beans, int from, int to, ValidationPlanContext parent, AtomicBoolean invalid) {
+            this.beans = beans;
+            this.from = from;
+            this.to = to;
+            this.parent = parent;
+            this.invalid = invalid;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (this.invalid.get()) {
+                return false;
+            }
+            if (this.to - this.from <= ParallelCascade.this.chunkSize) {
+                return this.computeChunk();
+            }
+            int middle = (this.from + this.to) >>> 1;
+            AllValidTask left = new AllValidTask(this.beans, this.from, middle, this.parent, this.invalid);
+            left.fork();
+            boolean rightValid = new AllValidTask(this.beans, middle, this.to, this.parent, this.invalid).compute();
+            if (!rightValid) {
+                left.tryUnfork();
+                return false;
+            }
+            return left.join();
+        }
+
+        private boolean computeChunk() {
+            ValidationPlanContext context = this.parent.copy();
+            for (int i = this.from; i < this.to; i++) {
+                if (this.invalid.get()) {
+                    return false;
+                }
+                Object bean = this.beans.get(i);
+                if (bean != null && !context.isValidBean(bean)) {
+                    this.invalid.set(true);
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final class ValidateAllTask extends RecursiveAction {
+
+        private final List<?> beans;
+        private final int from;
+        private final int to;
+        private final Validator validator;
+        private final Class<?>[] groups;
+        /**
+         * 各元素的违反约束（各分片写入各自的下标范围）
+         */
+        private final Set<ConstraintViolation<Object>>[] violations;
+
+        ValidateAllTask(List<?> beans, int from, int to, Validator validator, Class<?>[] groups, Set<ConstraintViolation<Object>>[] violations) {
+            this.beans = beans;
+            this.from = from;
+            this.to = to;
+            this.validator = validator;
+            this.groups = groups;
+            this.violations = violations;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= ParallelCascade.this.chunkSize) {
+                for (int i = this.from; i < this.to; i++) {
+                    Object bean = this.beans.get(i);
+                    if (bean != null) {
+                        Set<ConstraintViolation<Object>> beanViolations = this.validator.validate(bean, this.groups);
+                        this.violations[i] = beanViolations.isEmpty() ? null : beanViolations;
+                    }
+                }
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new ValidateAllTask(this.beans, this.from, middle, this.validator, this.groups, this.violations),
+                    new ValidateAllTask(this.beans, middle, this.to, this.validator, this.groups, this.violations));
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.luo.demo.validation.plan;
+
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.group.GroupSequenceProvider;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ElementKind;
+import javax.validation.GroupSequence;
+import javax.validation.Path;
+import javax.validation.TraversableResolver;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.annotation.ElementType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 验证计划 - 大集合级联验证（@Valid）拆分到{@link ParallelCascade}并行执行的Hibernate Validator验证
+ * <p>
+ * 待验证对象中级联验证的大集合属性（见{@link ParallelCascade#accepts(Collection)}）不再由Hibernate Validator级联，
+ * 其元素拆分到ForkJoinPool中分别验证，再与待验证对象自身的违反约束合并，属性路径与顺序验证一致（如orgs[2].orgName）。
+ * 合并后的顺序确定：先待验证对象自身的违反约束，再按元素下标，同一对象内按属性路径、提示信息模板排序。
+ * <p>
+ * 仅拆分待验证对象（根对象）直接级联的集合属性；以下情况按顺序验证：
+ * 无大集合、分组转换（@ConvertGroup）、分组序列（@GroupSequence、@GroupSequenceProvider）。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+final class ParallelCascadeValidator {
+
+    private static final Comparator<ConstraintViolation<?>> VIOLATION_ORDER = Comparator
+            .comparing((ConstraintViolation<?> violation) -> violation.getPropertyPath().toString())
+            .thenComparing(ConstraintViolation::getMessageTemplate)
+            .thenComparing(ConstraintViolation::getMessage);
+
+    private final ParallelCascade parallelCascade;
+    private final HibernateValidatorFactory validatorFactory;
+    private final Validator validator;
+
+    /**
+     * 待验证对象类型 -> 可拆分的级联属性（不可拆分时为空）
+     */
+    private final ConcurrentMap<Class<?>, List<CascadedProperty>> cascadedProperties = new ConcurrentHashMap<>();
+
+    ParallelCascadeValidator(ParallelCascade parallelCascade, HibernateValidatorFactory validatorFactory) {
+        this.parallelCascade = parallelCascade;
+        this.validatorFactory = validatorFactory;
+        this.validator = validatorFactory.getValidator();
+    }
+
+    /**
+     * 验证对象，大集合元素并行验证
+     *
+     * @param object 待验证对象
+     * @param groups 验证分组
+     * @return 违反约束（顺序确定）
+     */
+    @SuppressWarnings("unchecked")
+    <T> Set<ConstraintViolation<T>> validate(T object, Class<?>[] groups) {
+        List<CascadedProperty> properties = hasGroupSequence(groups)
+                ? Collections.emptyList()
+                : this.cascadedProperties.computeIfAbsent(object.getClass(), this::findCascadedProperties);
+        List<CascadedProperty> splitProperties = null;
+        List<List<?>> splitBeans = null;
+        for (CascadedProperty property : properties) {
+            Object value = property.reader.apply(object);
+            if (value instanceof Collection && this.parallelCascade.accepts((Collection<?>) value)) {
+                if (splitProperties == null) {
+                    splitProperties = new ArrayList<>(properties.size());
+                    splitBeans = new ArrayList<>(properties.size());
+                }
+                splitProperties.add(property);
+                splitBeans.add((List<?>) value);
+            }
+        }
+        if (splitProperties == null) {
+            return this.validator.validate(object, groups);
+        }
+
+        Set<String> splitNames = new HashSet<>();
+        for (CascadedProperty property : splitProperties) {
+            splitNames.add(property.name);
+        }
+        TraversableResolver traversableResolver = new SkipCascadeTraversableResolver(
+                this.validatorFactory.getTraversableResolver(), object, splitNames);
+        Set<ConstraintViolation<T>> violations = new LinkedHashSet<>();
+        addSorted(violations, this.validatorFactory.usingContext()
+                .traversableResolver(traversableResolver)
+                .getValidator()
+                .validate(object, groups));
+        for (int i = 0; i < splitProperties.size(); i++) {
+            String name = splitProperties.get(i).name;
+            Set<ConstraintViolation<Object>>[] beanViolations = this.parallelCascade.validateAll(splitBeans.get(i), this.validator, groups);
+            for (int index = 0; index < beanViolations.length; index++) {
+                if (beanViolations[index] == null) {
+                    continue;
+                }
+                List<ConstraintViolation<Object>> sorted = new ArrayList<>(beanViolations[index]);
+                sorted.sort(VIOLATION_ORDER);
+                for (ConstraintViolation<Object> violation : sorted) {
+                    violations.add(new CascadedConstraintViolation<>(object, name, index, violation));
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static <T> void addSorted(Set<ConstraintViolation<T>> violations, Set<ConstraintViolation<T>> unordered) {
+        List<ConstraintViolation<T>> sorted = new ArrayList<>(unordered);
+        sorted.sort(VIOLATION_ORDER);
+        violations.addAll(sorted);
+    }
+
+    private static boolean hasGroupSequence(Class<?>[] groups) {
+        for (Class<?> group : groups) {
+            if (group.isAnnotationPresent(GroupSequence.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<CascadedProperty> findCascadedProperties(Class<?> beanClass) {
+        if (beanClass.isAnnotationPresent(GroupSequence.class) || beanClass.isAnnotationPresent(GroupSequenceProvider.class)) {
+            return Collections.emptyList();
+        }
+        List<CascadedProperty> properties = new ArrayList<>();
+        for (PropertyDescriptor propertyDescriptor : this.validator.getConstraintsForClass(beanClass).getConstrainedProperties()) {
+            if (isSplittable(propertyDescriptor)) {
+                Function<Object, Object> reader = reader(beanClass, propertyDescriptor.getPropertyName());
+                if (reader != null) {
+                    properties.add(new CascadedProperty(propertyDescriptor.getPropertyName(), reader));
+                }
+            }
+        }
+        return properties.isEmpty() ? Collections.emptyList() : properties;
+    }
+
+    /**
+     * 属性级联验证（@Valid List&lt;T&gt;或List&lt;@Valid T&gt;）且无分组转换
+     */
+    private static boolean isSplittable(PropertyDescriptor propertyDescriptor) {
+        if (!propertyDescriptor.getGroupConversions().isEmpty()) {
+            return false;
+        }
+        boolean cascaded = propertyDescriptor.isCascaded();
+        for (ContainerElementTypeDescriptor elementDescriptor : propertyDescriptor.getConstrainedContainerElementTypes()) {
+            if (!elementDescriptor.getGroupConversions().isEmpty()) {
+                return false;
+            }
+            cascaded |= elementDescriptor.isCascaded();
+        }
+        return cascaded;
+    }
+
+    /**
+     * 与Hibernate Validator取值方式一致：getter上声明@Valid时调用getter，否则读取字段
+     */
+    private static Function<Object, Object> reader(Class<?> beanClass, String propertyName) {
+        java.beans.PropertyDescriptor beanProperty = BeanUtils.getPropertyDescriptor(beanClass, propertyName);
+        Method getter = beanProperty == null ? null : beanProperty.getReadMethod();
+        Field field = ReflectionUtils.findField(beanClass, propertyName);
+        if (getter != null && (field == null || isValidAnnotated(getter.isAnnotationPresent(Valid.class), getter.getAnnotatedReturnType()))) {
+            return bean -> ReflectionUtils.invokeMethod(getter, bean);
+        }
+        if (field == null) {
+            return null;
+        }
+        ReflectionUtils.makeAccessible(field);
+        return bean -> ReflectionUtils.getField(field, bean);
+    }
+
+    private static boolean isValidAnnotated(boolean annotated, AnnotatedType annotatedType) {
+        if (annotated || annotatedType.isAnnotationPresent(Valid.class)) {
+            return true;
+        }
+        if (annotatedType instanceof AnnotatedParameterizedType) {
+            for (AnnotatedType typeArgument : ((AnnotatedParameterizedType) annotatedType).getAnnotatedActualTypeArguments()) {
+                if (typeArgument.isAnnotationPresent(Valid.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class CascadedProperty {
+
+        private final String name;
+        private final Function<Object, Object> reader;
+
+        CascadedProperty(String name, Function<Object, Object> reader) {
+            this.name = name;
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * 不级联验证根对象中已拆分的集合属性，其余同delegate
+     */
+    private static final class SkipCascadeTraversableResolver implements TraversableResolver {
+
+        private final TraversableResolver delegate;
+        private final Object rootBean;
+        private final Set<String> skipNames;
+
+        SkipCascadeTraversableResolver(TraversableResolver delegate, Object rootBean, Set<String> skipNames) {
+            this.delegate = delegate;
+            this.rootBean = rootBean;
+            this.skipNames = skipNames;
+        }
+
+        @Override
+        public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                                   Path pathToTraversableObject, ElementType elementType) {
+            return this.delegate.isReachable(traversableObject, traversableProperty, rootBeanType, pathToTraversableObject, elementType);
+        }
+
+        @Override
+        public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                                    Path pathToTraversableObject, ElementType elementType) {
+            if (traversableObject == this.rootBean && this.skipNames.contains(traversableProperty.getName())
+                    && isRootPath(pathToTraversableObject)) {
+                return false;
+            }
+            return this.delegate.isCascadable(traversableObject, traversableProperty, rootBeanType, pathToTraversableObject, elementType);
+        }
+
+        private static boolean isRootPath(Path path) {
+            for (Path.Node node : path) {
+                if (node.getName() != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 集合元素的违反约束，以根对象为rootBean，属性路径前缀为集合属性及元素下标（如orgs[2].orgName）
+     */
+    private static final class CascadedConstraintViolation<T> implements ConstraintViolation<T> {
+
+        private final T rootBean;
+        private final ConstraintViolation<Object> delegate;
+        private final CascadedPath propertyPath;
+
+        CascadedConstraintViolation(T rootBean, String propertyName, int index, ConstraintViolation<Object> delegate) {
+            this.rootBean = rootBean;
+            this.delegate = delegate;
+            this.propertyPath = new CascadedPath(propertyName, index, delegate.getPropertyPath());
+        }
+
+        @Override
+        public String getMessage() {
+            return this.delegate.getMessage();
+        }
+
+        @Override
+        public String getMessageTemplate() {
+            return this.delegate.getMessageTemplate();
+        }
+
+        @Override
+        public T getRootBean() {
+            return this.rootBean;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Class<T> getRootBeanClass() {
+            return (Class<T>) this.rootBean.getClass();
+        }
+
+        @Override
+        public Object getLeafBean() {
+            return this.delegate.getLeafBean();
+        }
+
+        @Override
+        public Object[] getExecutableParameters() {
+            return null;
+        }
+
+        @Override
+        public Object getExecutableReturnValue() {
+            return null;
+        }
+
+        @Override
+        public Path getPropertyPath() {
+            return this.propertyPath;
+        }
+
+        @Override
+        public Object getInvalidValue() {
+            return this.delegate.getInvalidValue();
+        }
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return this.delegate.getConstraintDescriptor();
+        }
+
+        @Override
+        public <U> U unwrap(Class<U> type) {
+            if (type.isInstance(this)) {
+                return type.cast(this);
+            }
+            return this.delegate.unwrap(type);
+        }
+
+        @Override
+        public String toString() {
+            return "ConstraintViolation{propertyPath=" + this.propertyPath + ", message='" + this.getMessage() + "'}";
+        }
+    }
+
+    /**
+     * 属性路径：集合属性节点 + 元素路径（首个节点标记为集合中的元素及其下标）
+     */
+    private static final class CascadedPath implements Path {
+
+        private final List<Node> nodes;
+        private final String path;
+
+        CascadedPath(String propertyName, int index, Path elementPath) {
+            List<Node> nodes = new ArrayList<>();
+            nodes.add(new CascadedNode(propertyName, ElementKind.PROPERTY, false, null));
+            Iterator<Node> elementNodes = elementPath.iterator();
+            if (elementNodes.hasNext()) {
+                Node first = elementNodes.next();
+                nodes.add(new CascadedNode(first.getName(), first.getKind(), true, index));
+                elementNodes.forEachRemaining(nodes::add);
+            } else {
+                nodes.add(new CascadedNode(null, ElementKind.BEAN, true, index));
+            }
+            this.nodes = Collections.unmodifiableList(nodes);
+            String element = elementPath.toString();
+            this.path = propertyName + "[" + index + "]" + (element.isEmpty() ? "" : "." + element);
+        }
+
+        @Override
+        public Iterator<Node> iterator() {
+            return this.nodes.iterator();
+        }
+
+        @Override
+        public String toString() {
+            return this.path;
+        }
+    }
+
+    private static final class CascadedNode implements Path.Node {
+
+        private final String name;
+        private final ElementKind kind;
+        private final boolean inIterable;
+        private final Integer index;
+
+        CascadedNode(String name, ElementKind kind, boolean inIterable, Integer index) {
+            this.name = name;
+            this.kind = kind;
+            this.inIterable = inIterable;
+            this.index = index;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public boolean isInIterable() {
+            return this.inIterable;
+        }
+
+        @Override
+        public Integer getIndex() {
+            return this.index;
+        }
+
+        @Override
+        public Object getKey() {
+            return null;
+        }
+
+        @Override
+        public ElementKind getKind() {
+            return this.kind;
+        }
+
+        @Override
+        public <N extends Path.Node> N as(Class<N> nodeType) {
+            return nodeType.cast(this);
+        }
+
+        @Override
+        public String toString() {
+            return this.name == null ? "" : this.name;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.luo.demo.validation.plan;
+
+import org.springframework.util.StringUtils;
+
+import javax.validation.constraints.Pattern;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 验证计划 - 生成代码中使用的检查方法（与Hibernate Validator对应的ConstraintValidator语义一致）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class PlanChecks {
+
+    /**
+     * 默认@Email（未指定regexp、flags）可接受地址的严格子集：ASCII的dot-atom本地部分 + 域名标签（不含引号、IP地址、国际化域名），
+     * 匹配的地址Hibernate Validator均验证通过；不匹配时计划结果为不通过，由Hibernate Validator重新验证，故不影响验证结果
+     */
+    private static final java.util.regex.Pattern EMAIL = java.util.regex.Pattern.compile(
+            "[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]+)*"
+                    + "@[A-Za-z0-9](?:[A-Za-z0-9-]{0,61}[A-Za-z0-9])?(?:\\.[A-Za-z0-9](?:[A-Za-z0-9-]{0,61}[A-Za-z0-9])?)*");
+
+    private static final int MAX_EMAIL_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_EMAIL_DOMAIN_LENGTH = 255;
+
+    private PlanChecks() {
+    }
+
+    /**
+     * 同@NotBlank：非null且trim后长度大于0
+     */
+    public static boolean notBlank(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean size(int size, int min, int max) {
+        return size >= min && size <= max;
+    }
+
+    /**
+     * 同@Email的子集（见{@link #EMAIL}）：返回true时Hibernate Validator一定验证通过，返回false时需由Hibernate Validator验证
+     */
+    public static boolean email(CharSequence value) {
+        int at = value.toString().indexOf('@');
+        return at > 0 && at <= MAX_EMAIL_LOCAL_PART_LENGTH && value.length() - at - 1 <= MAX_EMAIL_DOMAIN_LENGTH
+                && EMAIL.matcher(value).matches();
+    }
+
+    /**
+     * 字段读取（同Hibernate Validator读取字段约束的属性值，不经过getter），由生成代码保存为静态常量
+     *
+     * @param type 声明字段的类
+     * @param name 字段名
+     * @return 类型为(Object)字段类型的MethodHandle
+     */
+    public static MethodHandle fieldGetter(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field).asType(MethodType.methodType(field.getType(), Object.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("failed to access field " + type.getName() + "." + name, ex);
+        }
+    }
+
+    /**
+     * 字段读取失败（RuntimeException、Error直接抛出）
+     */
+    public static IllegalStateException fieldReadFailed(Throwable ex) {
+        if (ex instanceof RuntimeException) {
+            throw (RuntimeException) ex;
+        }
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+        return new IllegalStateException(ex);
+    }
+
+    /**
+     * 同@DateFormat：空白字符串视为合法
+     */
+    public static boolean dateFormat(CharSequence value, com.luo.demo.validation.constraints.DateFormatMatcher matcher) {
+        return !StringUtils.hasText(value) || matcher.matches(value);
+    }
+
+    public static java.util.regex.Pattern pattern(String regexp, Pattern.Flag... flags) {
+        int intFlags = 0;
+        for (Pattern.Flag flag : flags) {
+            intFlags |= flag.getValue();
+        }
+        return java.util.regex.Pattern.compile(regexp, intFlags);
+    }
+
+    public static int compareToNow(LocalDate value) {
+        return value.compareTo(LocalDate.now());
+    }
+
+    public static int compareToNow(LocalDateTime value) {
+        return value.compareTo(LocalDateTime.now());
+    }
+
+    public static int compareToNow(Instant value) {
+        return value.compareTo(Instant.now());
+    }
+}
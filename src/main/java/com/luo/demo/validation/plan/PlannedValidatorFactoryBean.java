@@ -0,0 +1,221 @@
+package com.luo.demo.validation.plan;
+
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.executable.ExecutableValidator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 验证计划 - Validator
+ * <p>
+ * 存在编译期生成的验证计划时先按计划检查，确定通过则直接返回；
+ * 不通过或无验证计划时回退到Hibernate Validator（反射），以保证违反约束的提示信息、属性路径与原实现一致。
+ * 当前调用需要快速失败时（见{@link #setFailFastCondition(BooleanSupplier)}），回退时使用fail fast模式的Hibernate Validator。
+ * 设置{@link #setParallelCascade(ParallelCascade)}后，非快速失败的Hibernate Validator验证将根对象中级联验证的大集合元素
+ * 拆分并行验证（见{@link ParallelCascadeValidator}），与是否启用验证计划无关
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class PlannedValidatorFactoryBean extends LocalValidatorFactoryBean {
+
+    private static final Object[] NO_VALIDATION_HINTS = {};
+
+    private ValidationPlans validationPlans = ValidationPlans.empty();
+
+    /**
+     * 当前调用是否快速失败
+     */
+    private BooleanSupplier failFastCondition = () -> false;
+
+    /**
+     * 待验证对象在当前调用中是否已验证通过（如命中验证结果缓存），是则跳过MVC参数验证
+     */
+    private Predicate<Object> validatedCondition = target -> false;
+
+    /**
+     * 快速失败标记（作为@Validated的验证提示，如@Validated({FailFast.class, Update.class})），不作为验证分组；
+     * 用于无法通过failFastCondition判断的场景（如WebFlux）
+     */
+    private Class<?> failFastHint;
+
+    /**
+     * 验证观察者（如验证耗时统计），null时不统计
+     */
+    private ValidationObserver validationObserver;
+
+    /**
+     * fail fast模式的Validator，与默认Validator共享同一ValidatorFactory（元数据、ConstraintValidator实例）
+     */
+    private Validator failFastValidator;
+
+    /**
+     * 大集合级联验证的并行执行，null时顺序验证
+     */
+    private ParallelCascade parallelCascade;
+
+    private ParallelCascadeValidator parallelCascadeValidator;
+
+    public void setValidationPlans(ValidationPlans validationPlans) {
+        this.validationPlans = validationPlans;
+    }
+
+    public ValidationPlans getValidationPlans() {
+        return this.validationPlans;
+    }
+
+    public void setFailFastCondition(BooleanSupplier failFastCondition) {
+        this.failFastCondition = failFastCondition;
+    }
+
+    public void setValidatedCondition(Predicate<Object> validatedCondition) {
+        this.validatedCondition = validatedCondition;
+    }
+
+    public void setFailFastHint(Class<?> failFastHint) {
+        this.failFastHint = failFastHint;
+    }
+
+    public Class<?> getFailFastHint() {
+        return this.failFastHint;
+    }
+
+    public void setParallelCascade(ParallelCascade parallelCascade) {
+        this.parallelCascade = parallelCascade;
+    }
+
+    public void setValidationObserver(ValidationObserver validationObserver) {
+        this.validationObserver = validationObserver;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        HibernateValidatorFactory validatorFactory = this.unwrap(HibernateValidatorFactory.class);
+        this.failFastValidator = validatorFactory
+                .usingContext()
+                .failFast(true)
+                .getValidator();
+        if (this.parallelCascade != null) {
+            this.parallelCascadeValidator = new ParallelCascadeValidator(this.parallelCascade, validatorFactory);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.parallelCascade != null) {
+            this.parallelCascade.shutdown();
+        }
+        ParallelCascade planParallelCascade = this.validationPlans.getParallelCascade();
+        if (planParallelCascade != null && planParallelCascade != this.parallelCascade) {
+            planParallelCascade.shutdown();
+        }
+        super.destroy();
+    }
+
+    @Override
+    public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+        boolean failFast = this.hasFailFastHint((Object[]) groups);
+        if (failFast) {
+            groups = this.asValidationGroups((Object[]) groups);
+        }
+        if (this.validationObserver == null) {
+            return this.doValidate(object, groups, failFast);
+        }
+        long start = System.nanoTime();
+        Set<ConstraintViolation<T>> constraintViolations = this.doValidate(object, groups, failFast);
+        this.validationObserver.onValidated(object, groups, System.nanoTime() - start, constraintViolations.isEmpty());
+        return constraintViolations;
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        this.validate(target, errors, NO_VALIDATION_HINTS);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (this.validatedCondition.test(target)) {
+            return;
+        }
+        boolean failFast = this.hasFailFastHint(validationHints);
+        Class<?>[] groups = this.asValidationGroups(validationHints);
+        if (this.validationObserver == null) {
+            this.doValidate(target, errors, groups, failFast);
+            return;
+        }
+        int errorCount = errors.getErrorCount();
+        long start = System.nanoTime();
+        this.doValidate(target, errors, groups, failFast);
+        this.validationObserver.onValidated(target, groups, System.nanoTime() - start, errors.getErrorCount() == errorCount);
+    }
+
+    private <T> Set<ConstraintViolation<T>> doValidate(T object, Class<?>[] groups, boolean failFast) {
+        if (this.validationPlans.isValid(object, groups)) {
+            return Collections.emptySet();
+        }
+        if (failFast || this.failFastCondition.getAsBoolean()) {
+            return this.failFastValidator.validate(object, groups);
+        }
+        if (this.parallelCascadeValidator != null) {
+            return this.parallelCascadeValidator.validate(object, groups);
+        }
+        return super.validate(object, groups);
+    }
+
+    private void doValidate(Object target, Errors errors, Class<?>[] groups, boolean failFast) {
+        if (this.validationPlans.isValid(target, groups)) {
+            return;
+        }
+        if (failFast || this.failFastCondition.getAsBoolean()) {
+            this.processConstraintViolations(this.failFastValidator.validate(target, groups), errors);
+            return;
+        }
+        if (this.parallelCascadeValidator != null) {
+            this.processConstraintViolations(this.parallelCascadeValidator.validate(target, groups), errors);
+            return;
+        }
+        super.validate(target, errors, (Object[]) groups);
+    }
+
+    @Override
+    public ExecutableValidator forExecutables() {
+        if (this.failFastCondition.getAsBoolean()) {
+            return this.failFastValidator.forExecutables();
+        }
+        return super.forExecutables();
+    }
+
+    private boolean hasFailFastHint(Object... validationHints) {
+        if (this.failFastHint != null && validationHints != null) {
+            for (Object hint : validationHints) {
+                if (hint == this.failFastHint) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 同SpringValidatorAdapter：仅Class类型的hint作为验证分组（快速失败标记除外）
+     */
+    private Class<?>[] asValidationGroups(Object... validationHints) {
+        List<Class<?>> groups = new ArrayList<>(validationHints.length);
+        for (Object hint : validationHints) {
+            if (hint instanceof Class && hint != this.failFastHint) {
+                groups.add((Class<?>) hint);
+            }
+        }
+        return groups.toArray(new Class<?>[0]);
+    }
+}
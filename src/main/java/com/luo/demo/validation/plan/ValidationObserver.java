@@ -0,0 +1,21 @@
+package com.luo.demo.validation.plan;
+
+/**
+ * 验证计划 - 验证观察者（如记录验证耗时），在调用验证的线程中同步回调，实现需足够轻量
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@FunctionalInterface
+public interface ValidationObserver {
+
+    /**
+     * 完成一次bean验证（含验证计划及Hibernate Validator）
+     *
+     * @param target        待验证对象
+     * @param groups        验证分组（为空时为Default）
+     * @param durationNanos 验证耗时（纳秒）
+     * @param valid         是否验证通过
+     */
+    void onValidated(Object target, Class<?>[] groups, long durationNanos, boolean valid);
+}
@@ -0,0 +1,27 @@
+package com.luo.demo.validation.plan;
+
+/**
+ * 验证计划 - 由ValidationPlanProcessor在编译期为DTO生成，
+ * 直接调用getter并内联各constraint的检查逻辑，无需反射
+ * <p>
+ * 生成的实现通过META-INF/services/com.luo.demo.validation.plan.ValidationPlan注册（SPI）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public interface ValidationPlan<T> {
+
+    /**
+     * @return 验证计划对应的bean类型（精确匹配运行时类型）
+     */
+    Class<T> beanType();
+
+    /**
+     * 按验证分组检查bean
+     *
+     * @param bean    待验证bean
+     * @param context 验证上下文（分组、级联）
+     * @return true - 确定没有任何违反约束；false - 存在违反约束或无法确定，需由反射方式（Hibernate Validator）重新验证
+     */
+    boolean isValid(T bean, ValidationPlanContext context);
+}
@@ -0,0 +1,93 @@
+package com.luo.demo.validation.plan;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 验证计划 - 单次验证的上下文（非线程安全，每次验证新建）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class ValidationPlanContext {
+
+    /**
+     * 最大级联深度，超过后交由反射方式验证（防止对象图存在环）
+     */
+    private static final int MAX_CASCADE_DEPTH = 32;
+
+    private final ValidationPlans validationPlans;
+    private final Class<?>[] groups;
+    private int depth;
+
+    ValidationPlanContext(ValidationPlans validationPlans, Class<?>[] groups) {
+        this.validationPlans = validationPlans;
+        this.groups = groups;
+    }
+
+    /**
+     * 复制当前上下文（用于并行检查的分片，分组及级联深度与当前上下文一致）
+     */
+    ValidationPlanContext copy() {
+        ValidationPlanContext context = new ValidationPlanContext(this.validationPlans, this.groups);
+        context.depth = this.depth;
+        return context;
+    }
+
+    /**
+     * 当前验证分组是否包含constraint声明的分组（含分组继承）
+     *
+     * @param constraintGroups constraint声明的分组（未声明时为Default）
+     * @return 是否需要检查该constraint
+     */
+    public boolean inGroups(Class<?>[] constraintGroups) {
+        for (Class<?> constraintGroup : constraintGroups) {
+            for (Class<?> group : this.groups) {
+                if (constraintGroup.isAssignableFrom(group)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 级联验证（@Valid）单个bean
+     *
+     * @param bean 非null的bean
+     * @return bean运行时类型存在验证计划且验证通过时返回true
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean isValidBean(Object bean) {
+        ValidationPlan plan = this.validationPlans.get(bean.getClass());
+        if (plan == null || this.depth >= MAX_CASCADE_DEPTH) {
+            return false;
+        }
+        this.depth++;
+        try {
+            return plan.isValid(bean, this);
+        } finally {
+            this.depth--;
+        }
+    }
+
+    /**
+     * 级联验证（@Valid）集合中的全部元素，null元素跳过；
+     * 启用并行检查且集合足够大时，由{@link ParallelCascade}并行检查
+     *
+     * @param beans 非null的集合
+     * @return 全部元素验证通过时返回true
+     */
+    public boolean allValid(Collection<?> beans) {
+        ParallelCascade parallelCascade = this.validationPlans.getParallelCascade();
+        if (parallelCascade != null && parallelCascade.accepts(beans)) {
+            return parallelCascade.allValid((List<?>) beans, this);
+        }
+        for (Object bean : beans) {
+            if (bean != null && !this.isValidBean(bean)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+package com.luo.demo.validation.plan;
+
+import javax.validation.GroupSequence;
+import javax.validation.groups.Default;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * 验证计划 - 注册表（通过ServiceLoader加载编译期生成的验证计划）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class ValidationPlans {
+
+    private static final Class<?>[] DEFAULT_GROUPS = {Default.class};
+
+    private static final ValidationPlans EMPTY = new ValidationPlans(Collections.emptyMap());
+
+    private final Map<Class<?>, ValidationPlan<?>> plans;
+
+    /**
+     * 大集合并行检查，null时不启用
+     */
+    private final ParallelCascade parallelCascade;
+
+    private ValidationPlans(Map<Class<?>, ValidationPlan<?>> plans) {
+        this(plans, null);
+    }
+
+    private ValidationPlans(Map<Class<?>, ValidationPlan<?>> plans, ParallelCascade parallelCascade) {
+        this.plans = plans;
+        this.parallelCascade = parallelCascade;
+    }
+
+    /**
+     * 加载classLoader下全部验证计划，无法加载的计划忽略（对应类型回退到反射验证）
+     *
+     * @param classLoader 类加载器
+     * @return 验证计划注册表
+     */
+    public static ValidationPlans load(ClassLoader classLoader) {
+        Map<Class<?>, ValidationPlan<?>> plans = new HashMap<>();
+        Iterator<ValidationPlan> planIterator = ServiceLoader.load(ValidationPlan.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!planIterator.hasNext()) {
+                    break;
+                }
+                ValidationPlan<?> plan = planIterator.next();
+                plans.put(plan.beanType(), plan);
+            } catch (ServiceConfigurationError error) {
+                //skip the broken plan
+            }
+        }
+        return new ValidationPlans(Collections.unmodifiableMap(plans));
+    }
+
+    public static ValidationPlans empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 获取类型对应的验证计划
+     *
+     * @param beanType bean运行时类型
+     * @return 验证计划，不存在时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ValidationPlan<T> get(Class<T> beanType) {
+        return (ValidationPlan<T>) this.plans.get(beanType);
+    }
+
+    /**
+     * 启用大集合级联验证的并行检查
+     *
+     * @param parallelCascade 并行检查
+     * @return 共享验证计划的新注册表
+     */
+    public ValidationPlans withParallelCascade(ParallelCascade parallelCascade) {
+        return new ValidationPlans(this.plans, parallelCascade);
+    }
+
+    public ParallelCascade getParallelCascade() {
+        return this.parallelCascade;
+    }
+
+    public int size() {
+        return this.plans.size();
+    }
+
+    /**
+     * 通过验证计划检查bean
+     *
+     * @param bean   待验证bean
+     * @param groups 验证分组，为空时为Default
+     * @return true - 确定验证通过；false - 验证不通过或不存在验证计划（需回退到反射验证）
+     */
+    public boolean isValid(Object bean, Class<?>... groups) {
+        if (bean == null || this.plans.isEmpty() || !this.plans.containsKey(bean.getClass())) {
+            return false;
+        }
+        if (groups == null || groups.length == 0) {
+            groups = DEFAULT_GROUPS;
+        } else {
+            for (Class<?> group : groups) {
+                //group sequence is evaluated by Hibernate Validator
+                if (group.isAnnotationPresent(GroupSequence.class)) {
+                    return false;
+                }
+            }
+        }
+        return new ValidationPlanContext(this, groups).isValidBean(bean);
+    }
+}
@@ -0,0 +1,556 @@
+package com.luo.demo.validation.plan.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 验证计划 - 注解处理器
+ * <p>
+ * 为字段上声明了javax.validation约束（及自定义约束）的DTO生成XxxDto_ValidationPlan，
+ * 与Hibernate Validator一致读取字段值（而非getter）并内联检查逻辑，同时生成META-INF/services注册文件：
+ * 同包可访问的字段直接读取，其他字段通过静态常量MethodHandle读取（见PlanChecks.fieldGetter）。
+ * 存在不支持的约束（如类级别约束、getter约束、分组序列、@ConvertGroup分组转换、未知的自定义约束）时不生成，对应DTO回退到反射验证。
+ * {@code @Valid}级联不受分组限制，始终以当前验证分组验证级联对象（同Hibernate Validator）。
+ * <p>
+ * 注：本处理器在default-compile之前单独编译，不可依赖工程内其他类
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@SupportedAnnotationTypes("*")
+public class ValidationPlanProcessor extends AbstractProcessor {
+
+    static final String PLAN_SUFFIX = "_ValidationPlan";
+    private static final String PLAN_PACKAGE = "com.luo.demo.validation.plan";
+    private static final String SERVICE_FILE = "META-INF/services/" + PLAN_PACKAGE + ".ValidationPlan";
+
+    private static final String CONSTRAINT = "javax.validation.Constraint";
+    private static final String VALID = "javax.validation.Valid";
+    private static final String DEFAULT_GROUP = "javax.validation.groups.Default";
+    private static final String[] UNSUPPORTED_TYPE_ANNOTATIONS = {
+            "javax.validation.GroupSequence",
+            "org.hibernate.validator.group.GroupSequenceProvider"
+    };
+    private static final String CONVERT_GROUP = "javax.validation.groups.ConvertGroup";
+    private static final String CONVERT_GROUP_LIST = "javax.validation.groups.ConvertGroup.List";
+
+    private final List<String> generatedPlans = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.writeServiceFile();
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            this.processType(element);
+        }
+        return false;
+    }
+
+    private void processType(Element element) {
+        if (!element.getKind().equals(ElementKind.CLASS)) {
+            return;
+        }
+        TypeElement typeElement = (TypeElement) element;
+        for (TypeElement nestedType : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            if (nestedType.getModifiers().contains(Modifier.STATIC)) {
+                this.processType(nestedType);
+            }
+        }
+        if (typeElement.getModifiers().contains(Modifier.ABSTRACT)
+                || typeElement.getModifiers().contains(Modifier.PRIVATE)
+                || !typeElement.getTypeParameters().isEmpty()) {
+            return;
+        }
+        try {
+            PlanWriter planWriter = new PlanWriter(typeElement);
+            if (planWriter.collect()) {
+                this.generatedPlans.add(planWriter.write());
+            }
+        } catch (UnsupportedConstraintException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "no validation plan generated, fall back to reflection: " + ex.getMessage(), typeElement);
+        } catch (IOException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "failed to write validation plan: " + ex.getMessage(), typeElement);
+        }
+    }
+
+    private void writeServiceFile() {
+        if (this.generatedPlans.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject serviceFile = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = serviceFile.openWriter()) {
+                for (String generatedPlan : this.generatedPlans) {
+                    writer.write(generatedPlan);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "failed to write " + SERVICE_FILE + ": " + ex.getMessage());
+        }
+    }
+
+    private static boolean isAnnotation(AnnotationMirror annotationMirror, String annotationName) {
+        return ((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName);
+    }
+
+    private static String annotationName(AnnotationMirror annotationMirror) {
+        return ((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static boolean isConstraint(AnnotationMirror annotationMirror) {
+        for (AnnotationMirror metaAnnotation : annotationMirror.getAnnotationType().asElement().getAnnotationMirrors()) {
+            if (isAnnotation(metaAnnotation, CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 约束、@Valid，以及约束的容器注解（如@IdNo.List）
+     */
+    private boolean isValidationAnnotation(AnnotationMirror annotationMirror) {
+        if (isConstraint(annotationMirror) || isAnnotation(annotationMirror, VALID)
+                || isAnnotation(annotationMirror, CONVERT_GROUP) || isAnnotation(annotationMirror, CONVERT_GROUP_LIST)) {
+            return true;
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(annotationMirror.getAnnotationType().asElement().getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals("value") && method.getReturnType().getKind().equals(TypeKind.ARRAY)) {
+                TypeMirror componentType = ((javax.lang.model.type.ArrayType) method.getReturnType()).getComponentType();
+                if (componentType.getKind().equals(TypeKind.DECLARED)) {
+                    for (AnnotationMirror metaAnnotation : ((DeclaredType) componentType).asElement().getAnnotationMirrors()) {
+                        if (isAnnotation(metaAnnotation, CONSTRAINT)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static class UnsupportedConstraintException extends Exception {
+        UnsupportedConstraintException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 单个DTO的验证计划生成
+     */
+    private class PlanWriter {
+        private final TypeElement beanType;
+        private final Elements elements = processingEnv.getElementUtils();
+        private final Types types = processingEnv.getTypeUtils();
+
+        private final Map<String, String> groupConstants = new LinkedHashMap<>();
+        private final Map<String, String> otherConstants = new LinkedHashMap<>();
+        private final List<String> statements = new ArrayList<>();
+        private final List<String> cascadeStatements = new ArrayList<>();
+        private int valueIndex;
+
+        PlanWriter(TypeElement beanType) {
+            this.beanType = beanType;
+        }
+
+        /**
+         * 收集类继承体系中的全部字段约束
+         *
+         * @return 存在约束时返回true
+         */
+        boolean collect() throws UnsupportedConstraintException {
+            boolean constrained = false;
+            TypeElement currentType = this.beanType;
+            while (currentType != null && !currentType.getQualifiedName().contentEquals(Object.class.getName())) {
+                constrained |= this.collectType(currentType);
+                TypeMirror superclass = currentType.getSuperclass();
+                currentType = superclass.getKind().equals(TypeKind.DECLARED) ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+            }
+            return constrained;
+        }
+
+        private boolean collectType(TypeElement type) throws UnsupportedConstraintException {
+            for (AnnotationMirror annotationMirror : type.getAnnotationMirrors()) {
+                for (String unsupportedTypeAnnotation : UNSUPPORTED_TYPE_ANNOTATIONS) {
+                    if (isAnnotation(annotationMirror, unsupportedTypeAnnotation)) {
+                        throw new UnsupportedConstraintException("@" + unsupportedTypeAnnotation + " on " + type);
+                    }
+                }
+                if (isValidationAnnotation(annotationMirror)) {
+                    throw new UnsupportedConstraintException("class level constraint on " + type);
+                }
+            }
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                for (AnnotationMirror annotationMirror : method.getAnnotationMirrors()) {
+                    if (isValidationAnnotation(annotationMirror)) {
+                        throw new UnsupportedConstraintException("method level constraint on " + type + "." + method.getSimpleName());
+                    }
+                }
+            }
+            boolean constrained = false;
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                List<AnnotationMirror> fieldConstraints = new ArrayList<>();
+                for (AnnotationMirror annotationMirror : field.getAnnotationMirrors()) {
+                    if (isValidationAnnotation(annotationMirror)) {
+                        fieldConstraints.add(annotationMirror);
+                    }
+                }
+                if (field.asType().getKind().equals(TypeKind.DECLARED)) {
+                    for (TypeMirror typeArgument : ((DeclaredType) field.asType()).getTypeArguments()) {
+                        if (!typeArgument.getAnnotationMirrors().isEmpty()) {
+                            throw new UnsupportedConstraintException("container element constraint on " + type + "." + field.getSimpleName());
+                        }
+                    }
+                }
+                if (!fieldConstraints.isEmpty()) {
+                    this.collectField(type, field, fieldConstraints);
+                    constrained = true;
+                }
+            }
+            return constrained;
+        }
+
+        private void collectField(TypeElement type, VariableElement field, List<AnnotationMirror> fieldConstraints) throws UnsupportedConstraintException {
+            TypeMirror fieldType = field.asType();
+            String value = "v" + this.valueIndex++;
+            this.statements.add(this.readField(type, field, value));
+            for (AnnotationMirror constraint : fieldConstraints) {
+                String check = this.check(constraint, fieldType, value);
+                if (check == null) {
+                    throw new UnsupportedConstraintException("@" + annotationName(constraint) + " on " + type + "." + field.getSimpleName());
+                }
+                if (isAnnotation(constraint, VALID)) {
+                    //@Valid has no groups: the cascade always runs with the requested groups (as Hibernate Validator does),
+                    //cascaded checks are the most expensive, evaluate them last
+                    this.cascadeStatements.add("if (!(" + check + ")) {\n            return false;\n        }");
+                    continue;
+                }
+                this.statements.add("if (" + this.groupsConstant(constraint).toLowerCase() + " && !(" + check + ")) {\n            return false;\n        }");
+            }
+        }
+
+        /**
+         * 源码中的类型名（去除类型上的注解）
+         */
+        private String typeName(TypeMirror type) {
+            switch (type.getKind()) {
+                case ARRAY:
+                    return this.typeName(((javax.lang.model.type.ArrayType) type).getComponentType()) + "[]";
+                case DECLARED:
+                    DeclaredType declaredType = (DeclaredType) type;
+                    StringBuilder typeName = new StringBuilder(((TypeElement) declaredType.asElement()).getQualifiedName());
+                    if (!declaredType.getTypeArguments().isEmpty()) {
+                        List<String> typeArguments = new ArrayList<>();
+                        for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+                            typeArguments.add(this.typeName(typeArgument));
+                        }
+                        typeName.append('<').append(String.join(", ", typeArguments)).append('>');
+                    }
+                    return typeName.toString();
+                case WILDCARD:
+                    javax.lang.model.type.WildcardType wildcardType = (javax.lang.model.type.WildcardType) type;
+                    if (wildcardType.getExtendsBound() != null) {
+                        return "? extends " + this.typeName(wildcardType.getExtendsBound());
+                    }
+                    if (wildcardType.getSuperBound() != null) {
+                        return "? super " + this.typeName(wildcardType.getSuperBound());
+                    }
+                    return "?";
+                default:
+                    if (type.getKind().isPrimitive()) {
+                        return type.getKind().name().toLowerCase();
+                    }
+                    //type variables etc.
+                    return this.typeName(this.types.erasure(type));
+            }
+        }
+
+        /**
+         * 读取字段值到局部变量的语句
+         */
+        private String readField(TypeElement type, VariableElement field, String value) {
+            String typeName = this.typeName(field.asType());
+            String name = field.getSimpleName().toString();
+            if (!field.getModifiers().contains(Modifier.PRIVATE)
+                    && this.elements.getPackageOf(type).equals(this.elements.getPackageOf(this.beanType))) {
+                return "final " + typeName + " " + value + " = ((" + type.getQualifiedName() + ") bean)." + name + ";";
+            }
+            String getter = this.constant("java.lang.invoke.MethodHandle",
+                    PLAN_PACKAGE + ".PlanChecks.fieldGetter(" + type.getQualifiedName() + ".class, \"" + name + "\")");
+            return "final " + typeName + " " + value + ";\n"
+                    + "        try {\n"
+                    + "            " + value + " = (" + typeName + ") " + getter + ".invokeExact((Object) bean);\n"
+                    + "        } catch (Throwable ex) {\n"
+                    + "            throw " + PLAN_PACKAGE + ".PlanChecks.fieldReadFailed(ex);\n"
+                    + "        }";
+        }
+
+        private String groupsConstant(AnnotationMirror constraint) {
+            List<String> groups = new ArrayList<>();
+            Object groupsValue = this.attribute(constraint, "groups");
+            if (groupsValue instanceof List) {
+                for (Object group : (List<?>) groupsValue) {
+                    groups.add(this.types.erasure((TypeMirror) ((AnnotationValue) group).getValue()) + ".class");
+                }
+            }
+            if (groups.isEmpty()) {
+                groups.add(DEFAULT_GROUP + ".class");
+            }
+            String groupsLiteral = String.join(", ", groups);
+            return this.groupConstants.computeIfAbsent(groupsLiteral, key -> "GROUPS_" + this.groupConstants.size());
+        }
+
+        private String constant(String type, String initializer) {
+            String declaration = type + " = " + initializer;
+            String name = this.otherConstants.get(declaration);
+            if (name == null) {
+                name = "CONSTANT_" + this.otherConstants.size();
+                this.otherConstants.put(declaration, name);
+            }
+            return name;
+        }
+
+        private Object attribute(AnnotationMirror annotationMirror, String name) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.elements.getElementValuesWithDefaults(annotationMirror).entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals(name)) {
+                    return entry.getValue().getValue();
+                }
+            }
+            return null;
+        }
+
+        private String stringLiteral(AnnotationMirror annotationMirror, String name) {
+            return this.elements.getConstantExpression(this.attribute(annotationMirror, name));
+        }
+
+        private String patternConstant(AnnotationMirror annotationMirror) {
+            StringBuilder flags = new StringBuilder();
+            Object flagsValue = this.attribute(annotationMirror, "flags");
+            if (flagsValue instanceof List) {
+                for (Object flag : (List<?>) flagsValue) {
+                    flags.append(", javax.validation.constraints.Pattern.Flag.").append(((VariableElement) ((AnnotationValue) flag).getValue()).getSimpleName());
+                }
+            }
+            return this.constant("java.util.regex.Pattern",
+                    PLAN_PACKAGE + ".PlanChecks.pattern(" + this.stringLiteral(annotationMirror, "regexp") + flags + ")");
+        }
+
+        private String ruleConstant(AnnotationMirror annotationMirror) {
+            String validator = ((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName() + "Validator";
+            return this.constant("com.luo.demo.validation.rule.ConstraintRule",
+                    validator + ".rule(" + this.stringLiteral(annotationMirror, "rule") + ")");
+        }
+
+        private boolean isAssignable(TypeMirror type, String className) {
+            TypeElement typeElement = this.elements.getTypeElement(className);
+            return typeElement != null && this.types.isAssignable(this.types.erasure(type), this.types.erasure(typeElement.asType()));
+        }
+
+        private boolean isIntegral(TypeMirror type) {
+            switch (type.getKind()) {
+                case LONG:
+                case INT:
+                case SHORT:
+                case BYTE:
+                    return true;
+                case DECLARED:
+                    String typeName = this.types.erasure(type).toString();
+                    return typeName.equals(Long.class.getName()) || typeName.equals(Integer.class.getName())
+                            || typeName.equals(Short.class.getName()) || typeName.equals(Byte.class.getName());
+                default:
+                    return false;
+            }
+        }
+
+        private String sizeOf(TypeMirror type, String value) {
+            if (this.isAssignable(type, CharSequence.class.getName())) {
+                return value + ".length()";
+            }
+            if (this.isAssignable(type, java.util.Collection.class.getName()) || this.isAssignable(type, java.util.Map.class.getName())) {
+                return value + ".size()";
+            }
+            if (type.getKind().equals(TypeKind.ARRAY)) {
+                return value + ".length";
+            }
+            return null;
+        }
+
+        private String nullOr(TypeMirror type, String value, String check) {
+            return type.getKind().isPrimitive() ? check : value + " == null || " + check;
+        }
+
+        /**
+         * 生成单个约束的检查表达式
+         *
+         * @return 检查表达式，不支持时返回null
+         */
+        private String check(AnnotationMirror constraint, TypeMirror type, String value) {
+            boolean charSequence = this.isAssignable(type, CharSequence.class.getName());
+            String sizeOf = this.sizeOf(type, value);
+            switch (annotationName(constraint)) {
+                case VALID:
+                    if (this.isAssignable(type, java.util.Collection.class.getName())) {
+                        return value + " == null || context.allValid(" + value + ")";
+                    }
+                    if (type.getKind().equals(TypeKind.DECLARED) && !this.isAssignable(type, java.util.Map.class.getName())
+                            && !this.isAssignable(type, Iterable.class.getName()) && !this.isAssignable(type, java.util.Optional.class.getName())) {
+                        return value + " == null || context.isValidBean(" + value + ")";
+                    }
+                    return null;
+                case "javax.validation.constraints.NotNull":
+                    return type.getKind().isPrimitive() ? "true" : value + " != null";
+                case "javax.validation.constraints.Null":
+                    return type.getKind().isPrimitive() ? null : value + " == null";
+                case "javax.validation.constraints.NotBlank":
+                    return charSequence ? PLAN_PACKAGE + ".PlanChecks.notBlank(" + value + ")" : null;
+                case "javax.validation.constraints.NotEmpty":
+                    return sizeOf == null ? null : value + " != null && " + sizeOf + " > 0";
+                case "javax.validation.constraints.Size":
+                    return sizeOf == null ? null : this.nullOr(type, value, PLAN_PACKAGE + ".PlanChecks.size(" + sizeOf + ", "
+                            + this.attribute(constraint, "min") + ", " + this.attribute(constraint, "max") + ")");
+                case "javax.validation.constraints.Positive":
+                    return this.isIntegral(type) ? this.nullOr(type, value, value + " > 0") : null;
+                case "javax.validation.constraints.PositiveOrZero":
+                    return this.isIntegral(type) ? this.nullOr(type, value, value + " >= 0") : null;
+                case "javax.validation.constraints.Negative":
+                    return this.isIntegral(type) ? this.nullOr(type, value, value + " < 0") : null;
+                case "javax.validation.constraints.NegativeOrZero":
+                    return this.isIntegral(type) ? this.nullOr(type, value, value + " <= 0") : null;
+                case "javax.validation.constraints.Min":
+                    return this.isIntegral(type) ? this.nullOr(type, value, value + " >= " + this.attribute(constraint, "value") + "L") : null;
+                case "javax.validation.constraints.Max":
+                    return this.isIntegral(type) ? this.nullOr(type, value, value + " <= " + this.attribute(constraint, "value") + "L") : null;
+                case "org.hibernate.validator.constraints.Range":
+                    return this.isIntegral(type) ? this.nullOr(type, value, "(" + value + " >= " + this.attribute(constraint, "min") + "L && "
+                            + value + " <= " + this.attribute(constraint, "max") + "L)") : null;
+                case "javax.validation.constraints.Past":
+                    return this.temporalCheck(type, value, " < 0");
+                case "javax.validation.constraints.PastOrPresent":
+                    return this.temporalCheck(type, value, " <= 0");
+                case "javax.validation.constraints.Future":
+                    return this.temporalCheck(type, value, " > 0");
+                case "javax.validation.constraints.FutureOrPresent":
+                    return this.temporalCheck(type, value, " >= 0");
+                case "javax.validation.constraints.Email":
+                    Object flags = this.attribute(constraint, "flags");
+                    if (!charSequence || !".*".equals(this.attribute(constraint, "regexp")) || (flags instanceof List && !((List<?>) flags).isEmpty())) {
+                        return null;
+                    }
+                    return value + " == null || " + PLAN_PACKAGE + ".PlanChecks.email(" + value + ")";
+                case "javax.validation.constraints.Pattern":
+                    return charSequence ? value + " == null || " + this.patternConstant(constraint) + ".matcher(" + value + ").matches()" : null;
+                case "com.luo.demo.validation.constraints.PhoneNo":
+                case "com.luo.demo.validation.constraints.IdNo":
+                    if (!charSequence) {
+                        return null;
+                    }
+                    if ("".equals(this.attribute(constraint, "regexp"))) {
+                        //规则可在运行时重新加载，故不内联，由ConstraintRule查找当前规则
+                        return value + " == null || " + this.ruleConstant(constraint) + ".matches(" + value + ")";
+                    }
+                    return value + " == null || " + this.patternConstant(constraint) + ".matcher(" + value + ").matches()";
+                case "com.luo.demo.validation.constraints.DateFormat":
+                case "com.luo.demo.validation.constraints.DateTimeFormat":
+                    if (!charSequence) {
+                        return null;
+                    }
+                    String matcher = this.constant("com.luo.demo.validation.constraints.DateFormatMatcher",
+                            "com.luo.demo.validation.constraints.DateFormatMatcher.of(" + this.stringLiteral(constraint, "format") + ")");
+                    return PLAN_PACKAGE + ".PlanChecks.dateFormat(" + value + ", " + matcher + ")";
+                default:
+                    return null;
+            }
+        }
+
+        private String temporalCheck(TypeMirror type, String value, String comparison) {
+            String typeName = this.types.erasure(type).toString();
+            if (typeName.equals("java.time.LocalDate") || typeName.equals("java.time.LocalDateTime") || typeName.equals("java.time.Instant")) {
+                return value + " == null || " + PLAN_PACKAGE + ".PlanChecks.compareToNow(" + value + ")" + comparison;
+            }
+            return null;
+        }
+
+        /**
+         * 写入生成的验证计划源码
+         *
+         * @return 验证计划类名
+         */
+        String write() throws IOException {
+            String packageName = this.elements.getPackageOf(this.beanType).getQualifiedName().toString();
+            String beanName = this.beanType.getQualifiedName().toString();
+            String planSimpleName = beanName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('.', '_') + PLAN_SUFFIX;
+            String planName = packageName.isEmpty() ? planSimpleName : packageName + "." + planSimpleName;
+
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(planName, this.beanType);
+            try (Writer writer = sourceFile.openWriter()) {
+                if (!packageName.isEmpty()) {
+                    writer.write("package " + packageName + ";\n\n");
+                }
+                writer.write("/**\n * 验证计划 - " + beanName + "\n * <p>\n * Generated by " + ValidationPlanProcessor.class.getName() + ", do not edit.\n */\n");
+                writer.write("public final class " + planSimpleName + " implements " + PLAN_PACKAGE + ".ValidationPlan<" + beanName + "> {\n\n");
+                for (Map.Entry<String, String> groupConstant : this.groupConstants.entrySet()) {
+                    writer.write("    private static final Class<?>[] " + groupConstant.getValue() + " = {" + groupConstant.getKey() + "};\n");
+                }
+                for (Map.Entry<String, String> otherConstant : this.otherConstants.entrySet()) {
+                    String declaration = otherConstant.getKey();
+                    int assignIndex = declaration.indexOf(" = ");
+                    writer.write("    private static final " + declaration.substring(0, assignIndex) + " " + otherConstant.getValue()
+                            + declaration.substring(assignIndex) + ";\n");
+                }
+                writer.write("\n    @Override\n    public Class<" + beanName + "> beanType() {\n        return " + beanName + ".class;\n    }\n\n");
+                writer.write("    @Override\n    @SuppressWarnings(\"unchecked\")\n    public boolean isValid(" + beanName + " bean, " + PLAN_PACKAGE + ".ValidationPlanContext context) {\n");
+                for (String groupConstant : this.groupConstants.values()) {
+                    writer.write("        final boolean " + groupConstant.toLowerCase() + " = context.inGroups(" + groupConstant + ");\n");
+                }
+                for (String statement : this.statements) {
+                    writer.write("        " + statement + "\n");
+                }
+                for (String statement : this.cascadeStatements) {
+                    writer.write("        " + statement + "\n");
+                }
+                writer.write("        return true;\n    }\n}\n");
+            }
+            return planName;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.luo.demo.validation.rule;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * 约束规则 - 按规则名、规则集查找{@link ConstraintRules#current()}中的正则表达式进行匹配，无对应规则时使用内置校验
+ * <p>
+ * 缓存上次查找的结果，仅当规则快照被替换后才重新查找；
+ * 缓存为不可变对象，多线程下最多重复查找，无需加锁。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class ConstraintRule {
+
+    private final String rule;
+    private final String ruleSet;
+    private final Predicate<CharSequence> builtinCheck;
+
+    private Resolved resolved = new Resolved(null, null);
+
+    /**
+     * @param rule         规则名
+     * @param ruleSet      规则集，为空时使用默认规则集
+     * @param builtinCheck 无对应规则时的内置校验
+     */
+    public ConstraintRule(String rule, String ruleSet, Predicate<CharSequence> builtinCheck) {
+        this.rule = rule;
+        this.ruleSet = ruleSet == null || ruleSet.isEmpty() ? ConstraintRules.DEFAULT_RULE_SET : ruleSet;
+        this.builtinCheck = builtinCheck;
+    }
+
+    public boolean matches(CharSequence value) {
+        ConstraintRules constraintRules = ConstraintRules.current();
+        Resolved resolved = this.resolved;
+        if (resolved.constraintRules != constraintRules) {
+            resolved = new Resolved(constraintRules, constraintRules.pattern(this.rule, this.ruleSet));
+            this.resolved = resolved;
+        }
+        return resolved.pattern == null ? this.builtinCheck.test(value) : resolved.pattern.matcher(value).matches();
+    }
+
+    private static final class Resolved {
+        private final ConstraintRules constraintRules;
+        private final Pattern pattern;
+
+        private Resolved(ConstraintRules constraintRules, Pattern pattern) {
+            this.constraintRules = constraintRules;
+            this.pattern = pattern;
+        }
+    }
+}
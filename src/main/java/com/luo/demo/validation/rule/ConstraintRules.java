@@ -0,0 +1,155 @@
+package com.luo.demo.validation.rule;
+
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 约束规则注册表 - 规则名（如phone-no、id-no） -> 规则集（国家或租户，如CN、tenant-a） -> 已编译的正则表达式
+ * <p>
+ * 当前规则为不可变快照，通过volatile引用整体替换（重新加载时先完整解析、编译新规则，成功后再替换），
+ * 验证时仅读取一次volatile引用，无需加锁；正则表达式未变的规则复用上一快照中已编译的Pattern。
+ * 规则版本与规则保存在同一快照中，读到某一版本时，同时或之后读到的规则不早于该版本。
+ * <pre>
+ * phone-no:
+ *   default: '^\d{8,11}$'
+ *   CN: '^1[3-9]\d{9}$'
+ * id-no:
+ *   HK: '^[A-Z]{1,2}\d{6}\([0-9A]\)$'
+ * </pre>
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public final class ConstraintRules {
+
+    /**
+     * 默认规则集（约束未指定规则集或规则集中无对应规则时使用）
+     */
+    public static final String DEFAULT_RULE_SET = "default";
+
+    private static final ConstraintRules EMPTY = new ConstraintRules(Collections.emptyMap());
+
+    /**
+     * 当前规则及其版本（每次替换规则时递增）
+     */
+    private static volatile Snapshot current = new Snapshot(EMPTY, 0L);
+
+    private final Map<String, Map<String, Pattern>> patterns;
+
+    private ConstraintRules(Map<String, Map<String, Pattern>> patterns) {
+        this.patterns = patterns;
+    }
+
+    /**
+     * 当前规则
+     */
+    public static ConstraintRules current() {
+        return current.rules;
+    }
+
+    /**
+     * 替换当前规则
+     *
+     * @param constraintRules 新规则
+     */
+    public static synchronized void update(ConstraintRules constraintRules) {
+        current = new Snapshot(constraintRules == null ? EMPTY : constraintRules, current.version + 1);
+    }
+
+    /**
+     * 当前规则版本（规则替换后递增，如验证结果缓存以此区分按不同规则得到的结果）
+     */
+    public static long version() {
+        return current.version;
+    }
+
+    /**
+     * 解析YAML规则（复用当前规则中相同正则表达式的Pattern）
+     *
+     * @param inputStream YAML输入流
+     * @return 规则
+     * @throws IllegalArgumentException 格式错误或正则表达式错误
+     */
+    public static ConstraintRules parse(InputStream inputStream) {
+        Object root = new Yaml().load(inputStream);
+        if (root == null) {
+            return EMPTY;
+        }
+        if (!(root instanceof Map)) {
+            throw new IllegalArgumentException("constraint rules must be a map of rule name -> rule set -> regexp");
+        }
+        ConstraintRules previous = current();
+        Map<String, Map<String, Pattern>> patterns = new HashMap<>();
+        for (Map.Entry<?, ?> ruleEntry : ((Map<?, ?>) root).entrySet()) {
+            String rule = String.valueOf(ruleEntry.getKey());
+            if (!(ruleEntry.getValue() instanceof Map)) {
+                throw new IllegalArgumentException("rule " + rule + " must be a map of rule set -> regexp");
+            }
+            Map<String, Pattern> rulePatterns = new HashMap<>();
+            for (Map.Entry<?, ?> ruleSetEntry : ((Map<?, ?>) ruleEntry.getValue()).entrySet()) {
+                String ruleSet = String.valueOf(ruleSetEntry.getKey());
+                if (!(ruleSetEntry.getValue() instanceof String)) {
+                    throw new IllegalArgumentException("rule " + rule + "." + ruleSet + " must be a regexp string");
+                }
+                rulePatterns.put(ruleSet, previous.compile(rule, ruleSet, (String) ruleSetEntry.getValue()));
+            }
+            patterns.put(rule, Collections.unmodifiableMap(rulePatterns));
+        }
+        return new ConstraintRules(Collections.unmodifiableMap(patterns));
+    }
+
+    /**
+     * 查找规则，规则集中无对应规则时使用默认规则集
+     *
+     * @param rule    规则名
+     * @param ruleSet 规则集
+     * @return 正则表达式，无对应规则时返回null
+     */
+    public Pattern pattern(String rule, String ruleSet) {
+        Map<String, Pattern> rulePatterns = this.patterns.get(rule);
+        if (rulePatterns == null) {
+            return null;
+        }
+        Pattern pattern = rulePatterns.get(ruleSet);
+        return pattern == null ? rulePatterns.get(DEFAULT_RULE_SET) : pattern;
+    }
+
+    /**
+     * 规则数（各规则集之和）
+     */
+    public int size() {
+        int size = 0;
+        for (Map<String, Pattern> rulePatterns : this.patterns.values()) {
+            size += rulePatterns.size();
+        }
+        return size;
+    }
+
+    private Pattern compile(String rule, String ruleSet, String regexp) {
+        Pattern previous = this.pattern(rule, ruleSet);
+        if (previous != null && previous.pattern().equals(regexp)) {
+            return previous;
+        }
+        try {
+            return Pattern.compile(regexp);
+        } catch (PatternSyntaxException ex) {
+            throw new IllegalArgumentException("rule " + rule + "." + ruleSet + " is not a valid regexp: " + ex.getDescription(), ex);
+        }
+    }
+
+    private static final class Snapshot {
+        private final ConstraintRules rules;
+        private final long version;
+
+        private Snapshot(ConstraintRules rules, long version) {
+            this.rules = rules;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.luo.demo.validation.rule;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 约束规则加载 - 启动时加载spring.validation.rules.location，之后每隔reload-interval检查文件修改时间，变化时重新加载
+ * <p>
+ * location默认为工作目录下的config/constraint-rules.yml（打包后classpath中的文件无法修改，不会触发重新加载），
+ * 不存在时使用fallback-location（默认classpath:constraint-rules.yml），之后创建location文件同样会被加载；
+ * 启动时规则错误则启动失败；运行中重新加载失败则保留当前规则，直到文件再次修改；
+ * 均不存在时不使用规则（各约束使用内置校验）。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Component
+public class ConstraintRulesReloader implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ConstraintRulesReloader.class);
+
+    @Value("${spring.validation.rules.location:file:./config/constraint-rules.yml}")
+    private Resource location;
+
+    /**
+     * location不存在时使用的规则文件，为空则不使用
+     */
+    @Value("${spring.validation.rules.fallback-location:classpath:constraint-rules.yml}")
+    private Resource fallbackLocation;
+
+    /**
+     * 检查文件修改的间隔，0则不重新加载
+     */
+    @Value("${spring.validation.rules.reload-interval:10s}")
+    private Duration reloadInterval;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 已加载的文件
+     */
+    private Resource loadedResource;
+
+    /**
+     * 已加载文件的修改时间，0为文件不存在
+     */
+    private long lastModified = -1L;
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        this.reload();
+        if (!this.reloadInterval.isZero()) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "constraint-rules-reloader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = this.reloadInterval.toMillis();
+            this.scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    this.reload();
+                } catch (IOException | RuntimeException ex) {
+                    log.error("constraint rules - failed to reload {}, keep current rules: {}", this.location, ex.getMessage());
+                }
+            }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 文件修改时间变化时重新加载
+     *
+     * @throws IOException              读取失败
+     * @throws IllegalArgumentException 规则格式错误
+     */
+    void reload() throws IOException {
+        Resource resource = this.location.exists() || this.fallbackLocation == null ? this.location : this.fallbackLocation;
+        //jar中的文件可能无修改时间，存在时至少为1
+        long modified = resource.exists() ? Math.max(resource.lastModified(), 1L) : 0L;
+        if (resource == this.loadedResource && modified == this.lastModified) {
+            return;
+        }
+        //加载失败时同样记录，避免每次检查都重复报错
+        this.loadedResource = resource;
+        this.lastModified = modified;
+        if (modified == 0L) {
+            ConstraintRules.update(null);
+            log.info("constraint rules - {} not found, use builtin checks", resource);
+        } else {
+            try (InputStream inputStream = resource.getInputStream()) {
+                ConstraintRules constraintRules = ConstraintRules.parse(inputStream);
+                ConstraintRules.update(constraintRules);
+                log.info("constraint rules - loaded {} rules from {}", constraintRules.size(), resource);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.luo.demo.validation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.BatchRowResult;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.enums.RespCodeEnum;
+import com.luo.demo.validation.web.ValidationMsgConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 用户批量导入
+ * <p>
+ * 通过Jackson流式解析JSON数组或NDJSON（每行一个JSON对象），
+ * 每解析出一个UserParam即进行验证，不会将整个列表加载到内存中，
+ * 错误行最多记录maxErrorRows条，故内存占用与上传数据量无关。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Component
+public class UserBatchImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserBatchImporter.class);
+
+    /**
+     * 行数据格式错误提示信息
+     */
+    private static final String MSG_ROW_UNREADABLE = "数据格式不正确";
+
+    private final ObjectReader userParamReader;
+    private final Validator validator;
+    private final ValidationMsgConverter validationMsgConverter;
+
+    /**
+     * 响应结果中最多返回的错误行数
+     */
+    @Value("${spring.validation.batch.max-error-rows:1000}")
+    private Integer maxErrorRows;
+
+    public UserBatchImporter(ObjectMapper objectMapper, Validator validator, ValidationMsgConverter validationMsgConverter) {
+        this.userParamReader = objectMapper.readerFor(UserParam.class);
+        this.validator = validator;
+        this.validationMsgConverter = validationMsgConverter;
+    }
+
+    /**
+     * 流式解析并验证用户数据
+     *
+     * @param inputStream       JSON数组或NDJSON输入流
+     * @param validUserConsumer 验证通过的用户数据处理
+     * @return 验证结果（rows为错误行，total为总行数）
+     * @throws IOException JSON结构错误（非单行数据错误）或读取失败
+     */
+    public CommonResult<BatchRowResult> importUsers(InputStream inputStream, Consumer<UserParam> validUserConsumer) throws IOException {
+        BatchReport report = this.newReport();
+        try (MappingIterator<UserParam> userParamIterator = this.userParamReader.readValues(inputStream)) {
+            while (userParamIterator.hasNextValue()) {
+                UserParam userParam;
+                try {
+                    userParam = userParamIterator.nextValue();
+                } catch (JsonMappingException ex) {
+                    //单行数据绑定失败，跳过该行继续解析后续行
+                    log.debug("user batch - row {} unreadable: {}", report.total, ex.getOriginalMessage());
+                    report.addRow(MSG_ROW_UNREADABLE);
+                    continue;
+                }
+                this.importUser(report, userParam, validUserConsumer);
+            }
+        } catch (JsonProcessingException ex) {
+            //JSON结构错误，无法继续解析
+            log.warn("user batch - malformed json at row {}: {}", report.total, ex.getOriginalMessage());
+            return report.toMalformedResult();
+        }
+        log.info("user batch - total rows: {}, invalid rows: {}", report.total, report.invalidTotal);
+        return report.toResult();
+    }
+
+    /**
+     * 新建批量验证结果（供流式数据源逐行调用{@link #importUser(BatchReport, UserParam, Consumer)}）
+     *
+     * @return 批量验证结果
+     */
+    public BatchReport newReport() {
+        return new BatchReport(this.maxErrorRows);
+    }
+
+    /**
+     * 验证单行用户数据并记录到批量验证结果
+     *
+     * @param report            批量验证结果
+     * @param userParam         用户数据
+     * @param validUserConsumer 验证通过的用户数据处理
+     */
+    public void importUser(BatchReport report, UserParam userParam, Consumer<UserParam> validUserConsumer) {
+        report.addRow(this.validate(userParam, validUserConsumer));
+    }
+
+    /**
+     * 绑定并验证单行用户数据（已切分的JSON元素，如WebFlux解码的Flux&lt;TokenBuffer&gt;），绑定失败记为数据格式不正确
+     *
+     * @param report            批量验证结果
+     * @param userParamTokens   单行用户数据JSON
+     * @param validUserConsumer 验证通过的用户数据处理
+     */
+    public void importUser(BatchReport report, TokenBuffer userParamTokens, Consumer<UserParam> validUserConsumer) {
+        UserParam userParam;
+        try {
+            userParam = this.userParamReader.readValue(userParamTokens.asParser());
+        } catch (IOException ex) {
+            log.debug("user batch - row {} unreadable: {}", report.total, ex.getMessage());
+            report.addRow(MSG_ROW_UNREADABLE);
+            return;
+        }
+        this.importUser(report, userParam, validUserConsumer);
+    }
+
+    /**
+     * 验证单行用户数据
+     *
+     * @param userParam
+     * @param validUserConsumer
+     * @return 错误提示信息，验证通过则返回null
+     */
+    private String validate(UserParam userParam, Consumer<UserParam> validUserConsumer) {
+        if (null == userParam) {
+            return MSG_ROW_UNREADABLE;
+        }
+        Set<ConstraintViolation<UserParam>> constraintViolations = this.validator.validate(userParam);
+        if (!constraintViolations.isEmpty()) {
+            String errMsg = this.validationMsgConverter.convertConstraintViolations(constraintViolations);
+            return null == errMsg ? RespCodeEnum.PARAM_INVALID.getDesc() : errMsg;
+        }
+        validUserConsumer.accept(userParam);
+        return null;
+    }
+
+    /**
+     * 批量验证结果 - 仅保留前maxErrorRows条错误行，内存占用与总行数无关（非线程安全）
+     */
+    public static final class BatchReport {
+        private final int maxErrorRows;
+        private final List<BatchRowResult> errorRows = new ArrayList<>();
+        private int total;
+        private int invalidTotal;
+
+        private BatchReport(int maxErrorRows) {
+            this.maxErrorRows = maxErrorRows;
+        }
+
+        /**
+         * 记录一行
+         *
+         * @param errMsg 错误提示信息，验证通过时为null
+         */
+        private void addRow(String errMsg) {
+            if (null != errMsg && this.invalidTotal++ < this.maxErrorRows) {
+                this.errorRows.add(new BatchRowResult(this.total, errMsg));
+            }
+            this.total++;
+        }
+
+        /**
+         * 验证结果（rows为错误行，total为总行数）
+         */
+        public CommonResult<BatchRowResult> toResult() {
+            return 0 == this.invalidTotal
+                    ? CommonResult.successRows(this.errorRows, this.total)
+                    : CommonResult.respWithRows(RespCodeEnum.PARAM_INVALID.getCode(), this.errorRows, this.total, "invalid rows: " + this.invalidTotal);
+        }
+
+        /**
+         * JSON结构错误时的验证结果（当前行记为数据格式不正确，total为已读取的行数）
+         */
+        public CommonResult<BatchRowResult> toMalformedResult() {
+            if (this.invalidTotal++ < this.maxErrorRows) {
+                this.errorRows.add(new BatchRowResult(this.total, MSG_ROW_UNREADABLE));
+            }
+            return CommonResult.respWithRows(RespCodeEnum.PARAM_INVALID.getCode(), this.errorRows, this.total, "invalid rows: " + this.invalidTotal);
+        }
+
+        public int getTotal() {
+            return this.total;
+        }
+
+        public int getInvalidTotal() {
+            return this.invalidTotal;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.luo.demo.validation.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.luo.demo.validation.domain.result.UserResult;
+import com.luo.demo.validation.enums.RespCodeEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 用户列表导出
+ * <p>
+ * 通过Jackson流式生成与CommonResult相同结构的JSON（respCode、total、rows、nextCursor），
+ * 每查询出一个UserResult即写出到rows数组，不会构建完整的List&lt;UserResult&gt;，
+ * 输出经JsonGenerator缓冲区分段写出，故内存占用与导出行数无关。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Component
+public class UserListExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserListExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final UserQueryService userQueryService;
+
+    /**
+     * 逐行写出时不刷新输出流（由JsonGenerator缓冲区满时写出）
+     */
+    private final ObjectWriter userResultWriter;
+
+    public UserListExporter(ObjectMapper objectMapper, UserQueryService userQueryService) {
+        this.objectMapper = objectMapper;
+        this.userQueryService = userQueryService;
+        this.userResultWriter = objectMapper.writerFor(UserResult.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 流式导出用户列表
+     *
+     * @param outputStream 输出流（不关闭）
+     * @param cursor       游标（导出ID大于cursor的用户）
+     * @param limit        最多导出的用户数
+     * @return 导出的用户数
+     * @throws IOException 写出失败（如客户端断开连接）
+     */
+    public long exportUsers(OutputStream outputStream, long cursor, long limit) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+             Stream<UserResult> users = this.userQueryService.streamUsers(cursor, limit)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeNumberField("respCode", RespCodeEnum.SUCCESS.getCode());
+            generator.writeNumberField("total", this.userQueryService.getUserTotal());
+            generator.writeArrayFieldStart("rows");
+            Iterator<UserResult> userIterator = users.iterator();
+            while (userIterator.hasNext()) {
+                this.userResultWriter.writeValue(generator, userIterator.next());
+                count++;
+            }
+            generator.writeEndArray();
+            Long nextCursor = this.userQueryService.nextCursor(cursor, limit);
+            if (null != nextCursor) {
+                generator.writeNumberField("nextCursor", nextCursor);
+            }
+            generator.writeEndObject();
+        }
+        log.info("user export - cursor: {}, exported rows: {}", cursor, count);
+        return count;
+    }
+}
@@ -0,0 +1,196 @@
+package com.luo.demo.validation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.cache.ReadThroughCache;
+import com.luo.demo.validation.domain.dto.OrgDto;
+import com.luo.demo.validation.domain.dto.UserDto;
+import com.luo.demo.validation.domain.mapper.UserMapper;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.PreSerializedResult;
+import com.luo.demo.validation.domain.result.UserResult;
+import com.luo.demo.validation.metrics.ReadThroughCacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 用户查询（MVC及WebFlux controller共用）
+ * <p>
+ * 用户详情（/user/detail）可经读穿透缓存（spring.user.detail-cache.*，默认不启用，需确认可接受TTL内的过期数据后开启）：
+ * 有界（LRU）、写入后过期（TTL），同一ID的并发未命中仅加载一次；缓存的CommonResult预先序列化为JSON字节，命中时直接写出。
+ * 指标：cache.*，tags：cache=user.detail
+ * <p>
+ * 用户列表（/user/list）按ID游标分页（keyset：ID大于cursor的前N个用户），
+ * 示例用户ID为1至spring.user.list.total，按需逐个构建（不持有完整列表）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Service
+public class UserQueryService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserQueryService.class);
+
+    private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 用户ID -> 用户详情结果，未启用时为null
+     */
+    private final ReadThroughCache<Long, CommonResult<UserResult>> detailCache;
+
+    /**
+     * 示例用户总数
+     */
+    @Value("${spring.user.list.total:1000000}")
+    private Integer userTotal;
+
+    public UserQueryService(UserMapper userMapper,
+                            ObjectMapper objectMapper,
+                            ObjectProvider<MeterRegistry> meterRegistryProvider,
+                            @Value("${spring.user.detail-cache.enable:false}") Boolean enableDetailCache,
+                            @Value("${spring.user.detail-cache.max-size:10000}") Integer maxSize,
+                            @Value("${spring.user.detail-cache.ttl:1m}") Duration ttl) {
+        this.userMapper = userMapper;
+        this.objectMapper = objectMapper;
+        if (enableDetailCache) {
+            this.detailCache = new ReadThroughCache<>(maxSize, ttl, this::loadUserDetail);
+            meterRegistryProvider.ifAvailable(meterRegistry ->
+                    new ReadThroughCacheMetrics(this.detailCache, "user.detail", Tags.empty()).bindTo(meterRegistry));
+            log.info("user detail cache enabled, max size: {}, ttl: {}", maxSize, ttl);
+        } else {
+            this.detailCache = null;
+        }
+    }
+
+    /**
+     * 查询用户详情结果（启用缓存时经缓存）
+     *
+     * @param id 用户ID
+     * @return 用户详情结果
+     */
+    public CommonResult<UserResult> getUserDetail(Long id) {
+        if (this.detailCache == null) {
+            return CommonResult.successData(this.getUser(id));
+        }
+        return this.detailCache.get(id);
+    }
+
+    /**
+     * 移除缓存的用户详情（用户更新后）
+     *
+     * @param id 用户ID
+     */
+    public void evictUserDetail(Long id) {
+        if (this.detailCache != null && id != null) {
+            this.detailCache.invalidate(id);
+        }
+    }
+
+    /**
+     * 查询用户
+     *
+     * @param id 用户ID
+     * @return 用户
+     */
+    public UserResult getUser(Long id) {
+        return this.userMapper.toUserResult(this.buildUserDto(id));
+    }
+
+    /**
+     * 按游标分页查询用户
+     *
+     * @param cursor 游标（上一页最后一个用户ID，首页为0）
+     * @param size   每页用户数
+     * @return 用户列表（rows为本页用户，total为用户总数，nextCursor为下一页游标）
+     */
+    public CommonResult<UserResult> listUsers(long cursor, int size) {
+        List<UserResult> rows;
+        try (Stream<UserResult> users = this.streamUsers(cursor, size)) {
+            rows = users.collect(Collectors.toList());
+        }
+        return CommonResult.successRows(rows, this.userTotal, this.nextCursor(cursor, size));
+    }
+
+    /**
+     * 按游标流式查询用户（ID升序，消费时逐个构建）
+     *
+     * @param cursor 游标（ID大于cursor的用户）
+     * @param limit  最多查询的用户数
+     * @return 用户流
+     */
+    public Stream<UserResult> streamUsers(long cursor, long limit) {
+        long from = Math.min(cursor, this.userTotal);
+        return LongStream.rangeClosed(from + 1, this.lastId(from, limit)).mapToObj(this::getUser);
+    }
+
+    /**
+     * 查询cursor之后limit个用户后的下一页游标
+     *
+     * @param cursor 游标
+     * @param limit  查询的用户数
+     * @return 下一页游标，已至末尾时返回null
+     */
+    public Long nextCursor(long cursor, long limit) {
+        long lastId = this.lastId(Math.min(cursor, this.userTotal), limit);
+        return lastId < this.userTotal ? lastId : null;
+    }
+
+    public Integer getUserTotal() {
+        return this.userTotal;
+    }
+
+    private long lastId(long from, long limit) {
+        return from + Math.min(limit, this.userTotal - from);
+    }
+
+    /**
+     * 加载用户详情结果并预先序列化为JSON
+     */
+    private CommonResult<UserResult> loadUserDetail(Long id) {
+        CommonResult<UserResult> result = CommonResult.successData(this.getUser(id));
+        try {
+            return new PreSerializedResult<>(result, this.objectMapper.writeValueAsBytes(result));
+        } catch (JsonProcessingException ex) {
+            log.warn("failed to pre-serialize user detail, id: {}", id, ex);
+            return result;
+        }
+    }
+
+    private UserDto buildUserDto(Long id) {
+        UserDto userDto = new UserDto();
+        userDto.setId(id);
+        userDto.setName("Tom-".concat(id.toString()));
+        userDto.setMail("tom@meixing.com");
+        userDto.setPhone("18888888888");
+        userDto.setSex(1);
+        userDto.setBirthDateStr("2000-01-01");
+        userDto.setBirthLocalDate(LocalDate.of(2000, 1, 1));
+        userDto.setRegisterLocalDatetime(LocalDateTime.of(2020, 9, 4, 12, 10, 22));
+        userDto.setOrgs(this.buildOrgDtoList());
+        return userDto;
+
+    }
+
+    private List<OrgDto> buildOrgDtoList() {
+        return LongStream.range(1, 3).mapToObj(orgId -> {
+            OrgDto orgResult = new OrgDto();
+            orgResult.setOrgId(orgId);
+            orgResult.setOrgName("Org-".concat(String.valueOf(orgId)));
+            return orgResult;
+        }).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,219 @@
+package com.luo.demo.validation.web;
+
+import com.luo.demo.validation.enums.BodyLimitEnum;
+import com.luo.demo.validation.json.JsonLimitExceededException;
+import com.luo.demo.validation.json.JsonLimits;
+import com.luo.demo.validation.json.LimitedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import javax.validation.Validator;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 请求体限制 - 在Jackson解析@RequestBody的过程中限制请求体字节数、嵌套层数及数组元素个数，超出限制即停止解析
+ * <p>
+ * 限制按接口解析并缓存：全局配置spring.validation.body-limits.*，可由handler方法或参数上的{@link BodyLimits}覆盖；
+ * 需验证的参数（@Validated、@Valid）按其验证分组，将集合属性（含@Valid级联属性下的集合）上@Size(max)作为该属性路径的数组最大元素个数。
+ * Content-Length超出限制时不读取请求体直接拒绝。
+ * 作用于{@link BodyLimitHttpMessageConverter}读取的JSON、Smile、CBOR请求体（数组元素个数、嵌套层数按解析token统计，与数据格式无关），
+ * 超出限制由ControllerAdviceHandler转换为参数格式异常。
+ * 默认不启用（spring.validation.body-limits.enable=true时启用），启用前需确认各接口实际请求体的大小及数组元素个数均在限制之内。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spring.validation.body-limits.enable", havingValue = "true")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class BodyLimitAdvice extends RequestBodyAdviceAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(BodyLimitAdvice.class);
+
+    private final Validator validator;
+    private final long maxBytes;
+    private final int maxDepth;
+    private final int maxArrayLength;
+
+    /**
+     * 方法参数 -> 请求体限制
+     */
+    private final Map<MethodParameter, JsonLimits> parameterLimits = new ConcurrentHashMap<>();
+
+    public BodyLimitAdvice(Validator validator,
+                           @Value("${spring.validation.body-limits.max-size:1MB}") DataSize maxSize,
+                           @Value("${spring.validation.body-limits.max-depth:32}") Integer maxDepth,
+                           @Value("${spring.validation.body-limits.max-array-length:10000}") Integer maxArrayLength) {
+        this.validator = validator;
+        this.maxBytes = maxSize.toBytes();
+        this.maxDepth = maxDepth;
+        this.maxArrayLength = maxArrayLength;
+        log.info("body limits enabled, max size: {}, max depth: {}, max array length: {}", maxSize, maxDepth, maxArrayLength);
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return BodyLimitHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) throws IOException {
+        JsonLimits limits = this.getLimits(parameter, targetType);
+        HttpHeaders headers = inputMessage.getHeaders();
+        if (headers.getContentLength() > limits.getMaxBytes()) {
+            throw new JsonLimitExceededException(null, BodyLimitEnum.MAX_SIZE, limits.getRootName(), limits.getMaxBytes());
+        }
+        return new BodyLimitJsonHttpMessageConverter.LimitedInputMessage(headers,
+                new LimitedInputStream(inputMessage.getBody(), limits.getMaxBytes(), limits.getRootName()), limits);
+    }
+
+    /**
+     * 获取方法参数的请求体限制
+     *
+     * @param parameter  @RequestBody参数
+     * @param targetType 请求体类型
+     * @return 请求体限制
+     */
+    public JsonLimits getLimits(MethodParameter parameter, Type targetType) {
+        return this.parameterLimits.computeIfAbsent(parameter, param -> this.resolveLimits(param, targetType));
+    }
+
+    private JsonLimits resolveLimits(MethodParameter parameter, Type targetType) {
+        BodyLimits bodyLimits = parameter.getParameterAnnotation(BodyLimits.class);
+        if (bodyLimits == null) {
+            bodyLimits = parameter.getMethodAnnotation(BodyLimits.class);
+        }
+        long maxBytes = bodyLimits != null && StringUtils.hasText(bodyLimits.maxSize()) ? DataSize.parse(bodyLimits.maxSize()).toBytes() : this.maxBytes;
+        int maxDepth = bodyLimits != null && bodyLimits.maxDepth() > 0 ? bodyLimits.maxDepth() : this.maxDepth;
+        int maxArrayLength = bodyLimits != null && bodyLimits.maxArrayLength() >= 0 ? bodyLimits.maxArrayLength() : this.maxArrayLength;
+
+        Map<String, Integer> arrayLengthLimits = new HashMap<>();
+        Class<?>[] groups = this.getValidationGroups(parameter);
+        if (groups != null) {
+            ResolvableType bodyType = ResolvableType.forType(targetType);
+            // 请求体本身为数组（如List<UserParam>）时，元素属性的路径与单个对象相同
+            Size size = parameter.getParameterAnnotation(Size.class);
+            if (size != null && isMultiValued(bodyType)) {
+                putArrayLengthLimit(arrayLengthLimits, "", size.max(), maxArrayLength);
+            }
+            Class<?> beanClass = isMultiValued(bodyType) ? elementType(bodyType).resolve() : bodyType.resolve();
+            this.collectArrayLengthLimits(beanClass, "", groups, maxArrayLength, maxDepth, arrayLengthLimits, new HashSet<>());
+        }
+        JsonLimits limits = new JsonLimits(maxBytes, maxDepth, maxArrayLength, arrayLengthLimits, Conventions.getVariableNameForParameter(parameter));
+        log.debug("resolve body limits, parameter: {}, limits: {}", parameter, limits);
+        return limits;
+    }
+
+    /**
+     * 同RequestResponseBodyMethodProcessor.validateIfApplicable：@Validated或@Valid*注解的参数需验证，返回验证分组（未指定时为Default）；
+     * 无需验证时返回null
+     */
+    private Class<?>[] getValidationGroups(MethodParameter parameter) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            Object[] hints = ValidationAnnotationUtils.determineValidationHints(annotation);
+            if (hints != null) {
+                Class<?>[] groups = Arrays.stream(hints)
+                        .filter(hint -> hint instanceof Class && !((Class<?>) hint).isAnnotation())
+                        .toArray(Class<?>[]::new);
+                return groups.length == 0 ? new Class<?>[]{Default.class} : groups;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 收集集合属性上@Size(max)对应的数组最大元素个数，并递归@Valid级联属性（属性路径不超过最大嵌套层数）
+     */
+    private void collectArrayLengthLimits(Class<?> beanClass, String prefix, Class<?>[] groups, int maxArrayLength, int remainingDepth,
+                                          Map<String, Integer> arrayLengthLimits, Set<Class<?>> visiting) {
+        if (beanClass == null || remainingDepth <= 0 || beanClass.isPrimitive() || beanClass.getName().startsWith("java.")
+                || !visiting.add(beanClass)) {
+            return;
+        }
+        for (PropertyDescriptor property : this.validator.getConstraintsForClass(beanClass).getConstrainedProperties()) {
+            String path = prefix.isEmpty() ? property.getPropertyName() : prefix + '.' + property.getPropertyName();
+            ResolvableType propertyType = propertyType(beanClass, property);
+            boolean multiValued = isMultiValued(propertyType);
+            if (multiValued) {
+                for (ConstraintDescriptor<?> constraint : property.findConstraints().unorderedAndMatchingGroups(groups).getConstraintDescriptors()) {
+                    if (constraint.getAnnotation() instanceof Size) {
+                        putArrayLengthLimit(arrayLengthLimits, path, ((Size) constraint.getAnnotation()).max(), maxArrayLength);
+                    }
+                }
+            }
+            if (isCascaded(property)) {
+                Class<?> elementClass = multiValued ? elementType(propertyType).resolve() : propertyType.resolve();
+                this.collectArrayLengthLimits(elementClass, path, groups, maxArrayLength, remainingDepth - 1, arrayLengthLimits, visiting);
+            }
+        }
+        visiting.remove(beanClass);
+    }
+
+    private static void putArrayLengthLimit(Map<String, Integer> arrayLengthLimits, String path, int max, int maxArrayLength) {
+        if (max < maxArrayLength) {
+            arrayLengthLimits.merge(path, max, Math::min);
+        }
+    }
+
+    private static boolean isCascaded(PropertyDescriptor property) {
+        return property.isCascaded() || property.getConstrainedContainerElementTypes().stream().anyMatch(ContainerElementTypeDescriptor::isCascaded);
+    }
+
+    private static boolean isMultiValued(ResolvableType type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type.toClass());
+    }
+
+    private static ResolvableType elementType(ResolvableType multiValuedType) {
+        return multiValuedType.isArray() ? multiValuedType.getComponentType() : multiValuedType.asCollection().getGeneric(0);
+    }
+
+    /**
+     * 属性的泛型类型（字段或getter返回值）
+     */
+    private static ResolvableType propertyType(Class<?> beanClass, PropertyDescriptor property) {
+        Field field = ReflectionUtils.findField(beanClass, property.getPropertyName());
+        if (field != null) {
+            return ResolvableType.forField(field, beanClass);
+        }
+        java.beans.PropertyDescriptor beanProperty = BeanUtils.getPropertyDescriptor(beanClass, property.getPropertyName());
+        if (beanProperty != null && beanProperty.getReadMethod() != null) {
+            return ResolvableType.forMethodReturnType(beanProperty.getReadMethod(), beanClass);
+        }
+        return ResolvableType.forClass(property.getElementClass());
+    }
+}
@@ -0,0 +1,13 @@
+package com.luo.demo.validation.web;
+
+/**
+ * 支持请求体限制的Jackson转换器（JSON、Smile、CBOR）- 读取{@link BodyLimitAdvice}包装的请求体时以LimitedJsonParser解析
+ *
+ * @author luohq
+ * @date 2026-10-18
+ * @see BodyLimitJsonHttpMessageConverter
+ * @see BodyLimitSmileHttpMessageConverter
+ * @see BodyLimitCborHttpMessageConverter
+ */
+public interface BodyLimitHttpMessageConverter {
+}
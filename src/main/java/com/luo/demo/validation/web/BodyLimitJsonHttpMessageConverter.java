@@ -0,0 +1,97 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.luo.demo.validation.json.JsonLimits;
+import com.luo.demo.validation.json.LimitedJsonParser;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+
+/**
+ * 限制请求体的JSON转换器 - 读取{@link BodyLimitAdvice}包装的请求体时，以{@link LimitedJsonParser}解析，
+ * 超出限制时在解析过程中抛出JsonLimitExceededException（作为HttpMessageNotReadableException的cause）
+ * <p>
+ * 其余请求体（如@JsonView参数、未启用限制）及响应的处理与MappingJackson2HttpMessageConverter相同
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class BodyLimitJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter implements BodyLimitHttpMessageConverter {
+
+    public BodyLimitJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        if (!(inputMessage instanceof LimitedInputMessage)) {
+            return super.read(type, contextClass, inputMessage);
+        }
+        JavaType javaType = this.getJavaType(type, contextClass);
+        return readLimited(this.getObjectMapper().readerFor(javaType), (LimitedInputMessage) inputMessage,
+                this.getCharset(inputMessage.getHeaders().getContentType()));
+    }
+
+    /**
+     * 以LimitedJsonParser读取受限请求体（LimitedJsonParser与数据格式无关，JSON、Smile、CBOR转换器共用）
+     *
+     * @param objectReader 请求体类型的ObjectReader（其JsonFactory决定数据格式）
+     * @param inputMessage 受限请求消息
+     * @param charset      JSON文本编码（同MappingJackson2HttpMessageConverter：Unicode编码由Jackson自动检测），二进制格式为null
+     * @return 请求体对象
+     */
+    static Object readLimited(ObjectReader objectReader, LimitedInputMessage inputMessage, Charset charset) throws IOException {
+        InputStream body = inputMessage.getBody();
+        try (JsonParser parser = new LimitedJsonParser(charset == null || charset.name().startsWith("UTF-")
+                ? objectReader.createParser(body)
+                : objectReader.createParser(new InputStreamReader(body, charset)), inputMessage.getLimits())) {
+            return objectReader.readValue(parser);
+        } catch (InvalidDefinitionException ex) {
+            throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, inputMessage);
+        }
+    }
+
+    /**
+     * 附带请求体限制的请求消息（请求体已由LimitedInputStream限制字节数）
+     */
+    public static class LimitedInputMessage implements HttpInputMessage {
+        private final HttpHeaders headers;
+        private final InputStream body;
+        private final JsonLimits limits;
+
+        public LimitedInputMessage(HttpHeaders headers, InputStream body, JsonLimits limits) {
+            this.headers = headers;
+            this.body = body;
+            this.limits = limits;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return this.body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return this.headers;
+        }
+
+        public JsonLimits getLimits() {
+            return this.limits;
+        }
+    }
+}
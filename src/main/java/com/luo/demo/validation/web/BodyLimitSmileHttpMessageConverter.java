@@ -0,0 +1,31 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 限制请求体的Smile转换器 - 同{@link BodyLimitJsonHttpMessageConverter}，以{@link com.luo.demo.validation.json.LimitedJsonParser}解析Smile请求体
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class BodyLimitSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter implements BodyLimitHttpMessageConverter {
+
+    public BodyLimitSmileHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        if (!(inputMessage instanceof BodyLimitJsonHttpMessageConverter.LimitedInputMessage)) {
+            return super.read(type, contextClass, inputMessage);
+        }
+        return BodyLimitJsonHttpMessageConverter.readLimited(this.getObjectMapper().readerFor(this.getJavaType(type, contextClass)),
+                (BodyLimitJsonHttpMessageConverter.LimitedInputMessage) inputMessage, null);
+    }
+}
@@ -0,0 +1,36 @@
+package com.luo.demo.validation.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 请求体限制 - 标注在handler方法或@RequestBody参数上，覆盖当前接口的全局限制（spring.validation.body-limits.*）
+ * <p>
+ * 未指定（默认值）的属性使用全局配置；@Valid集合属性上的@Size(max)仍按属性路径生效（取较小值）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BodyLimits {
+
+    /**
+     * 请求体最大大小（如16KB）
+     */
+    String maxSize() default "";
+
+    /**
+     * 最大嵌套层数（根对象为第1层）
+     */
+    int maxDepth() default -1;
+
+    /**
+     * 数组默认最大元素个数
+     */
+    int maxArrayLength() default -1;
+}
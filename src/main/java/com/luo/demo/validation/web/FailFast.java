@@ -0,0 +1,22 @@
+package com.luo.demo.validation.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 快速失败 - 标注在handler方法或@Validated参数上，验证时遇到第一个违反约束即停止
+ * <p>
+ * 也可作为@Validated的验证提示（如@Validated({FailFast.class, Groups.Update.class})），适用于WebFlux等无请求线程上下文的场景；
+ * 全局开启可配置：spring.validation.fail-fast.enable=true；未标注且未全局开启时仍返回全部违反约束（示例接口均未标注）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FailFast {
+}
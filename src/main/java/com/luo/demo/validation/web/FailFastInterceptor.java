@@ -0,0 +1,63 @@
+package com.luo.demo.validation.web;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 快速失败 - 拦截器，在参数绑定及验证之前标记当前请求是否快速失败
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class FailFastInterceptor implements HandlerInterceptor {
+
+    private static final String FAIL_FAST_ATTRIBUTE = FailFast.class.getName();
+
+    /**
+     * handler方法 -> 是否标注@FailFast
+     */
+    private final Map<Method, Boolean> failFastMethods = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            if (this.failFastMethods.computeIfAbsent(handlerMethod.getMethod(), method -> isFailFast(handlerMethod))) {
+                request.setAttribute(FAIL_FAST_ATTRIBUTE, Boolean.TRUE);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 当前请求是否快速失败
+     *
+     * @return 当前请求对应handler标注了@FailFast时返回true
+     */
+    public static boolean isFailFastRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes != null
+                && requestAttributes.getAttribute(FAIL_FAST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    private static boolean isFailFast(HandlerMethod handlerMethod) {
+        if (handlerMethod.hasMethodAnnotation(FailFast.class)) {
+            return true;
+        }
+        for (MethodParameter methodParameter : handlerMethod.getMethodParameters()) {
+            if (methodParameter.hasParameterAnnotation(FailFast.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,102 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.ConstantResult;
+import com.luo.demo.validation.domain.result.PreSerializedResult;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 预序列化结果转换器 - 响应JSON时直接写出已序列化的字节，跳过Jackson序列化
+ * <ul>
+ *     <li>{@link PreSerializedResult}：写出其中的字节</li>
+ *     <li>仅含已注册响应码的{@link CommonResult}（如success()、failed()）：写出对应{@link ConstantResult}的JSON，
+ *     首次写出时以JSON转换器的ObjectMapper序列化（与其配置一致）并缓存，之后直接写出</li>
+ *     <li>其他CommonResult：以同一ObjectMapper序列化</li>
+ * </ul>
+ * 需位于MappingJackson2HttpMessageConverter之前；仅支持写出，其他媒体类型由后续转换器按CommonResult序列化。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class PreSerializedJsonHttpMessageConverter extends AbstractHttpMessageConverter<CommonResult<?>> {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 常量返回结果 -> JSON（ConstantResult为单例，按实例区分）
+     */
+    private final ConcurrentMap<ConstantResult<?>, byte[]> constantJsons = new ConcurrentHashMap<>();
+
+    /**
+     * @param objectMapper 序列化常量返回结果的ObjectMapper
+     */
+    public PreSerializedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PreSerializedResult.class.isAssignableFrom(clazz) || CommonResult.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CommonResult<?> readInternal(Class<? extends CommonResult<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("PreSerializedResult is write only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(CommonResult<?> result, MediaType contentType) {
+        byte[] json = this.preSerializedJson(result);
+        return null == json ? null : (long) json.length;
+    }
+
+    @Override
+    protected void writeInternal(CommonResult<?> result, HttpOutputMessage outputMessage) throws IOException {
+        byte[] json = this.preSerializedJson(result);
+        outputMessage.getBody().write(null == json ? this.serialize(result) : json);
+    }
+
+    /**
+     * 获取预序列化的JSON
+     *
+     * @param result 返回结果
+     * @return 预序列化的JSON，非PreSerializedResult且非仅含已注册响应码时返回null
+     */
+    private byte[] preSerializedJson(CommonResult<?> result) {
+        if (result instanceof PreSerializedResult) {
+            return ((PreSerializedResult<?>) result).getJson();
+        }
+        ConstantResult<?> constantResult = codeOnly(result) ? ConstantResult.of(result.getRespCode()) : null;
+        return null == constantResult ? null : this.constantJsons.computeIfAbsent(constantResult, this::serialize);
+    }
+
+    private byte[] serialize(CommonResult<?> result) {
+        try {
+            return this.objectMapper.writeValueAsBytes(result);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotWritableException("Could not write CommonResult: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private static boolean codeOnly(CommonResult<?> result) {
+        return null == result.getData() && null == result.getRows() && null == result.getMsg()
+                && null == result.getTotal() && null == result.getNextCursor() && null == result.getErrors();
+    }
+}
@@ -0,0 +1,158 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.enums.RespCodeEnum;
+import com.luo.demo.validation.limit.ConcurrencyLimiter;
+import com.luo.demo.validation.limit.StripedTokenBuckets;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 限流及降载 - 过滤器，在请求体绑定、验证及异常处理之前拒绝超限请求
+ * <ul>
+ *     <li>按客户端限流：{@link StripedTokenBuckets}，超出时响应429及respCode=RATE_LIMITED</li>
+ *     <li>按并发降载：{@link ConcurrencyLimiter}，排队超过max-queue-time时响应503及respCode=OVERLOADED</li>
+ * </ul>
+ * 客户端标识为clientHeader请求头（应由可信网关设置），未配置或请求头为空时为客户端IP；
+ * 拒绝响应为预先序列化的CommonResult JSON，不读取请求体。
+ * <p>
+ * 异步请求（如StreamingResponseBody导出）的并发许可持有至异步处理完成（AsyncListener.onComplete）才释放，
+ * 异步分派不再经过本过滤器（OncePerRequestFilter默认跳过异步分派）。
+ * 排队在Servlet容器工作线程上同步等待（最长max-queue-time，期间占用该工作线程），
+ * 排队时长自进入本过滤器起计算，不含请求在容器连接/线程池队列中的等待时间。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final StripedTokenBuckets tokenBuckets;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final String clientHeader;
+
+    private final byte[] rateLimitedJson;
+    private final byte[] overloadedJson;
+
+    private final LongAdder rateLimitedCount = new LongAdder();
+    private final LongAdder overloadedCount = new LongAdder();
+
+    /**
+     * @param tokenBuckets       客户端令牌桶
+     * @param concurrencyLimiter 并发限制
+     * @param clientHeader       客户端标识请求头，为空则按客户端IP
+     * @param objectMapper       序列化拒绝响应的ObjectMapper
+     */
+    public RateLimitFilter(StripedTokenBuckets tokenBuckets, ConcurrencyLimiter concurrencyLimiter, String clientHeader,
+                           ObjectMapper objectMapper) throws JsonProcessingException {
+        this.tokenBuckets = tokenBuckets;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.clientHeader = StringUtils.hasText(clientHeader) ? clientHeader : null;
+        this.rateLimitedJson = objectMapper.writeValueAsBytes(CommonResult.respWith(RespCodeEnum.RATE_LIMITED.getCode()));
+        this.overloadedJson = objectMapper.writeValueAsBytes(CommonResult.respWith(RespCodeEnum.OVERLOADED.getCode()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!this.tokenBuckets.tryAcquire(this.clientKey(request))) {
+            this.rateLimitedCount.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, this.rateLimitedJson);
+            return;
+        }
+        boolean acquired;
+        try {
+            acquired = this.concurrencyLimiter.tryAcquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            this.overloadedCount.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, this.overloadedJson);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompleteListener(this.concurrencyLimiter));
+            } else {
+                this.concurrencyLimiter.release();
+            }
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        if (null != this.clientHeader) {
+            String clientId = request.getHeader(this.clientHeader);
+            if (StringUtils.hasLength(clientId)) {
+                return clientId;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, byte[] json) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(json.length);
+        response.getOutputStream().write(json);
+    }
+
+    /**
+     * 异步处理完成（含超时、异常后的完成）时释放并发许可；异步处理再次开始时重新注册
+     */
+    private static class ReleaseOnCompleteListener implements AsyncListener {
+        private final ConcurrencyLimiter concurrencyLimiter;
+
+        ReleaseOnCompleteListener(ConcurrencyLimiter concurrencyLimiter) {
+            this.concurrencyLimiter = concurrencyLimiter;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            this.concurrencyLimiter.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    public long getRateLimitedCount() {
+        return this.rateLimitedCount.sum();
+    }
+
+    public long getOverloadedCount() {
+        return this.overloadedCount.sum();
+    }
+
+    public int getInFlight() {
+        return this.concurrencyLimiter.getInFlight();
+    }
+
+    public int getQueued() {
+        return this.concurrencyLimiter.getQueued();
+    }
+}
@@ -0,0 +1,38 @@
+package com.luo.demo.validation.web;
+
+import com.luo.demo.validation.domain.result.ViolationResult;
+
+import java.util.List;
+
+/**
+ * 请求体验证不通过异常（由{@link ValidationCacheAdvice}抛出，message为错误提示信息）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+public class RequestBodyInvalidException extends RuntimeException {
+
+    /**
+     * 是否命中验证结果缓存
+     */
+    private final boolean cached;
+
+    /**
+     * 结构化的违反约束列表
+     */
+    private final List<ViolationResult> errors;
+
+    public RequestBodyInvalidException(String msg, List<ViolationResult> errors, boolean cached) {
+        super(msg, null, false, false);
+        this.errors = errors;
+        this.cached = cached;
+    }
+
+    public List<ViolationResult> getErrors() {
+        return this.errors;
+    }
+
+    public boolean isCached() {
+        return this.cached;
+    }
+}
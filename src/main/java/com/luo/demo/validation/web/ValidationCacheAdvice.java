@@ -0,0 +1,255 @@
+package com.luo.demo.validation.web;
+
+import com.luo.demo.validation.cache.BoundedCache;
+import com.luo.demo.validation.domain.result.ViolationResult;
+import com.luo.demo.validation.rule.ConstraintRules;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import javax.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 验证结果缓存 - 以请求体（原始字节）的SHA-256摘要、目标类型、验证分组、是否快速失败为键缓存验证结果
+ * <p>
+ * 客户端重试时请求体完全相同：
+ * 命中验证不通过的结果时，直接返回缓存的错误提示信息，跳过反序列化及验证；
+ * 命中验证通过的结果时，仍需反序列化，但跳过验证。
+ * 未命中时在此处完成验证并记录结果（MVC随后的验证通过{@link #isValidatedBody(Object)}跳过）。
+ * 缓存键包含约束规则版本，规则重新加载后按新规则重新验证；验证期间规则被替换时不缓存该结果。
+ * 仅缓存不超过max-body-size的请求体，更大的请求体按原流程处理。
+ * 先于{@link BodyLimitAdvice}执行（其包装的请求消息需直接交给JSON转换器）。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "spring.validation.cache.enable", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ValidationCacheAdvice extends RequestBodyAdviceAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidationCacheAdvice.class);
+
+    /**
+     * 请求属性 - 当前请求体的缓存键（未命中）或VALID（命中验证通过）
+     */
+    private static final String CACHE_STATE_ATTRIBUTE = ValidationCacheAdvice.class.getName() + ".STATE";
+
+    /**
+     * 请求属性 - 已验证通过的请求体对象
+     */
+    private static final String VALIDATED_BODY_ATTRIBUTE = ValidationCacheAdvice.class.getName() + ".VALIDATED_BODY";
+
+    private static final Object VALID = new Object();
+
+    /**
+     * 非验证参数的验证提示（用于缓存supports结果）
+     */
+    private static final Object[] NOT_VALIDATED = new Object[0];
+
+    private final SpringValidatorAdapter validator;
+    private final ValidationMsgConverter validationMsgConverter;
+    private final BoundedCache<ValidationCacheKey, Object> cache;
+    private final int maxBodySize;
+
+    /**
+     * 方法参数 -> 验证提示（@Validated分组）
+     */
+    private final Map<MethodParameter, Object[]> validationHints = new ConcurrentHashMap<>();
+
+    public ValidationCacheAdvice(Validator validator,
+                                 ValidationMsgConverter validationMsgConverter,
+                                 @Value("${spring.validation.cache.max-size:10000}") Integer maxSize,
+                                 @Value("${spring.validation.cache.ttl:10m}") Duration ttl,
+                                 @Value("${spring.validation.cache.max-body-size:64KB}") DataSize maxBodySize) {
+        this.validator = new SpringValidatorAdapter(validator);
+        this.validationMsgConverter = validationMsgConverter;
+        this.cache = new BoundedCache<>(maxSize, ttl);
+        this.maxBodySize = (int) Math.min(maxBodySize.toBytes(), Integer.MAX_VALUE - 1);
+        log.info("validation cache enabled, max size: {}, ttl: {}, max body size: {}", maxSize, ttl, maxBodySize);
+    }
+
+    /**
+     * 当前请求的请求体是否已验证通过（由PlannedValidatorFactoryBean调用以跳过重复验证）
+     *
+     * @param target 待验证对象
+     * @return 是否为当前请求中已验证通过的请求体
+     */
+    public static boolean isValidatedBody(Object target) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return requestAttributes != null
+                && target != null
+                && requestAttributes.getAttribute(VALIDATED_BODY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == target;
+    }
+
+    public BoundedCache<?, ?> getCache() {
+        return this.cache;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return this.getValidationHints(methodParameter) != NOT_VALIDATED;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) throws IOException {
+        InputStream body = inputMessage.getBody();
+        byte[] bodyBytes = readAtMost(body, this.maxBodySize + 1);
+        if (bodyBytes.length > this.maxBodySize) {
+            return new BufferedInputMessage(inputMessage.getHeaders(), new SequenceInputStream(new ByteArrayInputStream(bodyBytes), body));
+        }
+        ValidationCacheKey cacheKey = new ValidationCacheKey(sha256(bodyBytes), targetType,
+                groupsOf(this.getValidationHints(parameter)), FailFastInterceptor.isFailFastRequest(),
+                inputMessage.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE), ConstraintRules.version());
+        Object cached = this.cache.get(cacheKey);
+        if (cached instanceof Invalid) {
+            Invalid invalid = (Invalid) cached;
+            throw new RequestBodyInvalidException(invalid.msg, invalid.errors, true);
+        }
+        RequestAttributes requestAttributes = RequestContextHolder.currentRequestAttributes();
+        requestAttributes.setAttribute(CACHE_STATE_ATTRIBUTE, cached == VALID ? VALID : cacheKey, RequestAttributes.SCOPE_REQUEST);
+        return new BufferedInputMessage(inputMessage.getHeaders(), new ByteArrayInputStream(bodyBytes));
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes requestAttributes = RequestContextHolder.currentRequestAttributes();
+        Object cacheState = requestAttributes.getAttribute(CACHE_STATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cacheState == null) {
+            return body;
+        }
+        requestAttributes.removeAttribute(CACHE_STATE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cacheState != VALID) {
+            BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(body, Conventions.getVariableNameForParameter(parameter));
+            this.validator.validate(body, bindingResult, this.getValidationHints(parameter));
+            ValidationCacheKey cacheKey = (ValidationCacheKey) cacheState;
+            if (bindingResult.hasErrors()) {
+                String msg = this.validationMsgConverter.convertFiledErrors(bindingResult.getFieldErrors());
+                List<ViolationResult> errors = this.validationMsgConverter.toViolationResults(bindingResult.getFieldErrors());
+                this.putIfRulesUnchanged(cacheKey, new Invalid(msg, errors));
+                throw new RequestBodyInvalidException(msg, errors, false);
+            }
+            this.putIfRulesUnchanged(cacheKey, VALID);
+        }
+        requestAttributes.setAttribute(VALIDATED_BODY_ATTRIBUTE, body, RequestAttributes.SCOPE_REQUEST);
+        return body;
+    }
+
+    /**
+     * 缓存验证结果；生成键之后规则已替换时（验证可能按新规则执行）不缓存
+     */
+    private void putIfRulesUnchanged(ValidationCacheKey cacheKey, Object result) {
+        if (cacheKey.getRulesVersion() == ConstraintRules.version()) {
+            this.cache.put(cacheKey, result);
+        }
+    }
+
+    /**
+     * 同RequestResponseBodyMethodProcessor.validateIfApplicable：@Validated或@Valid*注解的参数需验证
+     */
+    private Object[] getValidationHints(MethodParameter methodParameter) {
+        return this.validationHints.computeIfAbsent(methodParameter, parameter -> {
+            for (Annotation annotation : parameter.getParameterAnnotations()) {
+                Object[] hints = ValidationAnnotationUtils.determineValidationHints(annotation);
+                if (hints != null) {
+                    return hints;
+                }
+            }
+            return NOT_VALIDATED;
+        });
+    }
+
+    private static Class<?>[] groupsOf(Object[] validationHints) {
+        return Arrays.stream(validationHints)
+                .filter(Class.class::isInstance)
+                .toArray(Class<?>[]::new);
+    }
+
+    private static byte[] readAtMost(InputStream inputStream, int limit) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.min(limit, 4096));
+        byte[] buffer = new byte[Math.min(limit, 4096)];
+        int remaining = limit;
+        int read;
+        while (remaining > 0 && (read = inputStream.read(buffer, 0, Math.min(buffer.length, remaining))) != -1) {
+            outputStream.write(buffer, 0, read);
+            remaining -= read;
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * 验证不通过的结果（错误提示信息，按请求的输出模式选择msg或errors）
+     */
+    private static final class Invalid {
+        private final String msg;
+        private final List<ViolationResult> errors;
+
+        private Invalid(String msg, List<ViolationResult> errors) {
+            this.msg = msg;
+            this.errors = errors == null ? null : Collections.unmodifiableList(errors);
+        }
+    }
+
+    private static final class BufferedInputMessage implements HttpInputMessage {
+        private final HttpHeaders headers;
+        private final InputStream body;
+
+        private BufferedInputMessage(HttpHeaders headers, InputStream body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return this.body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return this.headers;
+        }
+    }
+}
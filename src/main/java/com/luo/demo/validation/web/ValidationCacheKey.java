@@ -0,0 +1,66 @@
+package com.luo.demo.validation.web;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 验证结果缓存 - 键（请求体摘要 + 目标类型 + 验证分组 + 是否快速失败 + Content-Type + 约束规则版本）
+ * <p>
+ * 约束规则重新加载后版本变化，之前按旧规则缓存的结果不再命中（随LRU/TTL淘汰）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+final class ValidationCacheKey {
+
+    private final byte[] bodyDigest;
+    private final Type targetType;
+    private final Class<?>[] groups;
+    private final boolean failFast;
+    private final String contentType;
+    private final long rulesVersion;
+    private final int hash;
+
+    ValidationCacheKey(byte[] bodyDigest, Type targetType, Class<?>[] groups, boolean failFast, String contentType, long rulesVersion) {
+        this.bodyDigest = bodyDigest;
+        this.targetType = targetType;
+        this.groups = groups;
+        this.failFast = failFast;
+        this.contentType = contentType;
+        this.rulesVersion = rulesVersion;
+        int hash = Arrays.hashCode(bodyDigest);
+        hash = 31 * hash + targetType.hashCode();
+        hash = 31 * hash + Arrays.hashCode(groups);
+        hash = 31 * hash + Boolean.hashCode(failFast);
+        hash = 31 * hash + Objects.hashCode(contentType);
+        this.hash = 31 * hash + Long.hashCode(rulesVersion);
+    }
+
+    long getRulesVersion() {
+        return this.rulesVersion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValidationCacheKey)) {
+            return false;
+        }
+        ValidationCacheKey that = (ValidationCacheKey) o;
+        return this.hash == that.hash
+                && this.failFast == that.failFast
+                && this.rulesVersion == that.rulesVersion
+                && Arrays.equals(this.bodyDigest, that.bodyDigest)
+                && this.targetType.equals(that.targetType)
+                && Arrays.equals(this.groups, that.groups)
+                && Objects.equals(this.contentType, that.contentType);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
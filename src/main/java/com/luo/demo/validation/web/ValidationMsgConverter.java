@@ -0,0 +1,297 @@
+package com.luo.demo.validation.web;
+
+import com.luo.demo.validation.audit.SensitiveMaskingModule;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.ViolationResult;
+import com.luo.demo.validation.enums.RespCodeEnum;
+import com.luo.demo.validation.enums.ValidationMsgModeEnum;
+import com.luo.demo.validation.json.JsonLimitExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.FieldError;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ElementKind;
+import javax.validation.Path;
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 验证错误提示信息转换
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Component
+public class ValidationMsgConverter {
+
+    /**
+     * 是否在响应结果中展示验证错误提示信息
+     */
+    @Value("${spring.validation.msg.enable:true}")
+    private Boolean enableValidationMsg;
+
+    /**
+     * 默认输出模式（可通过请求头X-Validation-Msg-Mode指定当前请求的输出模式）
+     */
+    @Value("${spring.validation.msg.mode:flat}")
+    private ValidationMsgModeEnum validationMsgMode = ValidationMsgModeEnum.FLAT;
+
+    /**
+     * 是否以虚拟线程处理请求（每个请求一个新线程，线程内复用缓冲区无意义，反而会为每个虚拟线程创建ThreadLocalMap）
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private Boolean virtualThreadsEnabled = false;
+
+    /**
+     * 被拒绝值提示需脱敏的属性名（与审计日志相同，按属性路径最后一级匹配，如orgs[0].phone -> phone）
+     */
+    private Set<String> maskedFields = new HashSet<>(Arrays.asList("idNo", "phone"));
+
+    /**
+     * 符号常量
+     */
+    private static final char DOT = '.';
+    private static final String SEPARATOR_COMMA = ", ";
+    private static final String SEPARATOR_COLON = ": ";
+
+    /**
+     * 被拒绝值提示的最大长度
+     */
+    private static final int MAX_REJECTED_VALUE_LENGTH = 64;
+
+    /**
+     * 每个线程复用的拼接缓冲区，容量超过上限后不再复用（避免长期持有大数组）
+     */
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    public ValidationMsgConverter() {
+    }
+
+    public ValidationMsgConverter(Boolean enableValidationMsg) {
+        this.enableValidationMsg = enableValidationMsg;
+    }
+
+    @Value("${spring.audit.masked-fields:idNo,phone}")
+    public void setMaskedFields(String[] maskedFields) {
+        this.maskedFields = new HashSet<>(Arrays.asList(maskedFields));
+    }
+
+    /**
+     * 转换FieldError列表为错误提示信息（field: message, ...）
+     *
+     * @param fieldErrors
+     * @return
+     */
+    public String convertFiledErrors(List<FieldError> fieldErrors) {
+        if (fieldErrors == null || fieldErrors.isEmpty() || !this.enableValidationMsg) {
+            return null;
+        }
+        StringBuilder msg = this.buffer();
+        boolean first = true;
+        for (FieldError fieldError : fieldErrors) {
+            if (!first) {
+                msg.append(SEPARATOR_COMMA);
+            }
+            first = false;
+            msg.append(fieldError.getField()).append(SEPARATOR_COLON).append(fieldError.getDefaultMessage());
+        }
+        return msg.toString();
+    }
+
+    /**
+     * 转换ConstraintViolation集合为错误提示信息（属性路径最后一级: message, ...）
+     *
+     * @param constraintViolations
+     * @return
+     */
+    public String convertConstraintViolations(Set<? extends ConstraintViolation<?>> constraintViolations) {
+        if (constraintViolations == null || constraintViolations.isEmpty() || !this.enableValidationMsg) {
+            return null;
+        }
+        StringBuilder msg = this.buffer();
+        boolean first = true;
+        for (ConstraintViolation<?> constraintViolation : constraintViolations) {
+            if (!first) {
+                msg.append(SEPARATOR_COMMA);
+            }
+            first = false;
+            String path = constraintViolation.getPropertyPath().toString();
+            msg.append(path, path.lastIndexOf(DOT) + 1, path.length())
+                    .append(SEPARATOR_COLON)
+                    .append(constraintViolation.getMessage());
+        }
+        return msg.toString();
+    }
+
+    /**
+     * 解析当前请求的输出模式
+     *
+     * @param modeHeader 请求头X-Validation-Msg-Mode的值
+     * @return 输出模式，请求头为空或无法识别时为spring.validation.msg.mode
+     */
+    public ValidationMsgModeEnum resolveMode(String modeHeader) {
+        return ValidationMsgModeEnum.of(modeHeader, this.validationMsgMode);
+    }
+
+    /**
+     * 参数格式异常响应结果，按当前请求的输出模式（flat/structured/both）填充msg及errors
+     *
+     * @param modeHeader     请求头X-Validation-Msg-Mode的值
+     * @param msgSupplier    错误提示信息
+     * @param errorsSupplier 结构化的违反约束列表
+     * @return
+     */
+    public CommonResult respWithParamInvalid(String modeHeader, Supplier<String> msgSupplier, Supplier<List<ViolationResult>> errorsSupplier) {
+        ValidationMsgModeEnum mode = this.resolveMode(modeHeader);
+        return CommonResult.respWith(RespCodeEnum.PARAM_INVALID.getCode(),
+                mode.isFlat() ? msgSupplier.get() : null,
+                mode.isStructured() ? errorsSupplier.get() : null);
+    }
+
+    /**
+     * 转换FieldError列表为结构化结果
+     *
+     * @param fieldErrors
+     * @return
+     */
+    public List<ViolationResult> toViolationResults(List<FieldError> fieldErrors) {
+        if (fieldErrors == null || fieldErrors.isEmpty() || !this.enableValidationMsg) {
+            return null;
+        }
+        List<ViolationResult> violationResults = new ArrayList<>(fieldErrors.size());
+        for (FieldError fieldError : fieldErrors) {
+            violationResults.add(new ViolationResult(fieldError.getField(), fieldError.getCode(),
+                    this.rejectedValueHint(fieldError.getField(), fieldError.getRejectedValue()), fieldError.getDefaultMessage()));
+        }
+        return violationResults;
+    }
+
+    /**
+     * 转换ConstraintViolation集合为结构化结果（方法参数验证时去掉路径中的方法名）
+     *
+     * @param constraintViolations
+     * @return
+     */
+    public List<ViolationResult> toViolationResults(Set<? extends ConstraintViolation<?>> constraintViolations) {
+        if (constraintViolations == null || constraintViolations.isEmpty() || !this.enableValidationMsg) {
+            return null;
+        }
+        List<ViolationResult> violationResults = new ArrayList<>(constraintViolations.size());
+        for (ConstraintViolation<?> constraintViolation : constraintViolations) {
+            String field = propertyPath(constraintViolation);
+            violationResults.add(new ViolationResult(field,
+                    constraintViolation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName(),
+                    this.rejectedValueHint(field, constraintViolation.getInvalidValue()), constraintViolation.getMessage()));
+        }
+        return violationResults;
+    }
+
+    /**
+     * 转换请求体超出限制异常为错误提示信息（field: message）
+     *
+     * @param ex
+     * @return
+     */
+    public String convertJsonLimitExceeded(JsonLimitExceededException ex) {
+        if (!this.enableValidationMsg) {
+            return null;
+        }
+        return ex.getField() + SEPARATOR_COLON + ex.getOriginalMessage();
+    }
+
+    /**
+     * 转换请求体超出限制异常为结构化结果
+     *
+     * @param ex
+     * @return
+     */
+    public List<ViolationResult> toViolationResults(JsonLimitExceededException ex) {
+        if (!this.enableValidationMsg) {
+            return null;
+        }
+        return Collections.singletonList(new ViolationResult(ex.getField(), ex.getLimitType().getCode(), null, ex.getOriginalMessage()));
+    }
+
+    /**
+     * 违反约束的属性路径，方法参数验证时去掉路径中的方法名（getUser.id -> id）
+     *
+     * @param constraintViolation
+     * @return
+     */
+    public static String propertyPath(ConstraintViolation<?> constraintViolation) {
+        String path = constraintViolation.getPropertyPath().toString();
+        Iterator<Path.Node> nodeIterator = constraintViolation.getPropertyPath().iterator();
+        if (nodeIterator.hasNext()) {
+            ElementKind firstKind = nodeIterator.next().getKind();
+            if (firstKind == ElementKind.METHOD || firstKind == ElementKind.CONSTRUCTOR) {
+                return path.substring(path.indexOf(DOT) + 1);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * 被拒绝值提示：简单值截断展示（敏感属性先脱敏），集合/Map展示大小，数组展示长度，其他对象仅展示类型
+     */
+    private String rejectedValueHint(String field, Object rejectedValue) {
+        if (rejectedValue == null) {
+            return null;
+        }
+        if (rejectedValue instanceof CharSequence || rejectedValue instanceof Number || rejectedValue instanceof Boolean
+                || rejectedValue instanceof Character || rejectedValue instanceof Enum
+                || rejectedValue instanceof TemporalAccessor || rejectedValue instanceof Date) {
+            String value = this.isMaskedField(field)
+                    ? SensitiveMaskingModule.mask(rejectedValue.toString())
+                    : rejectedValue.toString();
+            return value.length() > MAX_REJECTED_VALUE_LENGTH ? value.substring(0, MAX_REJECTED_VALUE_LENGTH) + "..." : value;
+        }
+        if (rejectedValue instanceof Collection) {
+            return "size=" + ((Collection<?>) rejectedValue).size();
+        }
+        if (rejectedValue instanceof Map) {
+            return "size=" + ((Map<?, ?>) rejectedValue).size();
+        }
+        if (rejectedValue.getClass().isArray()) {
+            return "length=" + Array.getLength(rejectedValue);
+        }
+        return rejectedValue.getClass().getSimpleName();
+    }
+
+    /**
+     * 属性路径最后一级（去掉集合下标/键）是否为需脱敏的属性
+     */
+    private boolean isMaskedField(String field) {
+        if (field == null || this.maskedFields.isEmpty()) {
+            return false;
+        }
+        int begin = field.lastIndexOf(DOT) + 1;
+        int end = field.indexOf('[', begin);
+        return this.maskedFields.contains(end < 0 ? field.substring(begin) : field.substring(begin, end));
+    }
+
+    private StringBuilder buffer() {
+        if (this.virtualThreadsEnabled) {
+            return new StringBuilder(256);
+        }
+        StringBuilder buffer = BUFFER.get();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer = new StringBuilder(256);
+            BUFFER.set(buffer);
+        }
+        buffer.setLength(0);
+        return buffer;
+    }
+}
@@ -0,0 +1,274 @@
+package com.luo.demo.validation.web;
+
+import com.luo.demo.validation.metrics.ValidationMetrics;
+import com.luo.demo.validation.plan.PlannedValidatorFactoryBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 验证预热 - 启动时预先构建handler参数类型的验证元数据
+ * <p>
+ * Hibernate Validator在首次验证某类型时才构建BeanMetaData、解析组合约束（如@IdNo/@PhoneNo中的@Pattern）、
+ * 初始化ConstraintValidator（编译正则表达式）及加载提示信息资源，导致每次发布后各接口的首个请求耗时突增。
+ * 此处在所有单例初始化完成后（Web服务器开始监听端口之前）：
+ * <ul>
+ *     <li>找出@Controller中@Valid/@Validated请求参数的类型（含Mono/Flux等泛型参数）及其级联（@Valid）类型，构建元数据</li>
+ *     <li>以各handler的验证分组验证一个空实例（无参构造），初始化所有约束验证器及@NotNull等违反约束时的提示信息插值</li>
+ *     <li>空实例的属性为null，@IdNo/@PhoneNo/@Pattern等对null直接通过，故再按属性类型取代表性取值（非空字符串、数字、日期）
+ *     逐个验证约束属性（Validator.validateValue），执行正则匹配/校验位计算等分支及违反约束时的提示信息插值</li>
+ *     <li>构建controller的方法约束（@Validated类上参数直接指定constraints）元数据</li>
+ * </ul>
+ * 预热完成后端口才开始监听，就绪探针（readiness）随之通过；预热耗时输出到日志及validation.warmup指标。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Component
+@ConditionalOnProperty(name = "spring.validation.warm-up.enable", havingValue = "true", matchIfMissing = true)
+public class ValidationWarmUp implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidationWarmUp.class);
+
+    /**
+     * 属性类型 -> 代表性取值
+     */
+    private static final Map<Class<?>, Object> SAMPLE_VALUES = sampleValues();
+
+    private final ApplicationContext applicationContext;
+    private final ObjectProvider<LocalValidatorFactoryBean> defaultValidatorProvider;
+    private final ObjectProvider<ValidationMetrics> validationMetricsProvider;
+
+    public ValidationWarmUp(ApplicationContext applicationContext,
+                            ObjectProvider<LocalValidatorFactoryBean> defaultValidatorProvider,
+                            ObjectProvider<ValidationMetrics> validationMetricsProvider) {
+        this.applicationContext = applicationContext;
+        this.defaultValidatorProvider = defaultValidatorProvider;
+        this.validationMetricsProvider = validationMetricsProvider;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        LocalValidatorFactoryBean defaultValidator = this.defaultValidatorProvider.getIfAvailable();
+        if (defaultValidator == null) {
+            return;
+        }
+        long begin = System.nanoTime();
+        //直接使用Hibernate Validator，不经过验证计划，亦不记录validation.duration指标
+        Validator validator = defaultValidator.unwrap(Validator.class);
+        Class<?> failFastHint = defaultValidator instanceof PlannedValidatorFactoryBean
+                ? ((PlannedValidatorFactoryBean) defaultValidator).getFailFastHint()
+                : null;
+
+        //参数类型 -> 各handler的验证分组
+        Map<Class<?>, Set<List<Class<?>>>> validatedTypes = new LinkedHashMap<>();
+        Set<Class<?>> controllerTypes = new LinkedHashSet<>();
+        for (Object controller : this.applicationContext.getBeansWithAnnotation(Controller.class).values()) {
+            Class<?> controllerType = ClassUtils.getUserClass(controller);
+            controllerTypes.add(controllerType);
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(controllerType, ReflectionUtils.USER_DECLARED_METHODS)) {
+                if (AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class)) {
+                    this.collectValidatedParams(method, failFastHint, validatedTypes);
+                }
+            }
+        }
+
+        Set<Class<?>> warmedTypes = new LinkedHashSet<>();
+        for (Class<?> controllerType : controllerTypes) {
+            validator.getConstraintsForClass(controllerType);
+        }
+        for (Map.Entry<Class<?>, Set<List<Class<?>>>> entry : validatedTypes.entrySet()) {
+            for (Class<?> type : cascadedTypes(validator, entry.getKey())) {
+                if (warmedTypes.add(type)) {
+                    log.debug("validation warm-up - {}", type.getName());
+                }
+                for (List<Class<?>> groups : entry.getValue()) {
+                    validateBlankInstance(validator, type, groups);
+                    validateSampleValues(validator, type, groups);
+                }
+            }
+        }
+
+        long durationNanos = System.nanoTime() - begin;
+        log.info("validation warm-up - {} types of {} controllers in {} ms", warmedTypes.size(), controllerTypes.size(), durationNanos / 1_000_000);
+        this.validationMetricsProvider.ifAvailable(validationMetrics -> validationMetrics.recordWarmUp(warmedTypes.size(), durationNanos));
+    }
+
+    /**
+     * 收集handler方法中@Valid/@Validated参数的类型及验证分组
+     */
+    private void collectValidatedParams(Method method, Class<?> failFastHint, Map<Class<?>, Set<List<Class<?>>>> validatedTypes) {
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            MethodParameter methodParameter = new MethodParameter(method, i);
+            for (Annotation annotation : methodParameter.getParameterAnnotations()) {
+                Object[] validationHints = ValidationAnnotationUtils.determineValidationHints(annotation);
+                if (validationHints == null) {
+                    continue;
+                }
+                List<Class<?>> groups = new ArrayList<>();
+                for (Object hint : validationHints) {
+                    if (hint instanceof Class && hint != failFastHint) {
+                        groups.add((Class<?>) hint);
+                    }
+                }
+                //Mono<UserParam>、Flux<UserParam>等取泛型参数
+                ResolvableType paramType = ResolvableType.forMethodParameter(methodParameter);
+                Class<?> type = paramType.hasGenerics() ? paramType.getGeneric(0).resolve() : paramType.resolve();
+                if (type != null && !BeanUtils.isSimpleProperty(type)) {
+                    validatedTypes.computeIfAbsent(type, key -> new LinkedHashSet<>()).add(groups);
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * 构建类型及其级联（@Valid）属性类型的元数据
+     *
+     * @return 类型及其级联类型
+     */
+    private static Set<Class<?>> cascadedTypes(Validator validator, Class<?> rootType) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(rootType);
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            if (!types.add(type)) {
+                continue;
+            }
+            BeanDescriptor beanDescriptor = validator.getConstraintsForClass(type);
+            for (PropertyDescriptor propertyDescriptor : beanDescriptor.getConstrainedProperties()) {
+                if (propertyDescriptor.isCascaded()) {
+                    addIfBean(pending, propertyType(type, propertyDescriptor));
+                }
+                for (ContainerElementTypeDescriptor elementDescriptor : propertyDescriptor.getConstrainedContainerElementTypes()) {
+                    if (elementDescriptor.isCascaded()) {
+                        addIfBean(pending, elementDescriptor.getElementClass());
+                    }
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * 属性类型，集合/数组/Optional取元素类型，Map取值类型
+     */
+    private static Class<?> propertyType(Class<?> beanType, PropertyDescriptor propertyDescriptor) {
+        Field field = ReflectionUtils.findField(beanType, propertyDescriptor.getPropertyName());
+        ResolvableType type = field == null
+                ? ResolvableType.forClass(propertyDescriptor.getElementClass())
+                : ResolvableType.forField(field, beanType);
+        if (type.isArray()) {
+            return type.getComponentType().resolve();
+        }
+        Class<?> rawType = type.resolve();
+        if (rawType == null) {
+            return null;
+        }
+        if (Map.class.isAssignableFrom(rawType)) {
+            return type.asMap().getGeneric(1).resolve();
+        }
+        if (Collection.class.isAssignableFrom(rawType) || Optional.class == rawType) {
+            return type.getGeneric(0).resolve();
+        }
+        return rawType;
+    }
+
+    private static void addIfBean(Deque<Class<?>> pending, Class<?> type) {
+        if (type != null && !BeanUtils.isSimpleProperty(type)) {
+            pending.add(type);
+        }
+    }
+
+    /**
+     * 验证空实例，初始化各约束验证器（不可实例化的类型仅构建元数据）
+     */
+    private static void validateBlankInstance(Validator validator, Class<?> type, List<Class<?>> groups) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || ClassUtils.getConstructorIfAvailable(type) == null) {
+            return;
+        }
+        try {
+            validator.validate(BeanUtils.instantiateClass(type), groups.toArray(new Class<?>[0]));
+        } catch (RuntimeException ex) {
+            log.warn("validation warm-up - failed to validate blank {}: {}", type.getName(), ex.getMessage());
+        }
+    }
+
+    /**
+     * 以代表性取值验证各约束属性（集合、级联bean等无代表性取值的属性跳过），单个属性验证失败不影响其他属性
+     */
+    private static void validateSampleValues(Validator validator, Class<?> type, List<Class<?>> groups) {
+        Class<?>[] groupArray = groups.toArray(new Class<?>[0]);
+        for (PropertyDescriptor propertyDescriptor : validator.getConstraintsForClass(type).getConstrainedProperties()) {
+            Object sampleValue = SAMPLE_VALUES.get(propertyDescriptor.getElementClass());
+            if (sampleValue == null) {
+                continue;
+            }
+            try {
+                validator.validateValue(type, propertyDescriptor.getPropertyName(), sampleValue, groupArray);
+            } catch (RuntimeException ex) {
+                log.warn("validation warm-up - failed to validate sample {}.{}: {}", type.getName(), propertyDescriptor.getPropertyName(), ex.getMessage());
+            }
+        }
+    }
+
+    private static Map<Class<?>, Object> sampleValues() {
+        Map<Class<?>, Object> sampleValues = new HashMap<>();
+        //18位数字：通过长度检查，执行身份证号逐位校验、电话号码等正则的完整匹配
+        sampleValues.put(String.class, "110105194912310021");
+        sampleValues.put(CharSequence.class, "110105194912310021");
+        for (Class<?> type : new Class<?>[]{Integer.class, int.class}) {
+            sampleValues.put(type, 0);
+        }
+        for (Class<?> type : new Class<?>[]{Long.class, long.class}) {
+            sampleValues.put(type, 0L);
+        }
+        for (Class<?> type : new Class<?>[]{Boolean.class, boolean.class}) {
+            sampleValues.put(type, Boolean.FALSE);
+        }
+        sampleValues.put(BigDecimal.class, BigDecimal.ZERO);
+        sampleValues.put(LocalDate.class, LocalDate.now());
+        sampleValues.put(LocalDateTime.class, LocalDateTime.now());
+        sampleValues.put(Date.class, new Date());
+        return sampleValues;
+    }
+}
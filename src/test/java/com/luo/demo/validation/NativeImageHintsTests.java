@@ -0,0 +1,81 @@
+package com.luo.demo.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 校验native image元数据（META-INF/native-image）覆盖所有约束、验证器及DTO（JVM下执行，native image中无法扫描类路径）
+ */
+@DisabledIfSystemProperty(named = "org.graalvm.nativeimage.imagecode", matches = ".+")
+class NativeImageHintsTests {
+
+    private static final String METADATA_DIR = "META-INF/native-image/com.luo/demo-validation/";
+
+    @Test
+    void reflectConfigCoversConstraintsAndDomain() throws IOException {
+        Set<String> reflectTypes = names(METADATA_DIR + "reflect-config.json", "name");
+        for (String reflectType : reflectTypes) {
+            assertDoesNotThrow(() -> Class.forName(reflectType), reflectType);
+        }
+        for (String packagePath : new String[]{"constraints", "domain/**"}) {
+            for (String type : classNames("com/luo/demo/validation/" + packagePath + "/*.class")) {
+                //DateFormatMatcher等内部实现、编译期生成的Mapper（直接调用getter/setter）无需反射，测试类的元数据在src/test/resources中
+                if (type.contains("Matcher") || type.contains(".mapper.") || type.contains("Tests")) {
+                    continue;
+                }
+                assertTrue(reflectTypes.contains(type), type + " missing in reflect-config.json");
+            }
+        }
+    }
+
+    @Test
+    void proxyConfigCoversComposedConstraints() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Set<String> proxyTypes = new HashSet<>();
+        try (InputStream inputStream = resource(METADATA_DIR + "proxy-config.json")) {
+            for (JsonNode proxy : objectMapper.readTree(inputStream)) {
+                proxyTypes.add(proxy.get("interfaces").get(0).asText());
+            }
+        }
+        //@DateTimeFormat通过@OverridesAttribute组合@DateFormat
+        assertTrue(proxyTypes.contains("com.luo.demo.validation.constraints.DateFormat"));
+    }
+
+    private static Set<String> names(String path, String field) throws IOException {
+        Set<String> names = new HashSet<>();
+        try (InputStream inputStream = resource(path)) {
+            for (JsonNode node : new ObjectMapper().readTree(inputStream)) {
+                names.add(node.get(field).asText());
+            }
+        }
+        return names;
+    }
+
+    private static Set<String> classNames(String pattern) throws IOException {
+        Set<String> classNames = new HashSet<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath*:" + pattern)) {
+            String url = resource.getURL().toString();
+            String path = url.substring(url.indexOf("com/luo/"), url.length() - ".class".length());
+            classNames.add(path.replace('/', '.'));
+        }
+        return classNames;
+    }
+
+    private static InputStream resource(String path) {
+        InputStream inputStream = NativeImageHintsTests.class.getClassLoader().getResourceAsStream(path);
+        assertTrue(inputStream != null, path);
+        return inputStream;
+    }
+}
@@ -0,0 +1,102 @@
+package com.luo.demo.validation.audit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.enums.AuditOverflowPolicyEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditLogTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writesMaskedEventsAsNdjson() throws Exception {
+        Path file = this.tempDir.resolve("logs/audit.log");
+        AuditLog auditLog = newAuditLog(file);
+        UserParam userParam = new UserParam();
+        userParam.setName("Tom");
+        userParam.setPhone("18888888888");
+        userParam.setIdNo("11010519491231002X");
+        auditLog.record("add user", userParam);
+        auditLog.record("resp failed", "/user/add", CommonResult.failed());
+        auditLog.destroy();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode addUser = objectMapper.readTree(lines.get(0));
+        assertEquals("add user", addUser.get("action").asText());
+        assertFalse(addUser.has("path"));
+        assertEquals("Tom", addUser.at("/payload/name").asText());
+        assertEquals("188****8888", addUser.at("/payload/phone").asText());
+        assertEquals("110***********002X", addUser.at("/payload/idNo").asText());
+        JsonNode respFailed = objectMapper.readTree(lines.get(1));
+        assertEquals("/user/add", respFailed.get("path").asText());
+        assertEquals(200, respFailed.at("/payload/respCode").asInt());
+        assertEquals(2, auditLog.getPublishedCount());
+        assertEquals(2, auditLog.getWrittenCount());
+        assertEquals(0, auditLog.getDroppedCount());
+    }
+
+    @Test
+    @ExtendWith(OutputCaptureExtension.class)
+    void disabledLogsMaskedEventsAtDebug(CapturedOutput output) throws Exception {
+        Logger logger = (Logger) LoggerFactory.getLogger(AuditLog.class);
+        Level level = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        try {
+            Path file = this.tempDir.resolve("logs/audit.log");
+            AuditLog auditLog = newAuditLog(file, false);
+            UserParam userParam = new UserParam();
+            userParam.setPhone("18888888888");
+            auditLog.record("add user", "/user/add", userParam);
+            auditLog.destroy();
+
+            assertFalse(Files.exists(file));
+            assertEquals(0, auditLog.getPublishedCount());
+            assertTrue(output.getOut().contains("audit - action: add user, path: /user/add"), output.getOut());
+            assertTrue(output.getOut().contains("\"phone\":\"188****8888\""), output.getOut());
+        } finally {
+            logger.setLevel(level);
+        }
+    }
+
+    @Test
+    void masksShortValuesCompletely() {
+        assertEquals("*******", SensitiveMaskingModule.mask("1234567"));
+        assertEquals("123*5678", SensitiveMaskingModule.mask("12345678"));
+    }
+
+    private static AuditLog newAuditLog(Path file) {
+        return newAuditLog(file, true);
+    }
+
+    private static AuditLog newAuditLog(Path file, boolean enable) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        return new AuditLog(beanFactory.getBeanProvider(Jackson2ObjectMapperBuilder.class), beanFactory.getBeanProvider(MeterRegistry.class),
+                enable, file.toString(), 16, 4, AuditOverflowPolicyEnum.DROP, Duration.ofMillis(100), new String[]{"idNo", "phone"});
+    }
+}
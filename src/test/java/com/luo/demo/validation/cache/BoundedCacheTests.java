@@ -0,0 +1,38 @@
+package com.luo.demo.validation.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BoundedCacheTests {
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a"));
+        cache.put("c", 3);
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void expiresAfterTtl() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2, Duration.ZERO);
+        cache.put("a", 1);
+        assertNull(cache.get("a"));
+        cache.put("b", 2);
+        assertEquals(1, cache.purgeExpired());
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getExpirationCount());
+    }
+}
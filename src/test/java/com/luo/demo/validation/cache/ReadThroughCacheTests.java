@@ -0,0 +1,113 @@
+package com.luo.demo.validation.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReadThroughCacheTests {
+
+    @Test
+    void coalescesConcurrentMisses() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), id -> {
+            loadCount.incrementAndGet();
+            loadStarted.countDown();
+            try {
+                releaseLoad.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "user-" + id;
+        });
+        int clients = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> cache.get(1L)));
+            assertEquals(true, loadStarted.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < clients; i++) {
+                results.add(executorService.submit(() -> cache.get(1L)));
+            }
+            //wait until the other clients are blocked on the load in flight
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (cache.getCoalescedCount() < clients - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            releaseLoad.countDown();
+            for (Future<String> result : results) {
+                assertEquals("user-1", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(1, loadCount.get());
+        assertEquals(clients - 1, cache.getCoalescedCount());
+        assertEquals("user-1", cache.get(1L));
+        assertEquals(1, cache.getCache().getHitCount());
+    }
+
+    @Test
+    void invalidateDuringLoadDiscardsStaleValue() throws Exception {
+        AtomicInteger version = new AtomicInteger(1);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), id -> {
+            String value = "user-" + id + "-v" + version.get();
+            loadStarted.countDown();
+            try {
+                releaseLoad.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        });
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> staleLoad = executorService.submit(() -> cache.get(1L));
+            assertEquals(true, loadStarted.await(10, TimeUnit.SECONDS));
+            //data updated while the load is in flight
+            version.set(2);
+            cache.invalidate(1L);
+            releaseLoad.countDown();
+            assertEquals("user-1-v1", staleLoad.get(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(0, cache.getCache().size());
+        assertEquals("user-1-v2", cache.get(1L));
+        assertEquals("user-1-v2", cache.get(1L));
+        assertEquals(2, cache.getLoadSuccessCount());
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        AtomicInteger loadCount = new AtomicInteger();
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), id -> {
+            if (loadCount.incrementAndGet() == 1) {
+                throw new IllegalStateException("lookup failed");
+            }
+            return "user-" + id;
+        });
+        assertThrows(IllegalStateException.class, () -> cache.get(1L));
+        assertEquals("user-1", cache.get(1L));
+        assertEquals(1, cache.getLoadFailureCount());
+        assertEquals(1, cache.getLoadSuccessCount());
+
+        cache.invalidate(1L);
+        assertEquals("user-1", cache.get(1L));
+        assertEquals(3, loadCount.get());
+    }
+}
@@ -0,0 +1,63 @@
+package com.luo.demo.validation.constraints;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConstraintMessagesTests {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void customConstraintMessages() {
+        Map<String, String> messages = messages(new Holder("1888888888a", "110105194912310021", "2021-13-01", "2021-09-05"));
+        assertEquals("电话号码格式不正确", messages.get("phone"));
+        assertEquals("身份证号码格式不正确", messages.get("idNo"));
+        assertEquals("日期格式不正确", messages.get("date"));
+        //@DateTimeFormat通过@OverridesAttribute覆盖@DateFormat的message及format
+        assertEquals("日期时间格式不正确", messages.get("dateTime"));
+        assertEquals(4, messages.size());
+    }
+
+    @Test
+    void overriddenFormatIsApplied() {
+        assertEquals(0, messages(new Holder("18888888888", "11010519491231002X", "2021-09-05", "2021-09-05 12:10:22")).size());
+    }
+
+    private Map<String, String> messages(Object target) {
+        Set<ConstraintViolation<Object>> violations = this.validator.validate(target);
+        Map<String, String> messages = new TreeMap<>();
+        for (ConstraintViolation<Object> violation : violations) {
+            messages.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return messages;
+    }
+
+    static class Holder {
+        @PhoneNo
+        private final String phone;
+
+        @IdNo
+        private final String idNo;
+
+        @DateFormat
+        private final String date;
+
+        @DateTimeFormat
+        private final String dateTime;
+
+        Holder(String phone, String idNo, String date, String dateTime) {
+            this.phone = phone;
+            this.idNo = idNo;
+            this.date = date;
+            this.dateTime = dateTime;
+        }
+    }
+}
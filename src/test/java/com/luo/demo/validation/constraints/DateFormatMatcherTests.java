@@ -0,0 +1,75 @@
+package com.luo.demo.validation.constraints;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DateFormatMatcherTests {
+
+    private static final String[] DATES = {
+            "2021-09-05", "2021-02-30", "2021-02-32", "2021-13-01", "2021-00-10", "2021-01-00",
+            "0000-01-01", "0001-01-01", "9999-12-31", "20210-01-01", "+2021-01-01", "2021-1-01",
+            "2021-01-01 ", "2021/01/01", "abcd-ef-gh", "2021-01-0a"
+    };
+
+    private static final String[] DATE_TIMES = {
+            "2021-09-05 12:10:22", "2021-01-01 00:00:00", "2021-01-01 23:59:59", "2021-01-01 24:00:00",
+            "2021-01-01 24:00:01", "2021-01-01 25:00:00", "2021-01-01 23:60:00", "2021-01-01 23:59:60",
+            "2021-02-30 10:00:00", "2021-1-01 10:00:00", "2021-01-01T10:00:00", "2021-01-01 10:00"
+    };
+
+    @Test
+    void isoDateMatchesDateTimeFormatter() {
+        assertSameAsFormatter("yyyy-MM-dd", DATES);
+    }
+
+    @Test
+    void isoDateTimeMatchesDateTimeFormatter() {
+        assertSameAsFormatter("yyyy-MM-dd HH:mm:ss", DATE_TIMES);
+    }
+
+    @Test
+    void otherFormatMatchesDateTimeFormatter() {
+        assertSameAsFormatter("yyyy/MM/dd", new String[]{"2021/09/05", "2021/13/05", "2021/09/32", "2021-09-05", "2021/09/05x"});
+        assertSameAsFormatter("yyyyMMdd", new String[]{"20210905", "20211305", "2021090", "202109055"});
+        assertSameAsFormatter("yyyy/MM/dd", new String[]{"2021/02/29", "2021/02/30", "2021/02/31", "2021/04/31", "0000/01/01"});
+    }
+
+    @Test
+    void otherFormatResolvesLikeDateTimeFormatter() {
+        //end of day
+        assertSameAsFormatter("HH:mm:ss", new String[]{"23:59:59", "24:00:00", "24:00:01", "24:01:00", "25:00:00"});
+        assertSameAsFormatter("yyyy/MM/dd HH:mm", new String[]{"2021/12/31 24:00", "2021/12/31 24:30", "2021/12/31 23:60"});
+        //day of year cross-checked with the date
+        assertSameAsFormatter("yyyy-MM-dd D", new String[]{"2021-09-05 248", "2021-09-05 249", "2021-09-05 367", "2021-09-05"});
+    }
+
+    @Test
+    void invalidFormatRejectsAll() {
+        assertFalse(DateFormatMatcher.of("yyyy-MM-dd{").matches("2021-09-05"));
+    }
+
+    @Test
+    void matcherIsCached() {
+        assertSame(DateFormatMatcher.of("dd.MM.yyyy"), DateFormatMatcher.of("dd.MM.yyyy"));
+    }
+
+    private static void assertSameAsFormatter(String format, String[] texts) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
+        DateFormatMatcher matcher = DateFormatMatcher.of(format);
+        for (String text : texts) {
+            boolean expected;
+            try {
+                formatter.parse(text);
+                expected = true;
+            } catch (RuntimeException ex) {
+                expected = false;
+            }
+            assertEquals(expected, matcher.matches(text), format + " -> " + text);
+        }
+    }
+}
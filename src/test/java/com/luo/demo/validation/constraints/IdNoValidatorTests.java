@@ -0,0 +1,57 @@
+package com.luo.demo.validation.constraints;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdNoValidatorTests {
+
+    @Test
+    void acceptsValidIdNo() {
+        assertTrue(IdNoValidator.isValidIdNo("11010519491231002X"));
+        assertTrue(IdNoValidator.isValidIdNo("11010519491231002x"));
+        assertTrue(IdNoValidator.isValidIdNo("110105200002290013"));
+    }
+
+    @Test
+    void rejectsInvalidIdNo() {
+        //check digit
+        assertFalse(IdNoValidator.isValidIdNo("110105194912310021"));
+        //region
+        assertFalse(IdNoValidator.isValidIdNo("10010519491231002X"));
+        //birth date
+        assertFalse(IdNoValidator.isValidIdNo("110105194902290025"));
+        assertFalse(IdNoValidator.isValidIdNo("110105194913310026"));
+        assertFalse(IdNoValidator.isValidIdNo("110105170001010024"));
+        //length and chars
+        assertFalse(IdNoValidator.isValidIdNo("11010519491231002"));
+        assertFalse(IdNoValidator.isValidIdNo("1101051949123100 X"));
+        assertFalse(IdNoValidator.isValidIdNo(""));
+    }
+
+    @Test
+    void regexpOverridesDefaultCheck() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        assertEquals(0, validator.validate(new IdNoHolder("11010519491231002X", "110105194912310021")).size());
+        assertEquals(2, validator.validate(new IdNoHolder("110105194912310021", "1101051949123100")).size());
+        assertEquals(0, validator.validate(new IdNoHolder(null, null)).size());
+    }
+
+    static class IdNoHolder {
+        @IdNo
+        private final String idNo;
+
+        @IdNo(regexp = "^\\d{17}[0-9Xx]$")
+        private final String customIdNo;
+
+        IdNoHolder(String idNo, String customIdNo) {
+            this.idNo = idNo;
+            this.customIdNo = customIdNo;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.luo.demo.validation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.luo.demo.validation.enums.ValidationMsgModeEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = "spring.rate-limit.enable=false")
+@AutoConfigureMockMvc
+class DemoControllerTests {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void binaryBodyRoundTrips() throws Exception {
+        assertEquals(100, this.addUser(this.smileMapper, SMILE, SMILE, userParam()).get("respCode").asInt());
+        assertEquals(100, this.addUser(this.cborMapper, CBOR, CBOR, userParam()).get("respCode").asInt());
+    }
+
+    @Test
+    void invalidBinaryBodyRespWithSameParamInvalid() throws Exception {
+        Map<String, Object> userParam = userParam();
+        userParam.put("phone", "1888888888a");
+        JsonNode jsonResult = this.addUser(this.jsonMapper, MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON, userParam);
+        assertEquals(101, jsonResult.get("respCode").asInt());
+        assertEquals("phone: 电话号码格式不正确", jsonResult.get("msg").asText());
+        assertEquals("phone", jsonResult.get("errors").get(0).get("field").asText());
+
+        JsonNode smileResult = this.addUser(this.smileMapper, SMILE, SMILE, userParam);
+        JsonNode cborResult = this.addUser(this.cborMapper, CBOR, CBOR, userParam);
+        for (JsonNode result : new JsonNode[]{smileResult, cborResult}) {
+            assertEquals(101, result.get("respCode").asInt());
+            assertEquals(jsonResult.get("msg"), result.get("msg"));
+            assertEquals(jsonResult.get("errors"), result.get("errors"));
+        }
+    }
+
+    @Test
+    void anyAcceptRespWithJson() throws Exception {
+        MockHttpServletResponse response = this.mockMvc.perform(post("/user/add")
+                        .contentType(SMILE)
+                        .accept(MediaType.ALL)
+                        .content(this.smileMapper.writeValueAsBytes(userParam())))
+                .andReturn().getResponse();
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(response.getContentType())), response.getContentType());
+        assertEquals(100, this.jsonMapper.readTree(response.getContentAsByteArray()).get("respCode").asInt());
+    }
+
+    private JsonNode addUser(ObjectMapper mapper, MediaType contentType, MediaType accept, Map<String, Object> userParam) throws Exception {
+        MockHttpServletResponse response = this.mockMvc.perform(post("/user/add")
+                        .contentType(contentType)
+                        .accept(accept)
+                        .header(ValidationMsgModeEnum.HEADER, ValidationMsgModeEnum.BOTH.name())
+                        .content(mapper.writeValueAsBytes(userParam)))
+                .andReturn().getResponse();
+        assertEquals(200, response.getStatus());
+        assertTrue(accept.isCompatibleWith(MediaType.parseMediaType(response.getContentType())), response.getContentType());
+        return mapper.readTree(response.getContentAsByteArray());
+    }
+
+    private static Map<String, Object> userParam() {
+        Map<String, Object> org = new LinkedHashMap<>();
+        org.put("orgId", 1);
+        org.put("orgName", "Org-1");
+        Map<String, Object> userParam = new LinkedHashMap<>();
+        userParam.put("name", "Tom");
+        userParam.put("sex", 1);
+        userParam.put("phone", "18888888888");
+        userParam.put("mail", "tom@meixing.com");
+        userParam.put("idNo", "11010519491231002X");
+        userParam.put("birthDateStr", "2000-01-01");
+        userParam.put("birthLocalDate", "2000-01-01");
+        userParam.put("registerLocalDatetime", "2020-09-04 12:10:22");
+        userParam.put("orgs", Collections.singletonList(org));
+        return userParam;
+    }
+}
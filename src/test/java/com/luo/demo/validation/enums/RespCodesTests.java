@@ -0,0 +1,55 @@
+package com.luo.demo.validation.enums;
+
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.ConstantResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RespCodesTests {
+
+    @Test
+    void looksUpBuiltInAndRegisteredCodes() {
+        assertSame(RespCodeEnum.PARAM_INVALID, RespCodeEnum.valueOf(101));
+        assertSame(RespCodeEnum.FAILED, RespCodes.valueOf(200));
+        assertNull(RespCodeEnum.valueOf(103));
+        assertNull(RespCodes.valueOf(-1));
+        assertNull(RespCodes.valueOf((Integer) null));
+
+        RespCode orderNotFound = RespCodes.register(9001, "ORDER_NOT_FOUND", "订单不存在");
+        assertSame(orderNotFound, RespCodes.valueOf(9001));
+        assertNull(RespCodeEnum.valueOf(9001));
+        assertThrows(IllegalStateException.class, () -> RespCodes.register(9001, "DUPLICATE", null));
+        assertThrows(IllegalStateException.class, () -> RespCodes.register(100, "DUPLICATE", null));
+        assertThrows(IllegalArgumentException.class, () -> RespCodes.register(RespCodes.MAX_CODE + 1, "TOO_LARGE", null));
+    }
+
+    @Test
+    void factoriesRespWithMutableResults() {
+        assertNotSame(CommonResult.success(), CommonResult.success());
+        CommonResult success = CommonResult.success();
+        success.setData("data");
+        assertEquals("data", success.getData());
+        CommonResult paramInvalid = CommonResult.respWith(RespCodeEnum.PARAM_INVALID.getCode());
+        paramInvalid.setMsg("changed");
+        assertEquals("changed", paramInvalid.getMsg());
+        assertNotSame(CommonResult.failed(), CommonResult.failed());
+    }
+
+    @Test
+    void constantResultsAreSharedAndImmutable() {
+        assertSame(ConstantResult.FAILED, ConstantResult.of(RespCodeEnum.FAILED.getCode()));
+        assertSame(ConstantResult.PARAM_INVALID, ConstantResult.of(RespCodeEnum.PARAM_INVALID.getCode()));
+        assertThrows(UnsupportedOperationException.class, () -> ConstantResult.SUCCESS.setMsg("changed"));
+
+        RespCodes.register(9002, "QUOTA_EXCEEDED", "配额不足");
+        ConstantResult quotaExceeded = ConstantResult.of(9002);
+        assertSame(quotaExceeded, ConstantResult.of(9002));
+        assertEquals(9002, quotaExceeded.getRespCode());
+        assertNull(ConstantResult.of(9003));
+    }
+}
@@ -0,0 +1,76 @@
+package com.luo.demo.validation.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FixedLayoutDateTimeModuleTests {
+
+    private final ObjectMapper jsr310Mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper fixedLayoutMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new FixedLayoutDateTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void deserializesAsJsr310() {
+        List<String> dates = Arrays.asList("2000-01-01", "2000-02-29", "1900-02-29", "2001-02-30", "2000-04-31", "0000-01-01",
+                "2000-13-01", "2000-1-01", "2000/01/01", " 2000-01-01", "2000-01-01T00:00:00", "");
+        List<String> dateTimes = Arrays.asList("2020-09-04 12:10:22", "2020-02-29 23:59:59", "2021-02-29 00:00:00", "2020-09-04 24:00:00",
+                "2020-09-04 12:60:22", "2020-09-04T12:10:22", "2020-09-04 12:10", "0000-09-04 12:10:22", "9999-12-31 23:59:59", "");
+        for (String date : dates) {
+            for (String dateTime : dateTimes) {
+                String json = "{\"localDate\":\"" + date + "\",\"patternLocalDate\":\"" + date + "\",\"localDateTime\":\"" + dateTime + "\"}";
+                assertEquals(this.read(this.jsr310Mapper, json), this.read(this.fixedLayoutMapper, json), json);
+            }
+        }
+    }
+
+    @Test
+    void serializesAsJsr310() throws Exception {
+        for (int year : new int[]{1, 999, 2020, 9999, 10000, -1}) {
+            DateHolder dateHolder = new DateHolder();
+            dateHolder.localDate = LocalDate.of(year, 2, 3);
+            dateHolder.patternLocalDate = dateHolder.localDate;
+            dateHolder.localDateTime = LocalDateTime.of(year, 9, 4, 1, 2, 3, 456);
+            assertEquals(this.jsr310Mapper.writeValueAsString(dateHolder), this.fixedLayoutMapper.writeValueAsString(dateHolder));
+        }
+    }
+
+    /**
+     * 解析结果或异常信息
+     */
+    private String read(ObjectMapper objectMapper, String json) {
+        try {
+            return objectMapper.readValue(json, DateHolder.class).toString();
+        } catch (Exception ex) {
+            return ex.getClass().getSimpleName() + ": " + ex.getMessage().replaceAll("\\(through reference chain.*", "");
+        }
+    }
+
+    static class DateHolder {
+        public LocalDate localDate;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        public LocalDate patternLocalDate;
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        public LocalDateTime localDateTime;
+
+        @Override
+        public String toString() {
+            return localDate + " " + patternLocalDate + " " + localDateTime;
+        }
+    }
+}
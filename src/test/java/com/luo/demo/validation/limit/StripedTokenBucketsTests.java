@@ -0,0 +1,43 @@
+package com.luo.demo.validation.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedTokenBucketsTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRefillsAtRate() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(10, 5, 1000);
+        assertEquals(1024, buckets.stripes());
+        long now = 10 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            assertTrue(buckets.tryAcquire(1, now));
+        }
+        assertFalse(buckets.tryAcquire(1, now));
+        //100ms后补充1个令牌
+        assertTrue(buckets.tryAcquire(1, now + SECOND / 10));
+        assertFalse(buckets.tryAcquire(1, now + SECOND / 10));
+        //空闲足够久后恢复为满桶（不超过burst）
+        long later = now + 60 * SECOND;
+        int allowed = 0;
+        while (buckets.tryAcquire(1, later)) {
+            allowed++;
+        }
+        assertEquals(5, allowed);
+    }
+
+    @Test
+    void clientsHaveSeparateBuckets() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, 1, 1 << 16);
+        assertTrue(buckets.tryAcquire("client-a"));
+        assertFalse(buckets.tryAcquire("client-a"));
+        assertTrue(buckets.tryAcquire("client-b"));
+    }
+}
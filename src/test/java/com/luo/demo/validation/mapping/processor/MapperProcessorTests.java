@@ -0,0 +1,127 @@
+package com.luo.demo.validation.mapping.processor;
+
+import com.luo.demo.validation.mapping.Mapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.stereotype.Component;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MapperProcessorTests {
+
+    private static final String BEANS = "package demo;\n"
+            + "import java.util.List;\n"
+            + "class Beans {\n"
+            + "  public static class Org { private Long orgId; public Long getOrgId() { return orgId; } public void setOrgId(Long orgId) { this.orgId = orgId; } }\n"
+            + "  public static class OrgView { private Long orgId; public Long getOrgId() { return orgId; } public void setOrgId(Long orgId) { this.orgId = orgId; } }\n"
+            + "  public static class User {\n"
+            + "    private String name; private boolean active; private List<Org> orgs;\n"
+            + "    public String getName() { return name; } public void setName(String name) { this.name = name; }\n"
+            + "    public boolean isActive() { return active; } public void setActive(boolean active) { this.active = active; }\n"
+            + "    public List<Org> getOrgs() { return orgs; } public void setOrgs(List<Org> orgs) { this.orgs = orgs; }\n"
+            + "  }\n"
+            + "  public static class UserView {\n"
+            + "    private String userName; private boolean active; private List<OrgView> orgs;\n"
+            + "    public String getUserName() { return userName; } public void setUserName(String userName) { this.userName = userName; }\n"
+            + "    public boolean isActive() { return active; } public void setActive(boolean active) { this.active = active; }\n"
+            + "    public List<OrgView> getOrgs() { return orgs; } public void setOrgs(List<OrgView> orgs) { this.orgs = orgs; }\n"
+            + "  }\n"
+            + "}\n";
+
+    @TempDir
+    Path outputDir;
+
+    @Test
+    void generatesMapper() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = this.compile("@Mapping(target = \"userName\", source = \"name\")\n"
+                + "Beans.UserView toUserView(Beans.User user);\n"
+                + "Beans.OrgView toOrgView(Beans.Org org);\n");
+        assertEquals(Collections.emptyList(), errors);
+        String generated = new String(Files.readAllBytes(this.outputDir.resolve("demo/DemoMapper_Impl.java")), "UTF-8");
+        assertTrue(generated.contains("target.setUserName(user.getName());"), generated);
+        assertTrue(generated.contains("target.setActive(user.isActive());"), generated);
+        assertTrue(generated.contains("target.setOrgs(mapList(user.getOrgs(), this::toOrgView));"), generated);
+    }
+
+    @Test
+    void failsOnUnmatchedProperties() throws Exception {
+        assertError("unmapped target property 'userName'", this.compile("@Mapping(source = \"name\", ignore = true)\n"
+                + "Beans.UserView toUserView(Beans.User user);\n"
+                + "Beans.OrgView toOrgView(Beans.Org org);\n"));
+        assertError("unmapped source property 'name'", this.compile("@Mapping(target = \"userName\", ignore = true)\n"
+                + "Beans.UserView toUserView(Beans.User user);\n"
+                + "Beans.OrgView toOrgView(Beans.Org org);\n"));
+        assertError("source property 'orgs' (java.util.List<demo.Beans.Org>) can not be mapped", this.compile("@Mapping(target = \"userName\", source = \"name\")\n"
+                + "Beans.UserView toUserView(Beans.User user);\n"));
+        assertError("unknown source property 'nickName'", this.compile("@Mapping(target = \"userName\", source = \"nickName\")\n"
+                + "Beans.UserView toUserView(Beans.User user);\n"
+                + "Beans.OrgView toOrgView(Beans.Org org);\n"));
+    }
+
+    private static void assertError(String expectedMessage, List<Diagnostic<? extends JavaFileObject>> errors) {
+        assertTrue(errors.stream().anyMatch(error -> error.getMessage(null).contains(expectedMessage)), errors.toString());
+    }
+
+    /**
+     * 编译Beans及以指定方法声明的DemoMapper
+     *
+     * @return 编译错误
+     */
+    private List<Diagnostic<? extends JavaFileObject>> compile(String mapperMethods) throws URISyntaxException {
+        String mapper = "package demo;\n"
+                + "import com.luo.demo.validation.mapping.Mapper;\n"
+                + "import com.luo.demo.validation.mapping.Mapping;\n"
+                + "@Mapper\n"
+                + "public interface DemoMapper {\n" + mapperMethods + "}\n";
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        String classpath = location(Mapper.class) + File.pathSeparator + location(Component.class);
+        List<String> options = Arrays.asList("-classpath", classpath, "-d", this.outputDir.toString(), "-s", this.outputDir.toString(), "-proc:only");
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+                Arrays.asList(new SourceFile("demo/Beans.java", BEANS), new SourceFile("demo/DemoMapper.java", mapper)));
+        task.setProcessors(Collections.singletonList(new MapperProcessor()));
+        task.call();
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+
+    private static String location(Class<?> type) throws URISyntaxException {
+        return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String path, String source) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.source;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.luo.demo.validation.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = "spring.rate-limit.enable=false")
+@AutoConfigureMockMvc
+class ValidationMetricsMvcTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void violationIncrementsCounters() throws Exception {
+        double violations = this.violationCount("PhoneNo", "phone");
+        long invalidValidations = this.validationCount("invalid");
+        double respCode101 = this.respCodeCount("101");
+
+        Map<String, Object> userParam = userParam();
+        userParam.put("phone", "1888888888a");
+        this.addUser(userParam);
+
+        assertEquals(violations + 1, this.violationCount("PhoneNo", "phone"));
+        assertEquals(invalidValidations + 1, this.validationCount("invalid"));
+        assertEquals(respCode101 + 1, this.respCodeCount("101"));
+    }
+
+    @Test
+    void validBodyRecordsValidOutcome() throws Exception {
+        long validValidations = this.validationCount("valid");
+        double violations = this.violationCount("PhoneNo", "phone");
+
+        this.addUser(userParam());
+
+        assertEquals(validValidations + 1, this.validationCount("valid"));
+        assertEquals(violations, this.violationCount("PhoneNo", "phone"));
+    }
+
+    private void addUser(Map<String, Object> userParam) throws Exception {
+        this.mockMvc.perform(post("/user/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.objectMapper.writeValueAsBytes(userParam)))
+                .andReturn();
+    }
+
+    private double violationCount(String constraint, String field) {
+        Counter counter = this.meterRegistry.find("validation.violations").tag("constraint", constraint).tag("field", field).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long validationCount(String outcome) {
+        Timer timer = this.meterRegistry.find("validation.duration").tag("uri", "/user/add").tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double respCodeCount(String code) {
+        Counter counter = this.meterRegistry.find("resp.code").tag("code", code).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static Map<String, Object> userParam() {
+        Map<String, Object> org = new LinkedHashMap<>();
+        org.put("orgId", 1);
+        org.put("orgName", "Org-1");
+        Map<String, Object> userParam = new LinkedHashMap<>();
+        userParam.put("name", "Tom");
+        userParam.put("sex", 1);
+        userParam.put("phone", "18888888888");
+        userParam.put("mail", "tom@meixing.com");
+        userParam.put("idNo", "11010519491231002X");
+        userParam.put("birthDateStr", "2000-01-01");
+        userParam.put("birthLocalDate", "2000-01-01");
+        userParam.put("registerLocalDatetime", "2020-09-04 12:10:22");
+        userParam.put("orgs", Collections.singletonList(org));
+        return userParam;
+    }
+}
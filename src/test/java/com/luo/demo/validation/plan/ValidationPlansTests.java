@@ -0,0 +1,338 @@
+package com.luo.demo.validation.plan;
+
+import com.luo.demo.validation.domain.dto.OrgDto;
+import com.luo.demo.validation.domain.groups.Groups;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.plan.processor.ValidationPlanProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.Email;
+import javax.validation.groups.Default;
+import java.io.File;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationPlansTests {
+
+    private static final String BEANS = "package demo;\n"
+            + "import javax.validation.Valid;\n"
+            + "import javax.validation.constraints.NotNull;\n"
+            + "import javax.validation.groups.ConvertGroup;\n"
+            + "import javax.validation.groups.Default;\n"
+            + "import java.util.ArrayList;\n"
+            + "import java.util.List;\n"
+            + "public class Beans {\n"
+            + "    public interface Update {}\n"
+            + "    public static class Child {\n"
+            + "        @NotNull(groups = Update.class) private Long id;\n"
+            + "        public Long getId() { return id; }\n"
+            + "    }\n"
+            + "    public static class Parent {\n"
+            + "        @NotNull private String name = \"parent\";\n"
+            + "        @Valid private Child child = new Child();\n"
+            + "        public String getName() { return name; }\n"
+            + "        public Child getChild() { return child; }\n"
+            + "    }\n"
+            + "    public static class Children {\n"
+            + "        @Valid private List<Child> children = new ArrayList<>();\n"
+            + "        { children.add(new Child()); }\n"
+            + "        public List<Child> getChildren() { return children; }\n"
+            + "    }\n"
+            + "    public static class Converted {\n"
+            + "        @Valid @ConvertGroup(from = Default.class, to = Update.class) private Child child = new Child();\n"
+            + "        public Child getChild() { return child; }\n"
+            + "    }\n"
+            + "    public static class Fields {\n"
+            + "        @NotNull private String secret;\n"
+            + "        @NotNull String code;\n"
+            + "        @NotNull private String noGetter = \"value\";\n"
+            + "        public String getSecret() { return secret == null ? \"default\" : secret; }\n"
+            + "        public String getCode() { return \"code\"; }\n"
+            + "    }\n"
+            + "}\n";
+
+    @TempDir
+    Path outputDir;
+
+    private final ValidationPlans validationPlans = ValidationPlans.load(ValidationPlansTests.class.getClassLoader());
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void plansAreGenerated() {
+        assertNotNull(this.validationPlans.get(UserParam.class));
+        assertNotNull(this.validationPlans.get(OrgDto.class));
+    }
+
+    @Test
+    void validUserParamPassesPlan() {
+        UserParam userParam = validUserParam();
+        assertTrue(this.validationPlans.isValid(userParam));
+        assertTrue(this.validationPlans.isValid(userParam, Groups.Update.class, Default.class));
+        assertEquals(0, this.validator.validate(userParam).size());
+    }
+
+    @Test
+    void planAgreesWithHibernateValidator() {
+        List<Consumer<UserParam>> mutations = Arrays.asList(
+                userParam -> userParam.setName(" "),
+                userParam -> userParam.setName(String.join("", Collections.nCopies(33, "a"))),
+                userParam -> userParam.setSex(3),
+                userParam -> userParam.setPhone("1888888888a"),
+                userParam -> userParam.setMail("tom"),
+                userParam -> userParam.setIdNo("110105194912310021"),
+                userParam -> userParam.setBirthDateStr("2000-13-01"),
+                userParam -> userParam.setBirthLocalDate(LocalDate.now().plusDays(1)),
+                userParam -> userParam.setRegisterLocalDatetime(LocalDateTime.now().plusDays(1)),
+                userParam -> userParam.setOrgs(new ArrayList<>()),
+                userParam -> userParam.getOrgs().get(1).setOrgName(""),
+                userParam -> userParam.getOrgs().get(0).setOrgId(0L),
+                userParam -> userParam.setId(-1L)
+        );
+        for (int i = 0; i < mutations.size(); i++) {
+            UserParam userParam = validUserParam();
+            mutations.get(i).accept(userParam);
+            assertFalse(this.validationPlans.isValid(userParam), "mutation " + i);
+            assertFalse(this.validator.validate(userParam).isEmpty(), "mutation " + i);
+        }
+    }
+
+    @Test
+    void groupsAreRespected() {
+        UserParam userParam = validUserParam();
+        userParam.setId(null);
+        assertTrue(this.validationPlans.isValid(userParam));
+        assertFalse(this.validationPlans.isValid(userParam, Groups.Update.class, Default.class));
+        assertFalse(this.validator.validate(userParam, Groups.Update.class, Default.class).isEmpty());
+
+        userParam.setName(null);
+        assertTrue(this.validationPlans.isValid(validUserParam(), Groups.Update.class));
+    }
+
+    @Test
+    void parallelCascadeAgreesWithSequential() {
+        ParallelCascade parallelCascade = new ParallelCascade(4, 8, 4);
+        try {
+            ValidationPlans parallelPlans = this.validationPlans.withParallelCascade(parallelCascade);
+            UserParam userParam = validUserParam();
+            for (long orgId = 3; orgId <= 100; orgId++) {
+                OrgDto orgDto = new OrgDto();
+                orgDto.setOrgId(orgId);
+                orgDto.setOrgName("Org-" + orgId);
+                userParam.getOrgs().add(orgDto);
+            }
+            assertTrue(parallelPlans.isValid(userParam));
+            for (int index : new int[]{0, 37, 99}) {
+                OrgDto orgDto = userParam.getOrgs().get(index);
+                orgDto.setOrgName(null);
+                assertFalse(parallelPlans.isValid(userParam), "index " + index);
+                orgDto.setOrgName("Org");
+            }
+            userParam.getOrgs().set(50, null);
+            assertTrue(parallelPlans.isValid(userParam));
+        } finally {
+            parallelCascade.shutdown();
+        }
+    }
+
+    @Test
+    void parallelHibernateValidationMergesLikeSequential() {
+        UserParam userParam = validUserParam();
+        userParam.setName(null);
+        for (long orgId = 3; orgId <= 100; orgId++) {
+            OrgDto orgDto = new OrgDto();
+            orgDto.setOrgId(orgId);
+            orgDto.setOrgName("Org-" + orgId);
+            userParam.getOrgs().add(orgDto);
+        }
+        for (int index : new int[]{99, 37, 9}) {
+            userParam.getOrgs().get(index).setOrgId(-1L);
+            userParam.getOrgs().get(index).setOrgName(null);
+        }
+        userParam.getOrgs().set(50, null);
+
+        PlannedValidatorFactoryBean sequential = new PlannedValidatorFactoryBean();
+        sequential.afterPropertiesSet();
+        List<String> expected = Arrays.asList("name", "orgs[9].orgId", "orgs[9].orgName", "orgs[37].orgId", "orgs[37].orgName",
+                "orgs[99].orgId", "orgs[99].orgName");
+        for (ValidationPlans validationPlans : new ValidationPlans[]{ValidationPlans.empty(), this.validationPlans}) {
+            PlannedValidatorFactoryBean parallel = new PlannedValidatorFactoryBean();
+            parallel.setValidationPlans(validationPlans);
+            parallel.setParallelCascade(new ParallelCascade(4, 8, 4));
+            parallel.afterPropertiesSet();
+            try {
+                List<String> parallelViolations = violations(parallel.validate(userParam));
+                assertEquals(expected, parallelViolations.stream().map(violation -> violation.split(": ")[0]).collect(Collectors.toList()));
+                assertEquals(parallelViolations, violations(parallel.validate(userParam)));
+                List<String> sequentialViolations = violations(sequential.validate(userParam));
+                Collections.sort(sequentialViolations);
+                List<String> sortedParallelViolations = new ArrayList<>(parallelViolations);
+                Collections.sort(sortedParallelViolations);
+                assertEquals(sequentialViolations, sortedParallelViolations);
+
+                BeanPropertyBindingResult parallelErrors = new BeanPropertyBindingResult(userParam, "userParam");
+                parallel.validate(userParam, parallelErrors);
+                assertEquals(expected, parallelErrors.getFieldErrors().stream().map(FieldError::getField).collect(Collectors.toList()));
+                assertEquals(-1L, parallelErrors.getFieldValue("orgs[37].orgId"));
+            } finally {
+                parallel.destroy();
+            }
+        }
+        sequential.destroy();
+    }
+
+    private static List<String> violations(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessageTemplate() + " " + violation.getInvalidValue())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void cascadeIsNotGatedByGroups() throws Exception {
+        try (URLClassLoader classLoader = this.compileBeans()) {
+            ValidationPlans plans = ValidationPlans.load(classLoader);
+            Class<?> update = classLoader.loadClass("demo.Beans$Update");
+            for (String beanName : new String[]{"demo.Beans$Parent", "demo.Beans$Children"}) {
+                Object bean = classLoader.loadClass(beanName).getConstructor().newInstance();
+                assertNotNull(plans.get(bean.getClass()), beanName);
+                // 仅以Update分组验证：级联对象中Update分组的约束同样需验证
+                assertFalse(this.validator.validate(bean, update).isEmpty(), beanName);
+                assertFalse(plans.isValid(bean, update), beanName);
+                assertTrue(this.validator.validate(bean).isEmpty(), beanName);
+                assertTrue(plans.isValid(bean), beanName);
+            }
+            // @ConvertGroup需按转换后的分组级联，回退到反射验证
+            assertNull(plans.get(classLoader.loadClass("demo.Beans$Converted")));
+        }
+    }
+
+    @Test
+    void planReadsFieldsLikeHibernateValidator() throws Exception {
+        try (URLClassLoader classLoader = this.compileBeans()) {
+            ValidationPlans plans = ValidationPlans.load(classLoader);
+            Class<?> fieldsClass = classLoader.loadClass("demo.Beans$Fields");
+            assertNotNull(plans.get(fieldsClass));
+            Object bean = fieldsClass.getConstructor().newInstance();
+            // getter返回非null，字段为null：Hibernate Validator读取字段，验证计划同样读取字段
+            assertFalse(this.validator.validate(bean).isEmpty());
+            assertFalse(plans.isValid(bean));
+            for (String fieldName : new String[]{"secret", "code"}) {
+                java.lang.reflect.Field field = fieldsClass.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(bean, fieldName);
+            }
+            assertTrue(this.validator.validate(bean).isEmpty());
+            assertTrue(plans.isValid(bean));
+        }
+    }
+
+    @Test
+    void emailPlanIsSubsetOfHibernateValidator() {
+        for (String mail : new String[]{"tom@meixing.com", "a.b+c_d@x-y.example.org", "user@localhost", "o'hara{1}@x.io"}) {
+            assertTrue(PlanChecks.email(mail), mail);
+            assertTrue(this.validator.validateValue(EmailBean.class, "mail", mail).isEmpty(), mail);
+        }
+        // 计划不接受（回退到Hibernate Validator）：引号、IP地址、国际化域名
+        for (String mail : new String[]{"\"tom jerry\"@x.com", "tom@[127.0.0.1]", "tom@例子.中国"}) {
+            assertFalse(PlanChecks.email(mail), mail);
+            assertTrue(this.validator.validateValue(EmailBean.class, "mail", mail).isEmpty(), mail);
+        }
+        String longLocalPart = String.join("", Collections.nCopies(65, "a")) + "@x.com";
+        for (String mail : new String[]{"tom", "@x.com", "a..b@x.com", "a.@x.com", "a@-x.com", "a@x.com.", "a@b@x.com", longLocalPart}) {
+            assertFalse(PlanChecks.email(mail), mail);
+            assertFalse(this.validator.validateValue(EmailBean.class, "mail", mail).isEmpty(), mail);
+        }
+    }
+
+    static class EmailBean {
+        @Email
+        private String mail;
+    }
+
+    private URLClassLoader compileBeans() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        String classpath = location(Valid.class) + File.pathSeparator + location(ValidationPlan.class);
+        List<String> options = Arrays.asList("-classpath", classpath, "-d", this.outputDir.toString(), "-s", this.outputDir.toString());
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+                Collections.singletonList(new SourceFile("demo/Beans.java", BEANS)));
+        task.setProcessors(Collections.singletonList(new ValidationPlanProcessor()));
+        List<Diagnostic<? extends JavaFileObject>> errors = diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .collect(Collectors.toList());
+        assertTrue(task.call() && errors.isEmpty(), errors.toString());
+        assertTrue(Files.exists(this.outputDir.resolve("demo/Beans_Parent_ValidationPlan.class")));
+        return new URLClassLoader(new URL[]{this.outputDir.toUri().toURL()}, ValidationPlansTests.class.getClassLoader());
+    }
+
+    private static String location(Class<?> type) throws URISyntaxException {
+        return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String path, String source) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.source;
+        }
+    }
+
+    private static UserParam validUserParam() {
+        UserParam userParam = new UserParam();
+        userParam.setId(1L);
+        userParam.setName("Tom-1");
+        userParam.setSex(1);
+        userParam.setPhone("18888888888");
+        userParam.setMail("tom@meixing.com");
+        userParam.setIdNo("11010519491231002X");
+        userParam.setBirthDateStr("2000-01-01");
+        userParam.setBirthLocalDate(LocalDate.of(2000, 1, 1));
+        userParam.setRegisterLocalDatetime(LocalDateTime.of(2020, 9, 4, 12, 10, 22));
+        List<OrgDto> orgs = new ArrayList<>();
+        for (long orgId = 1; orgId <= 2; orgId++) {
+            OrgDto orgDto = new OrgDto();
+            orgDto.setOrgId(orgId);
+            orgDto.setOrgName("Org-" + orgId);
+            orgs.add(orgDto);
+        }
+        userParam.setOrgs(orgs);
+        return userParam;
+    }
+}
@@ -0,0 +1,98 @@
+package com.luo.demo.validation.rule;
+
+import com.luo.demo.validation.constraints.IdNoValidator;
+import com.luo.demo.validation.constraints.PhoneNoValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstraintRulesTests {
+
+    private static final String RULES = "phone-no:\n  default: '^\\d{8,11}$'\n  CN: '^1[3-9]\\d{9}$'\nid-no:\n  HK: '^[A-Z]{1,2}\\d{6}\\([0-9A]\\)$'\n";
+
+    @AfterEach
+    void resetRules() {
+        ConstraintRules.update(null);
+    }
+
+    @Test
+    void ruleSetFallsBackToDefaultThenBuiltin() {
+        ConstraintRule phoneNo = PhoneNoValidator.rule("");
+        ConstraintRule cnPhoneNo = PhoneNoValidator.rule("CN");
+        ConstraintRule hkIdNo = IdNoValidator.rule("HK");
+        ConstraintRule cnIdNo = IdNoValidator.rule("CN");
+
+        //无规则时使用内置校验
+        assertTrue(phoneNo.matches("12345678"));
+        assertTrue(cnPhoneNo.matches("12345678"));
+        assertTrue(hkIdNo.matches("11010519491231002X"));
+
+        ConstraintRules.update(parse(RULES));
+        assertTrue(phoneNo.matches("12345678"));
+        assertFalse(cnPhoneNo.matches("12345678"));
+        assertTrue(cnPhoneNo.matches("18888888888"));
+        assertTrue(hkIdNo.matches("A123456(7)"));
+        assertFalse(hkIdNo.matches("11010519491231002X"));
+        //id-no无default规则集，使用GB 11643校验
+        assertTrue(cnIdNo.matches("11010519491231002X"));
+        assertFalse(cnIdNo.matches("110105194912310021"));
+    }
+
+    @Test
+    void reloadSwapsRulesAndReusesCompiledPatterns() {
+        ConstraintRules.update(parse(RULES));
+        ConstraintRule cnPhoneNo = PhoneNoValidator.rule("CN");
+        assertTrue(cnPhoneNo.matches("18888888888"));
+
+        ConstraintRules reloaded = parse(RULES.replace("'^1[3-9]\\d{9}$'", "'^1\\d{10}$'"));
+        assertSame(ConstraintRules.current().pattern("phone-no", "default"), reloaded.pattern("phone-no", "default"));
+        ConstraintRules.update(reloaded);
+        assertTrue(cnPhoneNo.matches("12888888888"));
+    }
+
+    @Test
+    void reloaderPrefersEditableLocationOverFallback(@TempDir Path configDir) throws Exception {
+        Path rulesFile = configDir.resolve("constraint-rules.yml");
+        ConstraintRulesReloader reloader = new ConstraintRulesReloader();
+        ReflectionTestUtils.setField(reloader, "location", new FileSystemResource(rulesFile));
+        ReflectionTestUtils.setField(reloader, "fallbackLocation", new ClassPathResource("constraint-rules.yml"));
+        ConstraintRule cnPhoneNo = PhoneNoValidator.rule("CN");
+
+        reloader.reload();
+        assertFalse(cnPhoneNo.matches("12888888888"));
+        long version = ConstraintRules.version();
+        reloader.reload();
+        assertEquals(version, ConstraintRules.version());
+
+        Files.write(rulesFile, RULES.replace("'^1[3-9]\\d{9}$'", "'^1\\d{10}$'").getBytes(StandardCharsets.UTF_8));
+        reloader.reload();
+        assertTrue(cnPhoneNo.matches("12888888888"));
+        assertNotEquals(version, ConstraintRules.version());
+    }
+
+    @Test
+    void invalidRulesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> parse("phone-no:\n  CN: '^1[3-9'\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("phone-no: '^1\\d{10}$'\n"));
+        assertThrows(IllegalArgumentException.class, () -> parse("- phone-no\n"));
+    }
+
+    private static ConstraintRules parse(String rules) {
+        return ConstraintRules.parse(new ByteArrayInputStream(rules.getBytes(StandardCharsets.UTF_8)));
+    }
+}
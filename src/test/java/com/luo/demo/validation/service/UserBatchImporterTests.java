@@ -0,0 +1,84 @@
+package com.luo.demo.validation.service;
+
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.BatchRowResult;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.enums.RespCodeEnum;
+import com.luo.demo.validation.web.ValidationMsgConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserBatchImporterTests {
+
+    private static final String VALID_USER = "{\"name\":\"Tom\",\"sex\":1,\"phone\":\"18888888888\",\"mail\":\"tom@meixing.com\","
+            + "\"idNo\":\"11010519491231002X\",\"birthDateStr\":\"2000-01-01\",\"birthLocalDate\":\"2000-01-01\","
+            + "\"registerLocalDatetime\":\"2020-09-04 12:10:22\",\"orgs\":[{\"orgId\":1,\"orgName\":\"Org-1\"}]}";
+    private static final String INVALID_USER = VALID_USER.replace("\"name\":\"Tom\"", "\"name\":\" \"");
+    private static final String UNREADABLE_USER = "{\"sex\":\"x\",\"name\":\"Tom\"}";
+
+    private final UserBatchImporter userBatchImporter = newImporter(2);
+
+    @Test
+    void importsJsonArray() throws IOException {
+        List<UserParam> validUsers = new ArrayList<>();
+        CommonResult<BatchRowResult> result = this.userBatchImporter.importUsers(
+                stream("[" + VALID_USER + "," + INVALID_USER + "," + UNREADABLE_USER + "," + VALID_USER + "]"), validUsers::add);
+        assertEquals(RespCodeEnum.PARAM_INVALID.getCode(), result.getRespCode());
+        assertEquals(4, result.getTotal());
+        assertEquals(2, validUsers.size());
+        assertEquals(2, result.getRows().size());
+        assertEquals(1, result.getRows().get(0).getIndex());
+        assertEquals("name: must not be blank", result.getRows().get(0).getMsg());
+        assertEquals(2, result.getRows().get(1).getIndex());
+    }
+
+    @Test
+    void importsNdjson() throws IOException {
+        CommonResult<BatchRowResult> result = this.userBatchImporter.importUsers(
+                stream(VALID_USER + "\n" + VALID_USER + "\n"), userParam -> {
+                });
+        assertEquals(RespCodeEnum.SUCCESS.getCode(), result.getRespCode());
+        assertEquals(2, result.getTotal());
+        assertEquals(0, result.getRows().size());
+    }
+
+    @Test
+    void errorRowsAreCapped() throws IOException {
+        CommonResult<BatchRowResult> result = this.userBatchImporter.importUsers(
+                stream(INVALID_USER + INVALID_USER + INVALID_USER + VALID_USER), userParam -> {
+                });
+        assertEquals(4, result.getTotal());
+        assertEquals(2, result.getRows().size());
+        assertEquals("invalid rows: 3", result.getMsg());
+    }
+
+    @Test
+    void malformedJsonStopsImport() throws IOException {
+        CommonResult<BatchRowResult> result = this.userBatchImporter.importUsers(stream("[" + VALID_USER + ",{\"name\""), userParam -> {
+        });
+        assertEquals(RespCodeEnum.PARAM_INVALID.getCode(), result.getRespCode());
+        assertEquals(1, result.getTotal());
+        assertEquals(1, result.getRows().get(0).getIndex());
+    }
+
+    private static UserBatchImporter newImporter(int maxErrorRows) {
+        UserBatchImporter userBatchImporter = new UserBatchImporter(Jackson2ObjectMapperBuilder.json().build(),
+                Validation.buildDefaultValidatorFactory().getValidator(), new ValidationMsgConverter(Boolean.TRUE));
+        ReflectionTestUtils.setField(userBatchImporter, "maxErrorRows", maxErrorRows);
+        return userBatchImporter;
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
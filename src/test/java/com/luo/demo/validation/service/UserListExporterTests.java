@@ -0,0 +1,61 @@
+package com.luo.demo.validation.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.mapper.UserMapper_Impl;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.UserResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserListExporterTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final UserQueryService userQueryService = newUserQueryService(this.objectMapper, 5);
+    private final UserListExporter userListExporter = new UserListExporter(this.objectMapper, this.userQueryService);
+
+    @Test
+    void exportMatchesPage() throws IOException {
+        CommonResult<UserResult> exported = this.export(1, 3);
+        CommonResult<UserResult> page = this.userQueryService.listUsers(1, 3);
+        assertEquals(this.objectMapper.writeValueAsString(page), this.objectMapper.writeValueAsString(exported));
+        assertEquals(5, exported.getTotal());
+        assertEquals(3, exported.getRows().size());
+        assertEquals(2L, exported.getRows().get(0).getId());
+        assertEquals(4L, exported.getNextCursor());
+    }
+
+    @Test
+    void exportToEndHasNoNextCursor() throws IOException {
+        CommonResult<UserResult> exported = this.export(2, Long.MAX_VALUE);
+        assertEquals(3, exported.getRows().size());
+        assertEquals(5L, exported.getRows().get(2).getId());
+        assertNull(exported.getNextCursor());
+        assertEquals(0, this.export(5, 10).getRows().size());
+        assertNull(this.userQueryService.listUsers(3, 2).getNextCursor());
+    }
+
+    private CommonResult<UserResult> export(long cursor, long limit) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        this.userListExporter.exportUsers(outputStream, cursor, limit);
+        return this.objectMapper.readValue(outputStream.toByteArray(), new TypeReference<CommonResult<UserResult>>() {
+        });
+    }
+
+    private static UserQueryService newUserQueryService(ObjectMapper objectMapper, int userTotal) {
+        UserQueryService userQueryService = new UserQueryService(new UserMapper_Impl(), objectMapper,
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), false, 1, Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(userQueryService, "userTotal", userTotal);
+        return userQueryService;
+    }
+}
@@ -0,0 +1,191 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.luo.demo.validation.enums.BodyLimitEnum;
+import com.luo.demo.validation.json.JsonLimitExceededException;
+import com.luo.demo.validation.json.JsonLimits;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.constraints.Size;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BodyLimitAdviceTests {
+
+    private final BodyLimitAdvice advice = new BodyLimitAdvice(Validation.buildDefaultValidatorFactory().getValidator(),
+            DataSize.ofKilobytes(1), 4, 10);
+    private final BodyLimitJsonHttpMessageConverter converter = new BodyLimitJsonHttpMessageConverter(
+            new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+    @Test
+    void derivesArrayLengthLimitsFromSize() throws Exception {
+        JsonLimits limits = this.advice.getLimits(parameter("validated"), Order.class);
+        assertEquals(2, limits.arrayLengthLimitOf("items"));
+        assertEquals(1, limits.arrayLengthLimitOf("items.tags"));
+        assertEquals(10, limits.arrayLengthLimitOf("notes"));
+
+        JsonLimits annotatedLimits = this.advice.getLimits(parameter("annotated"), Order.class);
+        assertEquals(16, annotatedLimits.getMaxBytes());
+        assertEquals(3, annotatedLimits.getMaxArrayLength());
+        assertTrue(annotatedLimits.getArrayLengthLimits().isEmpty());
+    }
+
+    @Test
+    void readsBodyWithinLimits() throws Exception {
+        Order order = (Order) this.read("validated", "{\"items\":[{\"tags\":[\"a\"]},{}],\"notes\":[\"n\"],\"extra\":{\"x\":[1]}}");
+        assertEquals(2, order.items.size());
+        assertEquals("a", order.items.get(0).tags.get(0));
+    }
+
+    @Test
+    void rejectsArrayOverSize() {
+        this.assertExceeded(BodyLimitEnum.MAX_ARRAY_LENGTH, "items", 2, "validated", "{\"items\":[{},{},{}]}");
+        this.assertExceeded(BodyLimitEnum.MAX_ARRAY_LENGTH, "items.tags", 1, "validated", "{\"items\":[{\"tags\":[\"a\",\"b\"]}]}");
+        this.assertExceeded(BodyLimitEnum.MAX_ARRAY_LENGTH, "notes", 10, "validated", "{\"notes\":[1,2,3,4,5,6,7,8,9,10,11]}");
+    }
+
+    @Test
+    void rejectsDepthInIgnoredProperty() {
+        this.assertExceeded(BodyLimitEnum.MAX_DEPTH, "extra.a.b.c", 4, "validated", "{\"extra\":{\"a\":{\"b\":{\"c\":{}}}}}");
+    }
+
+    @Test
+    void rejectsBodyOverSize() {
+        this.assertExceeded(BodyLimitEnum.MAX_SIZE, "order", 16, "annotated", "{\"notes\":[\"12345678\"]}");
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(new byte[17]);
+        inputMessage.getHeaders().setContentLength(17);
+        JsonLimitExceededException ex = assertThrows(JsonLimitExceededException.class,
+                () -> this.advice.beforeBodyRead(inputMessage, parameter("annotated"), Order.class, BodyLimitJsonHttpMessageConverter.class));
+        assertEquals(BodyLimitEnum.MAX_SIZE, ex.getLimitType());
+    }
+
+    @Test
+    void stopsReadingAtLimit() {
+        StringBuilder json = new StringBuilder("{\"notes\":[");
+        for (int i = 0; i < 100; i++) {
+            json.append(i).append(',');
+        }
+        json.append("0]}");
+        AtomicLong readBytes = new AtomicLong();
+        InputStream body = new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                int read = super.read(b, off, Math.min(len, 8));
+                readBytes.addAndGet(Math.max(read, 0));
+                return read;
+            }
+        };
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(body);
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        HttpMessageNotReadableException ex = assertThrows(HttpMessageNotReadableException.class, () -> this.read("validated", inputMessage));
+        assertTrue(ex.getCause() instanceof JsonLimitExceededException);
+        assertTrue(readBytes.get() < 48, "read bytes: " + readBytes.get());
+    }
+
+    @Test
+    void limitsSmileBody() throws Exception {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        Order order = new Order();
+        order.notes = Collections.nCopies(50, "12345678");
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(new ByteArrayInputStream(smileMapper.writeValueAsBytes(order)));
+        inputMessage.getHeaders().setContentType(MediaType.valueOf("application/x-jackson-smile"));
+        HttpInputMessage limitedMessage = this.advice.beforeBodyRead(inputMessage, parameter("annotated"), Order.class, BodyLimitSmileHttpMessageConverter.class);
+        HttpMessageNotReadableException ex = assertThrows(HttpMessageNotReadableException.class,
+                () -> new BodyLimitSmileHttpMessageConverter(smileMapper).read(Order.class, BodyLimitAdviceTests.class, limitedMessage));
+        assertTrue(ex.getCause() instanceof JsonLimitExceededException, ex.getMessage());
+        assertEquals(BodyLimitEnum.MAX_SIZE, ((JsonLimitExceededException) ex.getCause()).getLimitType());
+
+        order.notes = Collections.nCopies(3, "n");
+        order.items = Collections.nCopies(3, new Item());
+        inputMessage = new MockHttpInputMessage(new ByteArrayInputStream(smileMapper.writeValueAsBytes(order)));
+        HttpInputMessage validatedMessage = this.advice.beforeBodyRead(inputMessage, parameter("validated"), Order.class, BodyLimitSmileHttpMessageConverter.class);
+        ex = assertThrows(HttpMessageNotReadableException.class,
+                () -> new BodyLimitSmileHttpMessageConverter(smileMapper).read(Order.class, BodyLimitAdviceTests.class, validatedMessage));
+        assertTrue(ex.getCause() instanceof JsonLimitExceededException, ex.getMessage());
+        assertEquals(BodyLimitEnum.MAX_ARRAY_LENGTH, ((JsonLimitExceededException) ex.getCause()).getLimitType());
+        assertEquals("items", ((JsonLimitExceededException) ex.getCause()).getField());
+    }
+
+    @Test
+    void supportsLimitedConvertersOnly() {
+        MethodParameter parameter = parameter("validated");
+        assertTrue(this.advice.supports(parameter, Order.class, BodyLimitJsonHttpMessageConverter.class));
+        assertTrue(this.advice.supports(parameter, Order.class, BodyLimitSmileHttpMessageConverter.class));
+        assertTrue(this.advice.supports(parameter, Order.class, BodyLimitCborHttpMessageConverter.class));
+        assertFalse(this.advice.supports(parameter, Order.class, MappingJackson2SmileHttpMessageConverter.class));
+    }
+
+    private void assertExceeded(BodyLimitEnum limitType, String field, long limit, String method, String json) {
+        HttpMessageNotReadableException ex = assertThrows(HttpMessageNotReadableException.class, () -> this.read(method, json));
+        assertTrue(ex.getCause() instanceof JsonLimitExceededException, ex.getMessage());
+        JsonLimitExceededException limitEx = (JsonLimitExceededException) ex.getCause();
+        assertEquals(limitType, limitEx.getLimitType());
+        assertEquals(field, limitEx.getField());
+        assertEquals(limit, limitEx.getLimit());
+    }
+
+    private Object read(String method, String json) throws IOException {
+        // 无Content-Length（chunked），由解析过程限制
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return this.read(method, inputMessage);
+    }
+
+    private Object read(String method, HttpInputMessage inputMessage) throws IOException {
+        MethodParameter parameter = parameter(method);
+        HttpInputMessage limitedMessage = this.advice.beforeBodyRead(inputMessage, parameter, Order.class, BodyLimitJsonHttpMessageConverter.class);
+        return this.converter.read(Order.class, BodyLimitAdviceTests.class, limitedMessage);
+    }
+
+    private static MethodParameter parameter(String method) {
+        try {
+            return new MethodParameter(BodyLimitAdviceTests.class.getDeclaredMethod(method, Order.class), 0);
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private void validated(@Validated Order order) {
+    }
+
+    @SuppressWarnings("unused")
+    @BodyLimits(maxSize = "16B", maxArrayLength = 3)
+    private void annotated(Order order) {
+    }
+
+    static class Order {
+        @Valid
+        @Size(max = 2)
+        public List<Item> items;
+        @Size(max = 20)
+        public List<String> notes;
+    }
+
+    static class Item {
+        @Size(max = 1)
+        public List<String> tags;
+    }
+}
@@ -0,0 +1,95 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.enums.ValidationMsgModeEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(FailFastMvcTests.FailFastController.class)
+class FailFastMvcTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void failFastRespWithFirstViolationOnly() throws Exception {
+        JsonNode full = this.postUser("/fail-fast/none");
+        assertTrue(full.get("errors").size() > 1, full.toString());
+
+        for (String uri : new String[]{"/fail-fast/method", "/fail-fast/param", "/fail-fast/hint"}) {
+            JsonNode result = this.postUser(uri);
+            assertEquals(101, result.get("respCode").asInt());
+            assertEquals(1, result.get("errors").size(), uri);
+            JsonNode error = result.get("errors").get(0);
+            assertEquals(error.get("field").asText() + ": " + error.get("msg").asText(), result.get("msg").asText());
+            assertTrue(full.get("errors").toString().contains(error.toString()), uri);
+        }
+    }
+
+    @Test
+    void undeclaredHandlersKeepFullReport() throws Exception {
+        assertTrue(this.postUser("/user/add").get("errors").size() > 1);
+    }
+
+    private JsonNode postUser(String uri) throws Exception {
+        Map<String, Object> userParam = new LinkedHashMap<>();
+        userParam.put("name", "Tom");
+        userParam.put("sex", 1);
+        userParam.put("phone", "1888888888a");
+        userParam.put("mail", "tom");
+        userParam.put("idNo", "11010519491231002X");
+        return this.objectMapper.readTree(this.mockMvc.perform(post(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(ValidationMsgModeEnum.HEADER, ValidationMsgModeEnum.BOTH.name())
+                        .content(this.objectMapper.writeValueAsBytes(userParam)))
+                .andReturn().getResponse().getContentAsByteArray());
+    }
+
+    @RestController
+    static class FailFastController {
+
+        @PostMapping("/fail-fast/none")
+        public CommonResult<Void> none(@Validated @RequestBody UserParam userParam) {
+            return CommonResult.success();
+        }
+
+        @FailFast
+        @PostMapping("/fail-fast/method")
+        public CommonResult<Void> method(@Validated @RequestBody UserParam userParam) {
+            return CommonResult.success();
+        }
+
+        @PostMapping("/fail-fast/param")
+        public CommonResult<Void> param(@FailFast @Validated @RequestBody UserParam userParam) {
+            return CommonResult.success();
+        }
+
+        @PostMapping("/fail-fast/hint")
+        public CommonResult<Void> hint(@Validated(FailFast.class) @RequestBody UserParam userParam) {
+            return CommonResult.success();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.domain.result.CommonResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PreSerializedJsonHttpMessageConverterTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PreSerializedJsonHttpMessageConverter converter = new PreSerializedJsonHttpMessageConverter(this.objectMapper);
+
+    @Test
+    void writesCodeOnlyAndModifiedResults() throws Exception {
+        assertTrue(this.converter.canWrite(CommonResult.class, MediaType.APPLICATION_JSON));
+        assertFalse(this.converter.canWrite(Object.class, MediaType.APPLICATION_JSON));
+
+        CommonResult success = CommonResult.success();
+        MockHttpOutputMessage codeOnly = this.write(success);
+        assertEquals(this.objectMapper.writeValueAsString(success), codeOnly.getBodyAsString());
+        assertEquals(codeOnly.getBodyAsBytes().length, codeOnly.getHeaders().getContentLength());
+
+        success.setData("data");
+        MockHttpOutputMessage withData = this.write(success);
+        assertEquals("data", this.objectMapper.readTree(withData.getBodyAsBytes()).get("data").asText());
+
+        MockHttpOutputMessage unregistered = this.write(CommonResult.respWith(9999));
+        assertEquals(9999, this.objectMapper.readTree(unregistered.getBodyAsBytes()).get("respCode").asInt());
+        assertNull(unregistered.getHeaders().getFirst("Content-Length"));
+    }
+
+    private MockHttpOutputMessage write(CommonResult<?> result) throws Exception {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        this.converter.write(result, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage;
+    }
+}
@@ -0,0 +1,74 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = {
+        "spring.rate-limit.enable=true",
+        "spring.rate-limit.permits-per-second=0.001",
+        "spring.rate-limit.burst=2",
+        "spring.rate-limit.client-header=X-Client-Id",
+        "spring.rate-limit.max-concurrency=1",
+        "spring.rate-limit.max-queue-time=0ms"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterMvcTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FilterRegistrationBean<RateLimitFilter> rateLimitFilter;
+
+    @Test
+    void rejectsClientOverRate() throws Exception {
+        assertEquals(200, this.getUser("rate-a").getStatus());
+        assertEquals(200, this.getUser("rate-a").getStatus());
+        MockHttpServletResponse rejected = this.getUser("rate-a");
+        assertEquals(429, rejected.getStatus());
+        assertEquals(102, this.objectMapper.readTree(rejected.getContentAsByteArray()).get("respCode").asInt());
+        assertEquals(200, this.getUser("rate-b").getStatus());
+    }
+
+    @Test
+    void shedsWhileAsyncExportHoldsPermit() throws Exception {
+        MvcResult export = this.mockMvc.perform(get("/user/list")
+                        .param("stream", "true")
+                        .param("limit", "1")
+                        .header("X-Client-Id", "shed-a"))
+                .andReturn();
+        assertTrue(export.getRequest().isAsyncStarted());
+        export.getAsyncResult(10_000);
+        assertEquals(1, this.rateLimitFilter.getFilter().getInFlight());
+
+        MockHttpServletResponse rejected = this.getUser("shed-b");
+        assertEquals(503, rejected.getStatus());
+        assertEquals(201, this.objectMapper.readTree(rejected.getContentAsByteArray()).get("respCode").asInt());
+
+        //async dispatch completes the request and releases the permit
+        assertEquals(200, this.mockMvc.perform(asyncDispatch(export)).andReturn().getResponse().getStatus());
+        assertEquals(0, this.rateLimitFilter.getFilter().getInFlight());
+        assertEquals(200, this.getUser("shed-b").getStatus());
+    }
+
+    private MockHttpServletResponse getUser(String clientId) throws Exception {
+        return this.mockMvc.perform(get("/user/detail")
+                        .param("id", "1")
+                        .header("X-Client-Id", clientId))
+                .andReturn().getResponse();
+    }
+}
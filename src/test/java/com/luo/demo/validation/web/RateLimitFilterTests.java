@@ -0,0 +1,67 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.limit.ConcurrencyLimiter;
+import com.luo.demo.validation.limit.StripedTokenBuckets;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimitFilterTests {
+
+    @Test
+    void rejectsClientOverRate() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(new StripedTokenBuckets(1, 2, 1024),
+                new ConcurrencyLimiter(10, 0), "X-Client-Id", new ObjectMapper());
+        assertEquals(200, this.doFilter(filter, "a").getStatus());
+        assertEquals(200, this.doFilter(filter, "a").getStatus());
+        MockHttpServletResponse rejected = this.doFilter(filter, "a");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("{\"respCode\":102,\"data\":null,\"rows\":null,\"msg\":null,\"total\":null,\"nextCursor\":null,\"errors\":null}",
+                rejected.getContentAsString());
+        assertEquals(200, this.doFilter(filter, "b").getStatus());
+        assertEquals(1, filter.getRateLimitedCount());
+        assertEquals(0, filter.getInFlight());
+    }
+
+    @Test
+    void shedsWhenNoConcurrencyPermit() throws Exception {
+        ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(1, 0);
+        RateLimitFilter filter = new RateLimitFilter(new StripedTokenBuckets(1000, 1000, 1024),
+                concurrencyLimiter, null, new ObjectMapper());
+        concurrencyLimiter.tryAcquire();
+        MockHttpServletResponse rejected = this.doFilter(filter, "a");
+        assertEquals(503, rejected.getStatus());
+        assertEquals(201, new ObjectMapper().readTree(rejected.getContentAsByteArray()).get("respCode").asInt());
+        assertEquals(1, filter.getOverloadedCount());
+        concurrencyLimiter.release();
+        assertEquals(200, this.doFilter(filter, "a").getStatus());
+    }
+
+    @Test
+    void holdsPermitUntilAsyncComplete() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(new StripedTokenBuckets(1000, 1000, 1024),
+                new ConcurrencyLimiter(1, 0), null, new ObjectMapper());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/list");
+        request.setAsyncSupported(true);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, resp) -> req.startAsync());
+        assertEquals(1, filter.getInFlight());
+        assertEquals(503, this.doFilter(filter, "a").getStatus());
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, filter.getInFlight());
+        assertEquals(200, this.doFilter(filter, "a").getStatus());
+    }
+
+    private MockHttpServletResponse doFilter(RateLimitFilter filter, String clientId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/user/add");
+        request.addHeader("X-Client-Id", clientId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,143 @@
+package com.luo.demo.validation.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luo.demo.validation.cache.BoundedCache;
+import com.luo.demo.validation.enums.ValidationMsgModeEnum;
+import com.luo.demo.validation.rule.ConstraintRules;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = {
+        "spring.validation.cache.enable=true",
+        "spring.validation.cache.max-body-size=1KB"
+})
+@AutoConfigureMockMvc
+class ValidationCacheAdviceMvcTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ValidationCacheAdvice validationCacheAdvice;
+
+    @Test
+    void validBodyMissesThenHits() throws Exception {
+        BoundedCache<?, ?> cache = this.validationCacheAdvice.getCache();
+        byte[] body = this.body(userParam("Tom-hit"));
+        long misses = cache.getMissCount();
+        long hits = cache.getHitCount();
+
+        assertEquals(100, this.postUser("/user/add", body).get("respCode").asInt());
+        assertEquals(misses + 1, cache.getMissCount());
+        assertEquals(100, this.postUser("/user/add", body).get("respCode").asInt());
+        assertEquals(hits + 1, cache.getHitCount());
+        assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    void cachedInvalidBodyShortCircuits() throws Exception {
+        BoundedCache<?, ?> cache = this.validationCacheAdvice.getCache();
+        Map<String, Object> userParam = userParam("Tom-invalid");
+        userParam.put("phone", "1888888888a");
+        byte[] body = this.body(userParam);
+        long hits = cache.getHitCount();
+
+        JsonNode first = this.postUser("/user/add", body);
+        assertEquals(101, first.get("respCode").asInt());
+        assertEquals("phone: 电话号码格式不正确", first.get("msg").asText());
+        JsonNode cached = this.postUser("/user/add", body);
+        assertEquals(hits + 1, cache.getHitCount());
+        assertEquals(first, cached);
+    }
+
+    @Test
+    void keysAreGroupAware() throws Exception {
+        BoundedCache<?, ?> cache = this.validationCacheAdvice.getCache();
+        byte[] body = this.body(userParam("Tom-groups"));
+        int size = cache.size();
+
+        assertEquals(100, this.postUser("/user/add", body).get("respCode").asInt());
+        //无id：Default分组通过，Update分组不通过，不可命中/user/add缓存的验证通过结果
+        JsonNode update = this.postUser("/user/update", body);
+        assertEquals(101, update.get("respCode").asInt());
+        assertEquals("id", update.get("errors").get(0).get("field").asText());
+        assertEquals(size + 2, cache.size());
+    }
+
+    @Test
+    void keysIncludeRulesVersion() throws Exception {
+        BoundedCache<?, ?> cache = this.validationCacheAdvice.getCache();
+        byte[] body = this.body(userParam("Tom-rules"));
+
+        assertEquals(100, this.postUser("/user/add", body).get("respCode").asInt());
+        ConstraintRules.update(ConstraintRules.current());
+        long misses = cache.getMissCount();
+        assertEquals(100, this.postUser("/user/add", body).get("respCode").asInt());
+        assertEquals(misses + 1, cache.getMissCount());
+    }
+
+    @Test
+    void oversizedBodyBypassesCache() throws Exception {
+        BoundedCache<?, ?> cache = this.validationCacheAdvice.getCache();
+        String padding = String.join("", Collections.nCopies(1024, " "));
+        Map<String, Object> invalidUserParam = userParam("Tom-large");
+        invalidUserParam.put("phone", "1888888888a");
+        int size = cache.size();
+        long misses = cache.getMissCount();
+
+        byte[] validBody = (padding + this.objectMapper.writeValueAsString(userParam("Tom-large"))).getBytes(StandardCharsets.UTF_8);
+        byte[] invalidBody = (padding + this.objectMapper.writeValueAsString(invalidUserParam)).getBytes(StandardCharsets.UTF_8);
+        assertTrue(validBody.length > 1024);
+        assertEquals(100, this.postUser("/user/add", validBody).get("respCode").asInt());
+        JsonNode invalid = this.postUser("/user/add", invalidBody);
+        assertEquals(101, invalid.get("respCode").asInt());
+        assertEquals("phone: 电话号码格式不正确", invalid.get("msg").asText());
+        assertEquals(size, cache.size());
+        assertEquals(misses, cache.getMissCount());
+    }
+
+    private byte[] body(Map<String, Object> userParam) throws Exception {
+        return this.objectMapper.writeValueAsBytes(userParam);
+    }
+
+    private JsonNode postUser(String uri, byte[] body) throws Exception {
+        return this.objectMapper.readTree(this.mockMvc.perform(post(uri)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(ValidationMsgModeEnum.HEADER, ValidationMsgModeEnum.BOTH.name())
+                        .content(body))
+                .andReturn().getResponse().getContentAsByteArray());
+    }
+
+    private static Map<String, Object> userParam(String name) {
+        Map<String, Object> org = new LinkedHashMap<>();
+        org.put("orgId", 1);
+        org.put("orgName", "Org-1");
+        Map<String, Object> userParam = new LinkedHashMap<>();
+        userParam.put("name", name);
+        userParam.put("sex", 1);
+        userParam.put("phone", "18888888888");
+        userParam.put("mail", "tom@meixing.com");
+        userParam.put("idNo", "11010519491231002X");
+        userParam.put("birthDateStr", "2000-01-01");
+        userParam.put("birthLocalDate", "2000-01-01");
+        userParam.put("registerLocalDatetime", "2020-09-04 12:10:22");
+        userParam.put("orgs", Collections.singletonList(org));
+        return userParam;
+    }
+}
@@ -0,0 +1,86 @@
+package com.luo.demo.validation.web;
+
+import com.luo.demo.validation.domain.dto.OrgDto;
+import com.luo.demo.validation.domain.result.ViolationResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.FieldError;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ValidationMsgConverterTests {
+
+    private final ValidationMsgConverter validationMsgConverter = new ValidationMsgConverter(Boolean.TRUE);
+
+    @Test
+    void convertsFieldErrors() {
+        assertEquals("name: must not be blank, orgs[0].orgId: must be greater than 0, sex: null",
+                this.validationMsgConverter.convertFiledErrors(Arrays.asList(
+                        new FieldError("userParam", "name", "must not be blank"),
+                        new FieldError("userParam", "orgs[0].orgId", "must be greater than 0"),
+                        new FieldError("userParam", "sex", null))));
+        assertNull(this.validationMsgConverter.convertFiledErrors(Collections.emptyList()));
+        assertNull(new ValidationMsgConverter(Boolean.FALSE).convertFiledErrors(
+                Collections.singletonList(new FieldError("userParam", "name", "must not be blank"))));
+    }
+
+    @Test
+    void convertsConstraintViolationsWithLastPathNode() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        Set<ConstraintViolation<OrgDto>> constraintViolations = validator.validate(new OrgDto());
+        String expected = constraintViolations.stream()
+                .map(constraintViolation -> constraintViolation.getPropertyPath() + ": " + constraintViolation.getMessage())
+                .collect(Collectors.joining(", "));
+        assertEquals(expected, this.validationMsgConverter.convertConstraintViolations(constraintViolations));
+    }
+
+    @Test
+    void convertsToViolationResults() {
+        List<ViolationResult> violationResults = this.validationMsgConverter.toViolationResults(Arrays.asList(
+                new FieldError("userParam", "name", "  ", false, new String[]{"NotBlank.userParam.name", "NotBlank"}, null, "must not be blank"),
+                new FieldError("userParam", "orgs", new ArrayList<>(), false, new String[]{"NotEmpty"}, null, "must not be empty")));
+        assertEquals(2, violationResults.size());
+        assertEquals("name", violationResults.get(0).getField());
+        assertEquals("NotBlank", violationResults.get(0).getCode());
+        assertEquals("  ", violationResults.get(0).getRejectedValue());
+        assertEquals("size=0", violationResults.get(1).getRejectedValue());
+
+        OrgDto orgDto = new OrgDto();
+        orgDto.setOrgId(0L);
+        orgDto.setOrgName("Org-1");
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        ViolationResult violationResult = this.validationMsgConverter.toViolationResults(validator.validate(orgDto)).get(0);
+        assertEquals("orgId", violationResult.getField());
+        assertEquals("Positive", violationResult.getCode());
+        assertEquals("0", violationResult.getRejectedValue());
+    }
+
+    @Test
+    void masksSensitiveRejectedValues() {
+        List<ViolationResult> violationResults = this.validationMsgConverter.toViolationResults(Arrays.asList(
+                new FieldError("userParam", "phone", "1888888888a", false, new String[]{"PhoneNo"}, null, "电话号码格式不正确"),
+                new FieldError("userParam", "contacts[0].idNo", "110105", false, new String[]{"IdNo"}, null, "身份证号格式不正确"),
+                new FieldError("userParam", "name", "Tom", false, new String[]{"Length"}, null, "length must be between 4 and 32")));
+        assertEquals("188****888a", violationResults.get(0).getRejectedValue());
+        assertEquals("******", violationResults.get(1).getRejectedValue());
+        assertEquals("Tom", violationResults.get(2).getRejectedValue());
+
+        ValidationMsgConverter nameMaskedConverter = new ValidationMsgConverter(Boolean.TRUE);
+        nameMaskedConverter.setMaskedFields(new String[]{"name"});
+        violationResults = nameMaskedConverter.toViolationResults(Arrays.asList(
+                new FieldError("userParam", "phone", "1888888888a", false, new String[]{"PhoneNo"}, null, "电话号码格式不正确"),
+                new FieldError("userParam", "name", "Tom", false, new String[]{"Length"}, null, "length must be between 4 and 32")));
+        assertEquals("1888888888a", violationResults.get(0).getRejectedValue());
+        assertEquals("***", violationResults.get(1).getRejectedValue());
+    }
+}
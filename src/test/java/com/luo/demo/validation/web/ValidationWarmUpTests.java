@@ -0,0 +1,137 @@
+package com.luo.demo.validation.web;
+
+import com.luo.demo.validation.metrics.ValidationMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(OutputCaptureExtension.class)
+class ValidationWarmUpTests {
+
+    private static final List<Object> RECORDED_VALUES = new CopyOnWriteArrayList<>();
+
+    private final LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+    private final StaticApplicationContext applicationContext = new StaticApplicationContext();
+
+    @BeforeEach
+    void setUp() {
+        RECORDED_VALUES.clear();
+        this.validator.afterPropertiesSet();
+        this.applicationContext.registerSingleton("warmUpController", WarmUpController.class);
+        this.applicationContext.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.applicationContext.close();
+        this.validator.destroy();
+    }
+
+    @Test
+    void warmUpReachesConstraintValidatorsWithSampleValues() {
+        this.newWarmUp().afterSingletonsInstantiated();
+        //空实例的null及代表性取值均已执行到约束验证器
+        assertTrue(RECORDED_VALUES.contains(null), RECORDED_VALUES.toString());
+        assertTrue(RECORDED_VALUES.stream().anyMatch(value -> value instanceof String && !((String) value).isEmpty()), RECORDED_VALUES.toString());
+    }
+
+    @Test
+    void warmUpSwallowsValidationFailures(CapturedOutput output) {
+        this.newWarmUp().afterSingletonsInstantiated();
+        assertTrue(output.getOut().contains("failed to validate sample " + FailingParam.class.getName() + ".value"), output.getOut());
+        assertTrue(output.getOut().contains("validation warm-up - 2 types of 1 controllers"), output.getOut());
+    }
+
+    private ValidationWarmUp newWarmUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("defaultValidator", this.validator);
+        return new ValidationWarmUp(this.applicationContext,
+                beanFactory.getBeanProvider(LocalValidatorFactoryBean.class),
+                beanFactory.getBeanProvider(ValidationMetrics.class));
+    }
+
+    @RestController
+    static class WarmUpController {
+
+        @PostMapping("/warm-up/recorded")
+        public void recorded(@Validated @RequestBody RecordedParam param) {
+        }
+
+        @PostMapping("/warm-up/failing")
+        public void failing(@Validated @RequestBody FailingParam param) {
+        }
+    }
+
+    public static class RecordedParam {
+        @Recorded
+        private String value;
+    }
+
+    public static class FailingParam {
+        @Failing
+        private String value;
+    }
+
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = RecordedValidator.class)
+    public @interface Recorded {
+        String message() default "recorded";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class RecordedValidator implements ConstraintValidator<Recorded, String> {
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            RECORDED_VALUES.add(value);
+            return value == null;
+        }
+    }
+
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = FailingValidator.class)
+    public @interface Failing {
+        String message() default "failing";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class FailingValidator implements ConstraintValidator<Failing, String> {
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            if (value != null) {
+                throw new IllegalStateException("sample rejected");
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.luo.demo.validation.reactive;
+
+import com.luo.demo.validation.audit.AuditLog;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.enums.ValidationMsgModeEnum;
+import com.luo.demo.validation.metrics.ValidationMetrics;
+import com.luo.demo.validation.web.ValidationMsgConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Mono;
+
+import javax.validation.ConstraintViolationException;
+
+/**
+ * WebFlux controller增强 - 通用异常处理（与ControllerAdviceHandler输出相同的CommonResult）
+ * <p>
+ * 同ControllerAdviceHandler，记录到审计日志的commonResult不可再修改
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveControllerAdviceHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveControllerAdviceHandler.class);
+
+    private final ValidationMsgConverter validationMsgConverter;
+
+    /**
+     * 违反约束次数统计，未启用指标（spring.validation.metrics.enable=false）时为null
+     */
+    private final ValidationMetrics validationMetrics;
+
+    /**
+     * 请求审计日志（记录响应结果）
+     */
+    private final AuditLog auditLog;
+
+    public ReactiveControllerAdviceHandler(ValidationMsgConverter validationMsgConverter, ObjectProvider<ValidationMetrics> validationMetricsProvider, AuditLog auditLog) {
+        this.validationMsgConverter = validationMsgConverter;
+        this.validationMetrics = validationMetricsProvider.getIfAvailable();
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * 验证异常处理 - @RequestBody Mono参数及form参数上添加@Validated处触发
+     *
+     * @param request
+     * @param ex
+     * @return
+     */
+    @ExceptionHandler({WebExchangeBindException.class})
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<CommonResult> handleWebExchangeBindException(ServerHttpRequest request, WebExchangeBindException ex) {
+        log.warn("{} - WebExchangeBindException!", request.getPath());
+        if (this.validationMetrics != null) {
+            this.validationMetrics.countFieldErrors(ex.getFieldErrors());
+        }
+        CommonResult commonResult = this.validationMsgConverter.respWithParamInvalid(request.getHeaders().getFirst(ValidationMsgModeEnum.HEADER),
+                () -> this.validationMsgConverter.convertFiledErrors(ex.getFieldErrors()),
+                () -> this.validationMsgConverter.toViolationResults(ex.getFieldErrors()));
+        this.auditLog.record("resp with param invalid", request.getPath().value(), commonResult);
+        return Mono.just(commonResult);
+    }
+
+    /**
+     * 验证异常处理 - @Validated加在controller类上，
+     * 且在参数列表中直接指定constraints时触发
+     *
+     * @param request
+     * @param ex
+     * @return
+     */
+    @ExceptionHandler({ConstraintViolationException.class})
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<CommonResult> handleConstraintViolationException(ServerHttpRequest request, ConstraintViolationException ex) {
+        log.warn("{} - ConstraintViolationException - {}", request.getPath(), ex.getMessage());
+        if (this.validationMetrics != null) {
+            this.validationMetrics.countConstraintViolations(ex.getConstraintViolations());
+        }
+        CommonResult commonResult = this.validationMsgConverter.respWithParamInvalid(request.getHeaders().getFirst(ValidationMsgModeEnum.HEADER),
+                () -> this.validationMsgConverter.convertConstraintViolations(ex.getConstraintViolations()),
+                () -> this.validationMsgConverter.toViolationResults(ex.getConstraintViolations()));
+        this.auditLog.record("resp with param invalid", request.getPath().value(), commonResult);
+        return Mono.just(commonResult);
+    }
+
+    /**
+     * 全局默认异常处理
+     *
+     * @param request
+     * @param ex
+     * @return
+     */
+    @ExceptionHandler({Throwable.class})
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<CommonResult> handleException(ServerHttpRequest request, Throwable ex) {
+        log.warn("{} - Exception!", request.getPath(), ex);
+        CommonResult commonResult = CommonResult.failed();
+        this.auditLog.record("resp failed", request.getPath().value(), commonResult);
+        return Mono.just(commonResult);
+    }
+}
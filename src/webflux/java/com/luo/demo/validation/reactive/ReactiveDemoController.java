@@ -0,0 +1,148 @@
+package com.luo.demo.validation.reactive;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.luo.demo.validation.audit.AuditLog;
+import com.luo.demo.validation.domain.groups.Groups;
+import com.luo.demo.validation.domain.param.UserParam;
+import com.luo.demo.validation.domain.result.BatchRowResult;
+import com.luo.demo.validation.domain.result.CommonResult;
+import com.luo.demo.validation.domain.result.UserResult;
+import com.luo.demo.validation.service.UserBatchImporter;
+import com.luo.demo.validation.service.UserQueryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+
+/**
+ * 示例 - WebFlux controller（与DemoController相同的/user/*接口）
+ * <p>
+ * 请求体验证在解码后的Mono/Flux中执行（不阻塞），验证不通过以WebExchangeBindException结束，
+ * 由ReactiveControllerAdviceHandler转换为与MVC相同的CommonResult；
+ * 审计日志记录的对象同DemoController（请求参数及缓存的用户详情）在记录后不再修改；
+ * 无请求线程上下文，如需快速失败可通过@Validated验证提示FailFast.class指定（如@Validated({FailFast.class, Default.class})）
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Validated
+public class ReactiveDemoController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveDemoController.class);
+
+    private final UserQueryService userQueryService;
+    private final UserBatchImporter userBatchImporter;
+    private final AuditLog auditLog;
+
+    public ReactiveDemoController(UserQueryService userQueryService, UserBatchImporter userBatchImporter, AuditLog auditLog) {
+        this.userQueryService = userQueryService;
+        this.userBatchImporter = userBatchImporter;
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * 用户详情 - 在boundedElastic线程上查询（读穿透缓存未命中时会等待同一ID正在进行的加载，不可阻塞事件循环线程）
+     *
+     * @param id 用户ID
+     * @return 用户详情
+     */
+    @GetMapping("/user/detail")
+    public Mono<CommonResult<UserResult>> getUser(@NotNull @Min(1) Long id) {
+        log.info("get user, param: id={}", id);
+        return Mono.fromCallable(() -> this.userQueryService.getUserDetail(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(result -> this.auditLog.record("get user", result.getData()));
+    }
+
+    /**
+     * 用户列表 - 游标分页，响应中的nextCursor作为下一页的cursor参数（无下一页时不返回）
+     *
+     * @param cursor 游标（上一页最后一个用户ID，首页为0）
+     * @param size   每页用户数
+     * @return 用户列表（rows为本页用户，total为用户总数）
+     */
+    @GetMapping("/user/list")
+    public Mono<CommonResult<UserResult>> listUsers(@RequestParam(defaultValue = "0") @Min(0) Long cursor,
+                                                    @RequestParam(defaultValue = "20") @Min(1) @Max(1000) Integer size) {
+        log.info("list user, param: cursor={}, size={}", cursor, size);
+        return Mono.fromSupplier(() -> this.userQueryService.listUsers(cursor, size));
+    }
+
+    /**
+     * 用户列表导出 - 流式写出（stream=true）NDJSON，每行一个用户，按下游请求量逐个查询
+     * （Jackson2JsonEncoder对application/json的Flux会先收集为List再编码，故流式导出使用NDJSON）
+     *
+     * @param cursor 游标（导出ID大于cursor的用户）
+     * @param limit  最多导出的用户数，未指定则导出至末尾
+     * @return 用户流
+     */
+    @GetMapping(value = "/user/list", params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserResult> exportUsers(@RequestParam(defaultValue = "0") @Min(0) Long cursor,
+                                        @Min(1) Long limit) {
+        log.info("export user, param: cursor={}, limit={}", cursor, limit);
+        long maxRows = null == limit ? Long.MAX_VALUE : limit;
+        return Flux.fromStream(() -> this.userQueryService.streamUsers(cursor, maxRows));
+    }
+
+    @PostMapping("/user/add")
+    public Mono<CommonResult<UserResult>> addUser(@Validated @RequestBody Mono<UserParam> userParam) {
+        return userParam.map(userParamInner -> {
+            this.auditLog.record("add user", userParamInner);
+            return CommonResult.success();
+        });
+    }
+
+    @PostMapping("/user/addForm")
+    public Mono<CommonResult<UserResult>> addUserForm(@Validated UserParam userParam) {
+        this.auditLog.record("add user form", userParam);
+        return Mono.just(CommonResult.success());
+    }
+
+    @PostMapping("/user/update")
+    public Mono<CommonResult<UserResult>> updateUser(@Validated({Groups.Update.class, Default.class}) @RequestBody Mono<UserParam> userParam) {
+        return userParam.map(userParamInner -> {
+            this.auditLog.record("update user", userParamInner);
+            this.userQueryService.evictUserDetail(userParamInner.getId());
+            return CommonResult.success();
+        });
+    }
+
+    /**
+     * 批量添加用户 - 请求体为JSON数组或NDJSON，逐个元素切分后再绑定并验证
+     * （单行绑定失败仅记录该行，与MVC接口的结果一致）
+     *
+     * @param userParamTokens
+     * @return 错误行列表（index为行索引）及总行数
+     */
+    @PostMapping(value = "/user/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<CommonResult<BatchRowResult>> batchAddUser(@RequestBody Flux<TokenBuffer> userParamTokens) {
+        log.info("batch add user");
+        UserBatchImporter.BatchReport report = this.userBatchImporter.newReport();
+        return userParamTokens
+                .doOnNext(userParamTokenBuffer -> this.userBatchImporter.importUser(report, userParamTokenBuffer,
+                        userParamInner -> log.debug("batch add user, json param: {}", userParamInner)))
+                .then(Mono.fromSupplier(report::toResult))
+                //JSON结构错误，无法继续解析
+                .onErrorResume(ServerWebInputException.class, ex -> {
+                    log.warn("user batch - malformed json at row {}: {}", report.getTotal(), ex.getReason());
+                    return Mono.just(report.toMalformedResult());
+                });
+    }
+}
@@ -0,0 +1,25 @@
+package com.luo.demo.validation.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * WebFlux服务器配置
+ * <p>
+ * spring-boot-starter-web仍在classpath中，自动配置会优先选择Tomcat（Servlet 3.1非阻塞IO适配），
+ * 此处显式使用Reactor Netty，使WebFlux变体运行在事件循环上，便于与MVC（线程池）对比。
+ *
+ * @author luohq
+ * @date 2026-10-18
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
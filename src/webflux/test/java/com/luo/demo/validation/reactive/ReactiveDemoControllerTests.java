@@ -0,0 +1,111 @@
+package com.luo.demo.validation.reactive;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactiveDemoControllerTests {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void invalidBodyRespWithParamInvalid() {
+        this.webTestClient.post().uri("/user/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Tom\",\"sex\":1,\"phone\":\"1888888888a\",\"mail\":\"tom@meixing.com\",\"idNo\":\"11010519491231002X\","
+                        + "\"birthDateStr\":\"2000-01-01\",\"birthLocalDate\":\"2000-01-01\",\"registerLocalDatetime\":\"2020-09-04 12:10:22\","
+                        + "\"orgs\":[{\"orgId\":1,\"orgName\":\"Org-1\"}]}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.respCode").isEqualTo(101)
+                .jsonPath("$.msg").isEqualTo("phone: 电话号码格式不正确");
+    }
+
+    @Test
+    void smileBodyRespWithSmile() throws Exception {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        Map<String, Object> userParam = new LinkedHashMap<>();
+        userParam.put("name", "");
+        byte[] respBody = this.webTestClient.post().uri("/user/add")
+                .contentType(SMILE)
+                .accept(SMILE)
+                .bodyValue(smileMapper.writeValueAsBytes(userParam))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(SMILE)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+        JsonNode result = smileMapper.readTree(respBody);
+        assertEquals(101, result.get("respCode").asInt());
+    }
+
+    @Test
+    void invalidQueryParamRespWithParamInvalid() {
+        this.webTestClient.get().uri("/user/detail?id=0")
+                .exchange()
+                .expectBody()
+                .jsonPath("$.respCode").isEqualTo(101)
+                .jsonPath("$.msg").isEqualTo("id: must be greater than or equal to 1");
+    }
+
+    @Test
+    void detailIsQueriedOffEventLoop() {
+        this.webTestClient.get().uri("/user/detail?id=3")
+                .exchange()
+                .expectBody()
+                .jsonPath("$.respCode").isEqualTo(100)
+                .jsonPath("$.data.id").isEqualTo(3);
+    }
+
+    @Test
+    void listPagesByCursor() {
+        this.webTestClient.get().uri("/user/list?cursor=10&size=2")
+                .exchange()
+                .expectBody()
+                .jsonPath("$.rows.length()").isEqualTo(2)
+                .jsonPath("$.rows[0].id").isEqualTo(11)
+                .jsonPath("$.nextCursor").isEqualTo(12);
+    }
+
+    @Test
+    void listStreamsNdjson() {
+        String body = this.webTestClient.get().uri("/user/list?stream=true&cursor=10&limit=3")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+        assertEquals(3, body.split("\n").length);
+    }
+
+    @Test
+    void batchReportsUnreadableRows() {
+        this.webTestClient.post().uri("/user/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .bodyValue("{\"name\":\"\"}\n{\"name\":1,\"sex\":\"x\"}\n")
+                .exchange()
+                .expectBody()
+                .jsonPath("$.respCode").isEqualTo(101)
+                .jsonPath("$.total").isEqualTo(2)
+                .jsonPath("$.rows[1].index").isEqualTo(1)
+                .jsonPath("$.rows[1].msg").isEqualTo("数据格式不正确");
+    }
+}